@@ -1,1165 +0,0 @@
-// Generated by JFlex 1.9.2 http://jflex.de/  (tweaked for IntelliJ platform)
-// source: src/main/grammars/Drools.flex
-
-package com.plugin.drool.lexer;
-
-import com.intellij.lexer.FlexLexer;
-import com.intellij.psi.tree.IElementType;
-import com.intellij.psi.TokenType;
-import com.plugin.drool.psi.DroolsTypes;
-
-
-public class _DroolsLexer implements FlexLexer {
-
-  /** This character denotes the end of file */
-  public static final int YYEOF = -1;
-
-  /** initial size of the lookahead buffer */
-  private static final int ZZ_BUFFERSIZE = 16384;
-
-  /** lexical states */
-  public static final int YYINITIAL = 0;
-  public static final int BLOCK_COMMENT = 2;
-
-  /**
-   * ZZ_LEXSTATE[l] is the state in the DFA for the lexical state l
-   * ZZ_LEXSTATE[l+1] is the state in the DFA for the lexical state l
-   *                  at the beginning of a line
-   * l is of the form l = 2*k, k a non negative integer
-   */
-  private static final int ZZ_LEXSTATE[] = {
-     0,  0,  1, 1
-  };
-
-  /**
-   * Top-level table for translating characters to character classes
-   */
-  private static final int [] ZZ_CMAP_TOP = zzUnpackcmap_top();
-
-  private static final String ZZ_CMAP_TOP_PACKED_0 =
-    "\1\0\37\u0100\1\u0200\267\u0100\10\u0300\u1020\u0100";
-
-  private static int [] zzUnpackcmap_top() {
-    int [] result = new int[4352];
-    int offset = 0;
-    offset = zzUnpackcmap_top(ZZ_CMAP_TOP_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackcmap_top(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
-  /**
-   * Second-level tables for translating characters to character classes
-   */
-  private static final int [] ZZ_CMAP_BLOCKS = zzUnpackcmap_blocks();
-
-  private static final String ZZ_CMAP_BLOCKS_PACKED_0 =
-    "\11\0\1\1\1\2\1\3\1\4\1\2\22\0\1\1"+
-    "\1\5\1\6\1\7\1\10\1\7\1\11\1\0\1\12"+
-    "\1\13\1\14\1\5\1\15\1\16\1\17\1\20\12\21"+
-    "\1\22\1\23\1\5\1\24\1\25\2\7\13\26\1\27"+
-    "\2\26\1\30\13\26\1\31\1\32\1\33\1\7\1\26"+
-    "\1\0\1\34\1\35\1\36\1\37\1\40\1\41\1\42"+
-    "\1\43\1\44\1\26\1\45\1\46\1\47\1\50\1\51"+
-    "\1\52\1\53\1\54\1\55\1\56\1\57\1\60\1\61"+
-    "\1\62\1\63\1\26\1\64\1\65\1\66\1\7\6\0"+
-    "\1\3\u01a2\0\2\3\326\0\u0100\3";
-
-  private static int [] zzUnpackcmap_blocks() {
-    int [] result = new int[1024];
-    int offset = 0;
-    offset = zzUnpackcmap_blocks(ZZ_CMAP_BLOCKS_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackcmap_blocks(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-  /**
-   * Translates DFA states to action switch labels.
-   */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
-
-  private static final String ZZ_ACTION_PACKED_0 =
-    "\2\0\1\1\1\2\1\3\1\4\1\3\1\5\1\3"+
-    "\1\6\1\7\1\10\1\3\1\11\1\3\1\12\1\13"+
-    "\1\14\1\15\1\16\1\17\22\15\1\20\1\3\1\21"+
-    "\2\22\1\4\1\0\1\23\1\22\1\0\22\15\1\24"+
-    "\1\15\1\25\7\15\1\26\14\15\1\27\1\12\2\15"+
-    "\1\30\12\15\1\31\16\15\1\32\1\0\1\33\7\15"+
-    "\1\34\20\15\1\35\1\15\1\36\4\15\1\37\10\15"+
-    "\1\0\1\40\4\15\1\41\2\15\1\42\1\43\1\15"+
-    "\1\44\1\15\1\45\2\15\1\0\2\15\1\0\7\15"+
-    "\1\46\5\15\1\0\3\15\1\0\1\15\1\47\5\15"+
-    "\1\50\3\15\1\0\2\15\1\0\1\15\1\51\3\15"+
-    "\1\52\1\15\1\53\1\15\1\54\1\55\1\56\1\0"+
-    "\2\15\1\57\1\0\2\15\1\60\3\15\1\61\1\15"+
-    "\2\0\1\62\1\15\2\0\1\63\1\64\1\15\1\65"+
-    "\1\66\2\15\1\0\1\67\1\15\1\70\1\71\1\72"+
-    "\4\15\2\0\1\73\2\0\1\74\1\75\1\15\1\0"+
-    "\1\76\1\15\1\77\2\15\4\0\1\15\2\0\1\15"+
-    "\1\100\1\0\1\101\2\0\1\15\2\0\1\102\3\0"+
-    "\1\15\2\0\1\103\1\0\1\104\1\15\3\0\1\105"+
-    "\2\0\1\106\1\107\1\110";
-
-  private static int [] zzUnpackAction() {
-    int [] result = new int[315];
-    int offset = 0;
-    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAction(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
-  /**
-   * Translates a state to a row index in the transition table
-   */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
-
-  private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\67\0\156\0\245\0\334\0\u0113\0\156\0\156"+
-    "\0\u014a\0\156\0\156\0\156\0\u0181\0\156\0\u01b8\0\u01ef"+
-    "\0\156\0\156\0\u0226\0\156\0\156\0\u025d\0\u0294\0\u02cb"+
-    "\0\u0302\0\u0339\0\u0370\0\u03a7\0\u03de\0\u0415\0\u044c\0\u0483"+
-    "\0\u04ba\0\u04f1\0\u0528\0\u055f\0\u0596\0\u05cd\0\u0604\0\156"+
-    "\0\u063b\0\156\0\u0672\0\u06a9\0\156\0\u06e0\0\156\0\u0717"+
-    "\0\u074e\0\u0785\0\u07bc\0\u07f3\0\u082a\0\u0861\0\u0898\0\u08cf"+
-    "\0\u0906\0\u093d\0\u0974\0\u09ab\0\u09e2\0\u0a19\0\u0a50\0\u0a87"+
-    "\0\u0abe\0\u0af5\0\u0b2c\0\u0226\0\u0b63\0\u0b9a\0\u0bd1\0\u0c08"+
-    "\0\u0c3f\0\u0c76\0\u0cad\0\u0ce4\0\u0d1b\0\u0226\0\u0d52\0\u0d89"+
-    "\0\u0dc0\0\u0df7\0\u0e2e\0\u0e65\0\u0e9c\0\u0ed3\0\u0f0a\0\u0f41"+
-    "\0\u0f78\0\u0faf\0\156\0\u074e\0\u0fe6\0\u101d\0\u0226\0\u1054"+
-    "\0\u108b\0\u10c2\0\u10f9\0\u1130\0\u1167\0\u119e\0\u11d5\0\u120c"+
-    "\0\u1243\0\u0226\0\u127a\0\u12b1\0\u12e8\0\u131f\0\u1356\0\u138d"+
-    "\0\u13c4\0\u13fb\0\u1432\0\u1469\0\u14a0\0\u14d7\0\u150e\0\u1545"+
-    "\0\u0226\0\u157c\0\u0226\0\u15b3\0\u15ea\0\u1621\0\u1658\0\u168f"+
-    "\0\u16c6\0\u16fd\0\u0226\0\u1734\0\u176b\0\u17a2\0\u17d9\0\u1810"+
-    "\0\u1847\0\u187e\0\u18b5\0\u18ec\0\u1923\0\u195a\0\u1991\0\u19c8"+
-    "\0\u19ff\0\u1a36\0\u1a6d\0\u0226\0\u1aa4\0\u0226\0\u1adb\0\u1b12"+
-    "\0\u1b49\0\u1b80\0\u0226\0\u1bb7\0\u1bee\0\u1c25\0\u1c5c\0\u1c93"+
-    "\0\u1cca\0\u1d01\0\u1d38\0\u1d6f\0\u0226\0\u1da6\0\u1ddd\0\u1e14"+
-    "\0\u1e4b\0\u1e82\0\u1eb9\0\u1ef0\0\u0226\0\u0226\0\u1f27\0\u0226"+
-    "\0\u1f5e\0\u0226\0\u1f95\0\u1fcc\0\u2003\0\u203a\0\u2071\0\u20a8"+
-    "\0\u20df\0\u2116\0\u214d\0\u2184\0\u21bb\0\u21f2\0\u2229\0\u0226"+
-    "\0\u2260\0\u2297\0\u22ce\0\u2305\0\u233c\0\u2373\0\u23aa\0\u23e1"+
-    "\0\u2418\0\u244f\0\u2486\0\u0226\0\u24bd\0\u24f4\0\u252b\0\u2562"+
-    "\0\u2599\0\u0226\0\u25d0\0\u2607\0\u263e\0\u2675\0\u26ac\0\u26e3"+
-    "\0\u271a\0\u2751\0\u0226\0\u2788\0\u27bf\0\u27f6\0\u0226\0\u282d"+
-    "\0\u0226\0\u2864\0\u0226\0\u0226\0\u289b\0\u28d2\0\u2909\0\u2940"+
-    "\0\u0226\0\u2977\0\u29ae\0\u29e5\0\u0226\0\u2a1c\0\u2a53\0\u2a8a"+
-    "\0\u0226\0\u2ac1\0\u2af8\0\u2b2f\0\u0226\0\u2b66\0\u2b9d\0\u2bd4"+
-    "\0\u0226\0\u0226\0\u2c0b\0\u0226\0\u0226\0\u2c42\0\u2c79\0\u2cb0"+
-    "\0\u0226\0\u2ce7\0\156\0\u0226\0\u0226\0\u2d1e\0\u2d55\0\u2d8c"+
-    "\0\u2dc3\0\u2dfa\0\u2e31\0\u0226\0\u2e68\0\u2e9f\0\u0226\0\u0226"+
-    "\0\u2ed6\0\u2f0d\0\u0226\0\u2f44\0\u0226\0\u2f7b\0\u2fb2\0\u2fe9"+
-    "\0\u3020\0\u3057\0\u308e\0\u30c5\0\u30fc\0\u3133\0\u316a\0\u0226"+
-    "\0\u31a1\0\156\0\u31d8\0\u320f\0\u3246\0\u327d\0\u32b4\0\u0226"+
-    "\0\u32eb\0\u3322\0\u3359\0\u3390\0\u33c7\0\u33fe\0\156\0\u3435"+
-    "\0\156\0\u346c\0\u34a3\0\u34da\0\u3511\0\u0226\0\u3548\0\u357f"+
-    "\0\156\0\156\0\156";
-
-  private static int [] zzUnpackRowMap() {
-    int [] result = new int[315];
-    int offset = 0;
-    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
-    int i = 0;  /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length() - 1;
-    while (i < l) {
-      int high = packed.charAt(i++) << 16;
-      result[j++] = high | packed.charAt(i++);
-    }
-    return j;
-  }
-
-  /**
-   * The transition table of the DFA
-   */
-  private static final int [] ZZ_TRANS = zzUnpacktrans();
-
-  private static final String ZZ_TRANS_PACKED_0 =
-    "\1\3\2\4\1\3\1\4\1\5\1\6\1\7\1\10"+
-    "\1\11\1\12\1\13\1\5\1\14\1\15\1\16\1\17"+
-    "\1\20\1\21\1\22\2\5\3\23\1\24\1\3\1\25"+
-    "\1\26\1\23\1\27\1\30\1\31\1\32\1\33\1\23"+
-    "\1\34\1\23\1\35\1\36\1\37\1\40\1\41\1\42"+
-    "\1\43\1\44\1\45\1\46\1\23\1\47\2\23\1\50"+
-    "\1\51\1\52\14\53\1\54\52\53\70\0\2\4\1\0"+
-    "\1\4\106\0\1\7\42\0\2\6\1\0\3\6\1\55"+
-    "\23\6\1\56\34\6\11\0\1\7\101\0\2\7\55\0"+
-    "\1\57\3\0\1\60\3\0\1\7\61\0\1\61\1\0"+
-    "\1\20\66\0\1\23\4\0\3\23\3\0\30\23\24\0"+
-    "\1\23\4\0\3\23\3\0\2\23\1\62\3\23\1\63"+
-    "\5\23\1\64\6\23\1\65\4\23\24\0\1\23\4\0"+
-    "\3\23\3\0\15\23\1\66\12\23\24\0\1\23\4\0"+
-    "\3\23\3\0\1\67\3\23\1\70\3\23\1\71\12\23"+
-    "\1\72\4\23\24\0\1\23\4\0\3\23\3\0\12\23"+
-    "\1\73\1\23\1\74\7\23\1\75\1\23\1\76\1\23"+
-    "\24\0\1\23\4\0\3\23\3\0\1\77\14\23\1\100"+
-    "\2\23\1\101\2\23\1\102\4\23\24\0\1\23\4\0"+
-    "\3\23\3\0\12\23\1\103\15\23\24\0\1\23\4\0"+
-    "\3\23\3\0\5\23\1\104\5\23\1\105\1\106\13\23"+
-    "\24\0\1\23\4\0\3\23\3\0\15\23\1\107\12\23"+
-    "\24\0\1\23\4\0\3\23\3\0\1\110\3\23\1\111"+
-    "\10\23\1\112\12\23\24\0\1\23\4\0\3\23\3\0"+
-    "\4\23\1\113\10\23\1\114\5\23\1\115\4\23\24\0"+
-    "\1\23\4\0\3\23\3\0\20\23\1\116\7\23\24\0"+
-    "\1\23\4\0\3\23\3\0\1\117\27\23\24\0\1\23"+
-    "\4\0\3\23\3\0\23\23\1\120\4\23\24\0\1\23"+
-    "\4\0\3\23\3\0\4\23\1\121\16\23\1\122\4\23"+
-    "\24\0\1\23\4\0\3\23\3\0\1\123\14\23\1\124"+
-    "\4\23\1\125\5\23\24\0\1\23\4\0\3\23\3\0"+
-    "\7\23\1\126\1\127\7\23\1\130\7\23\24\0\1\23"+
-    "\4\0\3\23\3\0\16\23\1\131\11\23\24\0\1\23"+
-    "\4\0\3\23\3\0\7\23\1\132\20\23\70\0\1\7"+
-    "\1\0\14\53\1\0\52\53\20\0\1\133\46\0\2\6"+
-    "\3\0\62\6\2\60\1\0\64\60\21\0\1\134\66\0"+
-    "\1\23\4\0\3\23\3\0\2\23\1\135\25\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\136\23\23\24\0"+
-    "\1\23\4\0\3\23\3\0\3\23\1\137\24\23\24\0"+
-    "\1\23\4\0\3\23\3\0\22\23\1\140\5\23\24\0"+
-    "\1\23\4\0\3\23\3\0\12\23\1\141\1\23\1\142"+
-    "\13\23\24\0\1\23\4\0\3\23\3\0\22\23\1\143"+
-    "\5\23\24\0\1\23\4\0\3\23\3\0\2\23\1\144"+
-    "\7\23\1\145\15\23\24\0\1\23\4\0\3\23\3\0"+
-    "\1\146\27\23\24\0\1\23\4\0\3\23\3\0\20\23"+
-    "\1\147\7\23\24\0\1\23\4\0\3\23\3\0\21\23"+
-    "\1\150\6\23\24\0\1\23\4\0\3\23\3\0\1\151"+
-    "\2\23\1\152\24\23\24\0\1\23\4\0\3\23\3\0"+
-    "\1\153\27\23\24\0\1\23\4\0\3\23\3\0\10\23"+
-    "\1\154\11\23\1\155\5\23\24\0\1\23\4\0\3\23"+
-    "\3\0\12\23\1\156\15\23\24\0\1\23\4\0\3\23"+
-    "\3\0\20\23\1\157\7\23\24\0\1\23\4\0\3\23"+
-    "\3\0\15\23\1\160\12\23\24\0\1\23\4\0\3\23"+
-    "\3\0\14\23\1\161\13\23\24\0\1\23\4\0\3\23"+
-    "\3\0\15\23\1\162\12\23\24\0\1\23\4\0\3\23"+
-    "\3\0\16\23\1\163\11\23\24\0\1\23\4\0\3\23"+
-    "\3\0\21\23\1\164\6\23\24\0\1\23\4\0\3\23"+
-    "\3\0\2\23\1\165\25\23\24\0\1\23\4\0\3\23"+
-    "\3\0\22\23\1\166\5\23\24\0\1\23\4\0\3\23"+
-    "\3\0\13\23\1\167\14\23\24\0\1\23\4\0\3\23"+
-    "\3\0\3\23\1\170\24\23\24\0\1\23\4\0\3\23"+
-    "\3\0\25\23\1\171\2\23\21\0\1\172\2\0\1\23"+
-    "\4\0\3\23\3\0\22\23\1\173\5\23\24\0\1\23"+
-    "\4\0\3\23\3\0\12\23\1\174\15\23\24\0\1\23"+
-    "\4\0\3\23\3\0\2\23\1\175\25\23\24\0\1\23"+
-    "\4\0\3\23\3\0\4\23\1\176\23\23\24\0\1\23"+
-    "\4\0\3\23\3\0\22\23\1\177\5\23\24\0\1\23"+
-    "\4\0\3\23\3\0\12\23\1\200\15\23\24\0\1\23"+
-    "\4\0\3\23\3\0\12\23\1\201\15\23\24\0\1\23"+
-    "\4\0\3\23\3\0\23\23\1\202\4\23\24\0\1\23"+
-    "\4\0\3\23\3\0\20\23\1\203\7\23\24\0\1\23"+
-    "\4\0\3\23\3\0\4\23\1\204\3\23\1\205\17\23"+
-    "\24\0\1\23\4\0\3\23\3\0\13\23\1\206\14\23"+
-    "\24\0\1\23\4\0\3\23\3\0\23\23\1\207\4\23"+
-    "\24\0\1\23\4\0\3\23\3\0\3\23\1\210\24\23"+
-    "\24\0\1\23\4\0\3\23\3\0\4\23\1\211\23\23"+
-    "\24\0\1\23\4\0\3\23\3\0\23\23\1\212\4\23"+
-    "\24\0\1\23\4\0\3\23\3\0\14\23\1\213\13\23"+
-    "\24\0\1\23\4\0\3\23\3\0\15\23\1\214\12\23"+
-    "\24\0\1\23\4\0\3\23\3\0\12\23\1\215\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\22\23\1\216\5\23"+
-    "\24\0\1\23\4\0\3\23\3\0\4\23\1\217\23\23"+
-    "\24\0\1\23\4\0\3\23\3\0\12\23\1\220\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\4\23\1\221\23\23"+
-    "\24\0\1\23\4\0\3\23\3\0\12\23\1\222\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\1\223\27\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\224\23\23\24\0"+
-    "\1\23\4\0\3\23\3\0\1\23\1\225\26\23\24\0"+
-    "\1\23\4\0\3\23\3\0\12\23\1\226\15\23\24\0"+
-    "\1\23\4\0\3\23\3\0\21\23\1\227\6\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\230\23\23\24\0"+
-    "\1\23\4\0\3\23\3\0\21\23\1\231\6\23\24\0"+
-    "\1\23\4\0\3\23\3\0\1\232\27\23\24\0\1\23"+
-    "\4\0\3\23\3\0\13\23\1\233\14\23\24\0\1\23"+
-    "\4\0\3\23\3\0\2\23\1\234\25\23\24\0\1\23"+
-    "\4\0\3\23\3\0\1\23\1\235\26\23\24\0\1\23"+
-    "\4\0\3\23\3\0\15\23\1\236\12\23\24\0\1\23"+
-    "\4\0\3\23\3\0\4\23\1\237\23\23\24\0\1\23"+
-    "\4\0\3\23\3\0\11\23\1\240\16\23\24\0\1\23"+
-    "\4\0\3\23\3\0\2\23\1\241\25\23\24\0\1\23"+
-    "\4\0\3\23\3\0\1\23\1\242\26\23\24\0\1\23"+
-    "\4\0\3\23\3\0\10\23\1\243\17\23\51\0\1\244"+
-    "\41\0\1\23\4\0\3\23\3\0\12\23\1\245\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\11\23\1\246\16\23"+
-    "\24\0\1\23\4\0\3\23\3\0\20\23\1\247\7\23"+
-    "\24\0\1\23\4\0\3\23\3\0\20\23\1\250\2\23"+
-    "\1\251\4\23\24\0\1\23\4\0\3\23\3\0\4\23"+
-    "\1\252\23\23\24\0\1\23\4\0\3\23\3\0\10\23"+
-    "\1\253\17\23\24\0\1\23\4\0\3\23\3\0\14\23"+
-    "\1\254\13\23\24\0\1\23\4\0\3\23\3\0\14\23"+
-    "\1\255\13\23\24\0\1\23\4\0\3\23\3\0\21\23"+
-    "\1\256\6\23\24\0\1\23\4\0\3\23\3\0\4\23"+
-    "\1\257\23\23\24\0\1\23\4\0\3\23\3\0\4\23"+
-    "\1\260\23\23\24\0\1\23\4\0\3\23\3\0\1\261"+
-    "\27\23\24\0\1\23\4\0\3\23\3\0\14\23\1\262"+
-    "\13\23\24\0\1\23\4\0\3\23\3\0\13\23\1\263"+
-    "\14\23\24\0\1\23\4\0\3\23\3\0\3\23\1\264"+
-    "\24\23\21\0\1\265\2\0\1\23\4\0\3\23\3\0"+
-    "\30\23\24\0\1\23\4\0\3\23\3\0\4\23\1\266"+
-    "\23\23\24\0\1\23\4\0\3\23\3\0\1\267\27\23"+
-    "\21\0\1\270\2\0\1\23\4\0\3\23\3\0\30\23"+
-    "\24\0\1\23\4\0\3\23\3\0\1\271\27\23\24\0"+
-    "\1\23\4\0\3\23\3\0\22\23\1\272\5\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\273\23\23\24\0"+
-    "\1\23\4\0\3\23\3\0\22\23\1\274\5\23\24\0"+
-    "\1\23\4\0\3\23\3\0\12\23\1\275\15\23\24\0"+
-    "\1\23\4\0\3\23\3\0\22\23\1\276\5\23\24\0"+
-    "\1\23\4\0\3\23\3\0\14\23\1\277\13\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\300\23\23\24\0"+
-    "\1\23\4\0\3\23\3\0\12\23\1\301\15\23\24\0"+
-    "\1\23\4\0\3\23\3\0\22\23\1\302\5\23\24\0"+
-    "\1\23\4\0\3\23\3\0\1\303\27\23\24\0\1\23"+
-    "\4\0\3\23\3\0\20\23\1\304\7\23\24\0\1\23"+
-    "\4\0\3\23\3\0\20\23\1\305\7\23\21\0\1\306"+
-    "\2\0\1\23\4\0\3\23\3\0\30\23\24\0\1\23"+
-    "\4\0\3\23\3\0\7\23\1\307\20\23\24\0\1\23"+
-    "\4\0\3\23\3\0\4\23\1\310\23\23\24\0\1\23"+
-    "\4\0\3\23\3\0\5\23\1\311\22\23\54\0\1\312"+
-    "\36\0\1\23\4\0\3\23\3\0\1\313\27\23\24\0"+
-    "\1\23\4\0\3\23\3\0\27\23\1\314\24\0\1\23"+
-    "\4\0\3\23\3\0\1\315\27\23\24\0\1\23\4\0"+
-    "\3\23\3\0\20\23\1\316\7\23\24\0\1\23\4\0"+
-    "\3\23\3\0\5\23\1\317\22\23\24\0\1\23\4\0"+
-    "\3\23\3\0\4\23\1\320\23\23\24\0\1\23\4\0"+
-    "\3\23\3\0\3\23\1\321\24\23\24\0\1\23\4\0"+
-    "\3\23\3\0\20\23\1\322\7\23\24\0\1\23\4\0"+
-    "\3\23\3\0\22\23\1\323\5\23\24\0\1\23\4\0"+
-    "\3\23\3\0\23\23\1\324\4\23\24\0\1\23\4\0"+
-    "\3\23\3\0\1\325\27\23\44\0\1\326\46\0\1\23"+
-    "\4\0\3\23\3\0\2\23\1\327\25\23\24\0\1\23"+
-    "\4\0\3\23\3\0\10\23\1\330\17\23\43\0\1\331"+
-    "\47\0\1\23\4\0\3\23\3\0\20\23\1\332\7\23"+
-    "\24\0\1\23\4\0\3\23\3\0\4\23\1\333\23\23"+
-    "\24\0\1\23\4\0\3\23\3\0\2\23\1\334\25\23"+
-    "\24\0\1\23\4\0\3\23\3\0\10\23\1\335\17\23"+
-    "\24\0\1\23\4\0\3\23\3\0\4\23\1\336\23\23"+
-    "\24\0\1\23\4\0\3\23\3\0\21\23\1\337\6\23"+
-    "\24\0\1\23\4\0\3\23\3\0\3\23\1\340\24\23"+
-    "\24\0\1\23\4\0\3\23\3\0\12\23\1\341\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\10\23\1\342\17\23"+
-    "\24\0\1\23\4\0\3\23\3\0\12\23\1\343\15\23"+
-    "\24\0\1\23\4\0\3\23\3\0\22\23\1\344\5\23"+
-    "\24\0\1\23\4\0\3\23\3\0\22\23\1\345\5\23"+
-    "\54\0\1\346\36\0\1\23\4\0\3\23\3\0\4\23"+
-    "\1\347\23\23\24\0\1\23\4\0\3\23\3\0\20\23"+
-    "\1\350\7\23\24\0\1\23\4\0\3\23\3\0\27\23"+
-    "\1\351\54\0\1\352\36\0\1\23\4\0\3\23\3\0"+
-    "\6\23\1\353\21\23\24\0\1\23\4\0\3\23\3\0"+
-    "\2\23\1\354\25\23\24\0\1\23\4\0\3\23\3\0"+
-    "\14\23\1\355\13\23\24\0\1\23\4\0\3\23\3\0"+
-    "\12\23\1\356\15\23\24\0\1\23\4\0\3\23\3\0"+
-    "\14\23\1\357\13\23\24\0\1\23\4\0\3\23\3\0"+
-    "\21\23\1\360\6\23\24\0\1\23\4\0\3\23\3\0"+
-    "\4\23\1\361\23\23\24\0\1\23\4\0\3\23\3\0"+
-    "\12\23\1\362\15\23\21\0\1\363\2\0\1\23\4\0"+
-    "\3\23\3\0\30\23\54\0\1\364\36\0\1\23\4\0"+
-    "\3\23\3\0\22\23\1\365\5\23\24\0\1\23\4\0"+
-    "\3\23\3\0\14\23\1\366\13\23\44\0\1\367\20\0"+
-    "\1\370\25\0\1\23\4\0\3\23\3\0\4\23\1\371"+
-    "\23\23\24\0\1\23\4\0\3\23\3\0\22\23\1\372"+
-    "\5\23\24\0\1\23\4\0\3\23\3\0\15\23\1\373"+
-    "\12\23\24\0\1\23\4\0\3\23\3\0\3\23\1\374"+
-    "\24\23\24\0\1\23\4\0\3\23\3\0\21\23\1\375"+
-    "\6\23\24\0\1\23\4\0\3\23\3\0\15\23\1\376"+
-    "\12\23\24\0\1\23\4\0\1\23\1\377\1\23\3\0"+
-    "\30\23\53\0\1\u0100\37\0\1\23\4\0\3\23\3\0"+
-    "\21\23\1\u0101\6\23\24\0\1\23\4\0\2\23\1\u0102"+
-    "\3\0\30\23\55\0\1\u0103\35\0\1\23\4\0\3\23"+
-    "\3\0\4\23\1\u0104\23\23\24\0\1\23\4\0\3\23"+
-    "\3\0\22\23\1\u0105\5\23\24\0\1\23\4\0\3\23"+
-    "\3\0\15\23\1\u0106\12\23\24\0\1\23\4\0\3\23"+
-    "\3\0\2\23\1\u0107\25\23\24\0\1\23\4\0\3\23"+
-    "\3\0\12\23\1\u0108\15\23\24\0\1\23\4\0\3\23"+
-    "\3\0\1\u0109\27\23\45\0\1\u010a\62\0\1\u010b\51\0"+
-    "\1\23\4\0\3\23\3\0\21\23\1\u010c\6\23\44\0"+
-    "\1\u010d\77\0\1\u010e\35\0\1\23\4\0\3\23\3\0"+
-    "\14\23\1\u010f\13\23\24\0\1\23\4\0\3\23\3\0"+
-    "\14\23\1\u0110\13\23\24\0\1\23\4\0\3\23\3\0"+
-    "\15\23\1\u0111\12\23\21\0\1\u0112\71\0\1\23\4\0"+
-    "\3\23\3\0\5\23\1\u0113\22\23\24\0\1\23\4\0"+
-    "\3\23\3\0\25\23\1\u0114\2\23\24\0\1\23\4\0"+
-    "\3\23\3\0\4\23\1\u0115\23\23\24\0\1\23\4\0"+
-    "\3\23\3\0\10\23\1\u0116\17\23\24\0\1\23\4\0"+
-    "\3\23\3\0\22\23\1\u0117\5\23\57\0\1\u0118\71\0"+
-    "\1\u0119\47\0\1\u011a\72\0\1\u011b\43\0\1\23\4\0"+
-    "\3\23\3\0\6\23\1\u011c\21\23\37\0\1\u011d\50\0"+
-    "\1\u011e\2\0\1\23\4\0\3\23\3\0\30\23\24\0"+
-    "\1\23\4\0\3\23\3\0\11\23\1\u011f\16\23\24\0"+
-    "\1\23\4\0\3\23\3\0\4\23\1\u0120\23\23\54\0"+
-    "\1\u0121\72\0\1\u0122\47\0\1\u0123\104\0\1\u0124\33\0"+
-    "\1\23\4\0\3\23\3\0\10\23\1\u0125\17\23\41\0"+
-    "\1\u0126\72\0\1\u0127\45\0\1\23\4\0\3\23\3\0"+
-    "\4\23\1\u0128\23\23\62\0\1\u0129\65\0\1\u012a\50\0"+
-    "\1\u012b\47\0\1\23\4\0\3\23\3\0\2\23\1\u012c"+
-    "\25\23\61\0\1\u012d\64\0\1\u012e\64\0\1\u012f\60\0"+
-    "\1\u0130\77\0\1\u0131\32\0\1\23\4\0\3\23\3\0"+
-    "\1\u0132\27\23\47\0\1\u0133\73\0\1\u0134\75\0\1\u0135"+
-    "\27\0\1\23\4\0\3\23\3\0\12\23\1\u0136\15\23"+
-    "\63\0\1\u0137\65\0\1\u0138\47\0\1\u0139\66\0\1\u013a"+
-    "\100\0\1\u013b\14\0";
-
-  private static int [] zzUnpacktrans() {
-    int [] result = new int[13750];
-    int offset = 0;
-    offset = zzUnpacktrans(ZZ_TRANS_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpacktrans(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      value--;
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
-  /* error codes */
-  private static final int ZZ_UNKNOWN_ERROR = 0;
-  private static final int ZZ_NO_MATCH = 1;
-  private static final int ZZ_PUSHBACK_2BIG = 2;
-
-  /* error messages for the codes above */
-  private static final String[] ZZ_ERROR_MSG = {
-    "Unknown internal scanner error",
-    "Error: could not match input",
-    "Error: pushback value was too large"
-  };
-
-  /**
-   * ZZ_ATTRIBUTE[aState] contains the attributes of state {@code aState}
-   */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
-
-  private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\2\0\1\11\3\1\2\11\1\1\3\11\1\1\1\11"+
-    "\2\1\2\11\1\1\2\11\22\1\1\11\1\1\1\11"+
-    "\2\1\1\11\1\0\1\11\1\1\1\0\51\1\1\11"+
-    "\36\1\1\0\51\1\1\0\20\1\1\0\2\1\1\0"+
-    "\15\1\1\0\3\1\1\0\13\1\1\0\2\1\1\0"+
-    "\14\1\1\0\3\1\1\0\10\1\2\0\2\1\2\0"+
-    "\7\1\1\0\2\1\1\11\6\1\2\0\1\1\2\0"+
-    "\3\1\1\0\5\1\4\0\1\1\2\0\2\1\1\0"+
-    "\1\11\2\0\1\1\2\0\1\1\3\0\1\1\2\0"+
-    "\1\11\1\0\1\11\1\1\3\0\1\1\2\0\3\11";
-
-  private static int [] zzUnpackAttribute() {
-    int [] result = new int[315];
-    int offset = 0;
-    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-  /** the input device */
-  private java.io.Reader zzReader;
-
-  /** the current state of the DFA */
-  private int zzState;
-
-  /** the current lexical state */
-  private int zzLexicalState = YYINITIAL;
-
-  /** this buffer contains the current text to be matched and is
-      the source of the yytext() string */
-  private CharSequence zzBuffer = "";
-
-  /** the textposition at the last accepting state */
-  private int zzMarkedPos;
-
-  /** the current text position in the buffer */
-  private int zzCurrentPos;
-
-  /** startRead marks the beginning of the yytext() string in the buffer */
-  private int zzStartRead;
-
-  /** endRead marks the last character in the buffer, that has been read
-      from input */
-  private int zzEndRead;
-
-  /** zzAtEOF == true <=> the scanner is at the EOF */
-  private boolean zzAtEOF;
-
-  /** Number of newlines encountered up to the start of the matched text. */
-  @SuppressWarnings("unused")
-  private int yyline;
-
-  /** Number of characters from the last newline up to the start of the matched text. */
-  @SuppressWarnings("unused")
-  protected int yycolumn;
-
-  /** Number of characters up to the start of the matched text. */
-  @SuppressWarnings("unused")
-  private long yychar;
-
-  /** Whether the scanner is currently at the beginning of a line. */
-  @SuppressWarnings("unused")
-  private boolean zzAtBOL = true;
-
-  /** Whether the user-EOF-code has already been executed. */
-  @SuppressWarnings("unused")
-  private boolean zzEOFDone;
-
-
-  /**
-   * Creates a new scanner
-   *
-   * @param   in  the java.io.Reader to read input from.
-   */
-  public _DroolsLexer(java.io.Reader in) {
-    this.zzReader = in;
-  }
-
-
-  /** Returns the maximum size of the scanner buffer, which limits the size of tokens. */
-  private int zzMaxBufferLen() {
-    return Integer.MAX_VALUE;
-  }
-
-  /**  Whether the scanner buffer can grow to accommodate a larger token. */
-  private boolean zzCanGrow() {
-    return true;
-  }
-
-  /**
-   * Translates raw input code points to DFA table row
-   */
-  private static int zzCMap(int input) {
-    int offset = input & 255;
-    return offset == input ? ZZ_CMAP_BLOCKS[offset] : ZZ_CMAP_BLOCKS[ZZ_CMAP_TOP[input >> 8] | offset];
-  }
-
-  public final int getTokenStart() {
-    return zzStartRead;
-  }
-
-  public final int getTokenEnd() {
-    return getTokenStart() + yylength();
-  }
-
-  public void reset(CharSequence buffer, int start, int end, int initialState) {
-    zzBuffer = buffer;
-    zzCurrentPos = zzMarkedPos = zzStartRead = start;
-    zzAtEOF  = false;
-    zzAtBOL = true;
-    zzEndRead = end;
-    yybegin(initialState);
-  }
-
-  /**
-   * Refills the input buffer.
-   *
-   * @return      {@code false}, iff there was new input.
-   *
-   * @exception   java.io.IOException  if any I/O-Error occurs
-   */
-  private boolean zzRefill() throws java.io.IOException {
-    return true;
-  }
-
-
-  /**
-   * Returns the current lexical state.
-   */
-  public final int yystate() {
-    return zzLexicalState;
-  }
-
-
-  /**
-   * Enters a new lexical state
-   *
-   * @param newState the new lexical state
-   */
-  public final void yybegin(int newState) {
-    zzLexicalState = newState;
-  }
-
-
-  /**
-   * Returns the text matched by the current regular expression.
-   */
-  public final CharSequence yytext() {
-    return zzBuffer.subSequence(zzStartRead, zzMarkedPos);
-  }
-
-
-  /**
-   * Returns the character at position {@code pos} from the
-   * matched text.
-   *
-   * It is equivalent to yytext().charAt(pos), but faster
-   *
-   * @param pos the position of the character to fetch.
-   *            A value from 0 to yylength()-1.
-   *
-   * @return the character at position pos
-   */
-  public final char yycharat(int pos) {
-    return zzBuffer.charAt(zzStartRead+pos);
-  }
-
-
-  /**
-   * Returns the length of the matched text region.
-   */
-  public final int yylength() {
-    return zzMarkedPos-zzStartRead;
-  }
-
-
-  /**
-   * Reports an error that occurred while scanning.
-   *
-   * In a wellformed scanner (no or only correct usage of
-   * yypushback(int) and a match-all fallback rule) this method
-   * will only be called with things that "Can't Possibly Happen".
-   * If this method is called, something is seriously wrong
-   * (e.g. a JFlex bug producing a faulty scanner etc.).
-   *
-   * Usual syntax/scanner level error handling should be done
-   * in error fallback rules.
-   *
-   * @param   errorCode  the code of the errormessage to display
-   */
-  private void zzScanError(int errorCode) {
-    String message;
-    try {
-      message = ZZ_ERROR_MSG[errorCode];
-    }
-    catch (ArrayIndexOutOfBoundsException e) {
-      message = ZZ_ERROR_MSG[ZZ_UNKNOWN_ERROR];
-    }
-
-    throw new Error(message);
-  }
-
-
-  /**
-   * Pushes the specified amount of characters back into the input stream.
-   *
-   * They will be read again by then next call of the scanning method
-   *
-   * @param number  the number of characters to be read again.
-   *                This number must not be greater than yylength()!
-   */
-  public void yypushback(int number)  {
-    if ( number > yylength() )
-      zzScanError(ZZ_PUSHBACK_2BIG);
-
-    zzMarkedPos -= number;
-  }
-
-
-  /**
-   * Resumes scanning until the next regular expression is matched,
-   * the end of input is encountered or an I/O-Error occurs.
-   *
-   * @return      the next token
-   * @exception   java.io.IOException  if any I/O-Error occurs
-   */
-  public IElementType advance() throws java.io.IOException
-  {
-    int zzInput;
-    int zzAction;
-
-    // cached fields:
-    int zzCurrentPosL;
-    int zzMarkedPosL;
-    int zzEndReadL = zzEndRead;
-    CharSequence zzBufferL = zzBuffer;
-
-    int [] zzTransL = ZZ_TRANS;
-    int [] zzRowMapL = ZZ_ROWMAP;
-    int [] zzAttrL = ZZ_ATTRIBUTE;
-
-    while (true) {
-      zzMarkedPosL = zzMarkedPos;
-
-      zzAction = -1;
-
-      zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
-
-      zzState = ZZ_LEXSTATE[zzLexicalState];
-
-      // set up zzAction for empty match case:
-      int zzAttributes = zzAttrL[zzState];
-      if ( (zzAttributes & 1) == 1 ) {
-        zzAction = zzState;
-      }
-
-
-      zzForAction: {
-        while (true) {
-
-          if (zzCurrentPosL < zzEndReadL) {
-            zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL);
-            zzCurrentPosL += Character.charCount(zzInput);
-          }
-          else if (zzAtEOF) {
-            zzInput = YYEOF;
-            break zzForAction;
-          }
-          else {
-            // store back cached positions
-            zzCurrentPos  = zzCurrentPosL;
-            zzMarkedPos   = zzMarkedPosL;
-            boolean eof = zzRefill();
-            // get translated positions and possibly new buffer
-            zzCurrentPosL  = zzCurrentPos;
-            zzMarkedPosL   = zzMarkedPos;
-            zzBufferL      = zzBuffer;
-            zzEndReadL     = zzEndRead;
-            if (eof) {
-              zzInput = YYEOF;
-              break zzForAction;
-            }
-            else {
-              zzInput = Character.codePointAt(zzBufferL, zzCurrentPosL);
-              zzCurrentPosL += Character.charCount(zzInput);
-            }
-          }
-          int zzNext = zzTransL[ zzRowMapL[zzState] + zzCMap(zzInput) ];
-          if (zzNext == -1) break zzForAction;
-          zzState = zzNext;
-
-          zzAttributes = zzAttrL[zzState];
-          if ( (zzAttributes & 1) == 1 ) {
-            zzAction = zzState;
-            zzMarkedPosL = zzCurrentPosL;
-            if ( (zzAttributes & 8) == 8 ) break zzForAction;
-          }
-
-        }
-      }
-
-      // store back cached position
-      zzMarkedPos = zzMarkedPosL;
-
-      if (zzInput == YYEOF && zzStartRead == zzCurrentPos) {
-        zzAtEOF = true;
-        return null;
-      }
-      else {
-        switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
-          case 1:
-            { return TokenType.BAD_CHARACTER;
-            }
-          // fall through
-          case 73: break;
-          case 2:
-            { return TokenType.WHITE_SPACE;
-            }
-          // fall through
-          case 74: break;
-          case 3:
-            { return DroolsTypes.OPERATOR;
-            }
-          // fall through
-          case 75: break;
-          case 4:
-            { return DroolsTypes.STRING;
-            }
-          // fall through
-          case 76: break;
-          case 5:
-            { return DroolsTypes.DOLLAR;
-            }
-          // fall through
-          case 77: break;
-          case 6:
-            { return DroolsTypes.LEFT_PAREN;
-            }
-          // fall through
-          case 78: break;
-          case 7:
-            { return DroolsTypes.RIGHT_PAREN;
-            }
-          // fall through
-          case 79: break;
-          case 8:
-            { return DroolsTypes.COMMA;
-            }
-          // fall through
-          case 80: break;
-          case 9:
-            { return DroolsTypes.DOT;
-            }
-          // fall through
-          case 81: break;
-          case 10:
-            { return DroolsTypes.NUMBER;
-            }
-          // fall through
-          case 82: break;
-          case 11:
-            { return DroolsTypes.COLON;
-            }
-          // fall through
-          case 83: break;
-          case 12:
-            { return DroolsTypes.SEMICOLON;
-            }
-          // fall through
-          case 84: break;
-          case 13:
-            { return DroolsTypes.IDENTIFIER;
-            }
-          // fall through
-          case 85: break;
-          case 14:
-            { return DroolsTypes.LEFT_BRACKET;
-            }
-          // fall through
-          case 86: break;
-          case 15:
-            { return DroolsTypes.RIGHT_BRACKET;
-            }
-          // fall through
-          case 87: break;
-          case 16:
-            { return DroolsTypes.LEFT_BRACE;
-            }
-          // fall through
-          case 88: break;
-          case 17:
-            { return DroolsTypes.RIGHT_BRACE;
-            }
-          // fall through
-          case 89: break;
-          case 18:
-            { return DroolsTypes.COMMENT;
-            }
-          // fall through
-          case 90: break;
-          case 19:
-            { yybegin(BLOCK_COMMENT); return DroolsTypes.COMMENT;
-            }
-          // fall through
-          case 91: break;
-          case 20:
-            { return DroolsTypes.IF_KEYWORD;
-            }
-          // fall through
-          case 92: break;
-          case 21:
-            { return DroolsTypes.IN_KEYWORD;
-            }
-          // fall through
-          case 93: break;
-          case 22:
-            { return DroolsTypes.OR_KEYWORD;
-            }
-          // fall through
-          case 94: break;
-          case 23:
-            { yybegin(YYINITIAL); return DroolsTypes.COMMENT;
-            }
-          // fall through
-          case 95: break;
-          case 24:
-            { return DroolsTypes.AND_KEYWORD;
-            }
-          // fall through
-          case 96: break;
-          case 25:
-            { return DroolsTypes.END_KEYWORD;
-            }
-          // fall through
-          case 97: break;
-          case 26:
-            { return DroolsTypes.NEW_KEYWORD;
-            }
-          // fall through
-          case 98: break;
-          case 27:
-            { return DroolsTypes.NOT_KEYWORD;
-            }
-          // fall through
-          case 99: break;
-          case 28:
-            { return DroolsTypes.STR_KEYWORD;
-            }
-          // fall through
-          case 100: break;
-          case 29:
-            { return DroolsTypes.ELSE_KEYWORD;
-            }
-          // fall through
-          case 101: break;
-          case 30:
-            { return DroolsTypes.EVAL_KEYWORD;
-            }
-          // fall through
-          case 102: break;
-          case 31:
-            { return DroolsTypes.FROM_KEYWORD;
-            }
-          // fall through
-          case 103: break;
-          case 32:
-            { return DroolsTypes.NULL_KEYWORD;
-            }
-          // fall through
-          case 104: break;
-          case 33:
-            { return DroolsTypes.RULE_KEYWORD;
-            }
-          // fall through
-          case 105: break;
-          case 34:
-            { return DroolsTypes.THEN_KEYWORD;
-            }
-          // fall through
-          case 106: break;
-          case 35:
-            { return DroolsTypes.THIS_KEYWORD;
-            }
-          // fall through
-          case 107: break;
-          case 36:
-            { return DroolsTypes.TRUE_KEYWORD;
-            }
-          // fall through
-          case 108: break;
-          case 37:
-            { return DroolsTypes.WHEN_KEYWORD;
-            }
-          // fall through
-          case 109: break;
-          case 38:
-            { return DroolsTypes.FALSE_KEYWORD;
-            }
-          // fall through
-          case 110: break;
-          case 39:
-            { return DroolsTypes.QUERY_KEYWORD;
-            }
-          // fall through
-          case 111: break;
-          case 40:
-            { return DroolsTypes.TIMER_KEYWORD;
-            }
-          // fall through
-          case 112: break;
-          case 41:
-            { return DroolsTypes.DELETE_KEYWORD;
-            }
-          // fall through
-          case 113: break;
-          case 42:
-            { return DroolsTypes.EXISTS_KEYWORD;
-            }
-          // fall through
-          case 114: break;
-          case 43:
-            { return DroolsTypes.FORALL_KEYWORD;
-            }
-          // fall through
-          case 115: break;
-          case 44:
-            { return DroolsTypes.GLOBAL_KEYWORD;
-            }
-          // fall through
-          case 116: break;
-          case 45:
-            { return DroolsTypes.IMPORT_KEYWORD;
-            }
-          // fall through
-          case 117: break;
-          case 46:
-            { return DroolsTypes.INSERT_KEYWORD;
-            }
-          // fall through
-          case 118: break;
-          case 47:
-            { return DroolsTypes.MODIFY_KEYWORD;
-            }
-          // fall through
-          case 119: break;
-          case 48:
-            { return DroolsTypes.RETURN_KEYWORD;
-            }
-          // fall through
-          case 120: break;
-          case 49:
-            { return DroolsTypes.UPDATE_KEYWORD;
-            }
-          // fall through
-          case 121: break;
-          case 50:
-            { return DroolsTypes.COLLECT_KEYWORD;
-            }
-          // fall through
-          case 122: break;
-          case 51:
-            { return DroolsTypes.DECLARE_KEYWORD;
-            }
-          // fall through
-          case 123: break;
-          case 52:
-            { return DroolsTypes.DIALECT_KEYWORD;
-            }
-          // fall through
-          case 124: break;
-          case 53:
-            { return DroolsTypes.ENABLED_KEYWORD;
-            }
-          // fall through
-          case 125: break;
-          case 54:
-            { return DroolsTypes.EXTENDS_KEYWORD;
-            }
-          // fall through
-          case 126: break;
-          case 55:
-            { return DroolsTypes.MATCHES_KEYWORD;
-            }
-          // fall through
-          case 127: break;
-          case 56:
-            { return DroolsTypes.NO_LOOP_KEYWORD;
-            }
-          // fall through
-          case 128: break;
-          case 57:
-            { return DroolsTypes.PACKAGE_KEYWORD;
-            }
-          // fall through
-          case 129: break;
-          case 58:
-            { return DroolsTypes.RETRACT_KEYWORD;
-            }
-          // fall through
-          case 130: break;
-          case 59:
-            { return DroolsTypes.CONTAINS_KEYWORD;
-            }
-          // fall through
-          case 131: break;
-          case 60:
-            { return DroolsTypes.DURATION_KEYWORD;
-            }
-          // fall through
-          case 132: break;
-          case 61:
-            { return DroolsTypes.FUNCTION_KEYWORD;
-            }
-          // fall through
-          case 133: break;
-          case 62:
-            { return DroolsTypes.MEMBER_OF_KEYWORD;
-            }
-          // fall through
-          case 134: break;
-          case 63:
-            { return DroolsTypes.SALIENCE_KEYWORD;
-            }
-          // fall through
-          case 135: break;
-          case 64:
-            { return DroolsTypes.ACCUMULATE_KEYWORD;
-            }
-          // fall through
-          case 136: break;
-          case 65:
-            { return DroolsTypes.AUTO_FOCUS_KEYWORD;
-            }
-          // fall through
-          case 137: break;
-          case 66:
-            { return DroolsTypes.SOUNDSLIKE_KEYWORD;
-            }
-          // fall through
-          case 138: break;
-          case 67:
-            { return DroolsTypes.AGENDA_GROUP_KEYWORD;
-            }
-          // fall through
-          case 139: break;
-          case 68:
-            { return DroolsTypes.DATE_EXPIRES_KEYWORD;
-            }
-          // fall through
-          case 140: break;
-          case 69:
-            { return DroolsTypes.INSERT_LOGICAL_KEYWORD;
-            }
-          // fall through
-          case 141: break;
-          case 70:
-            { return DroolsTypes.DATE_EFFECTIVE_KEYWORD;
-            }
-          // fall through
-          case 142: break;
-          case 71:
-            { return DroolsTypes.LOCK_ON_ACTIVE_KEYWORD;
-            }
-          // fall through
-          case 143: break;
-          case 72:
-            { return DroolsTypes.RULEFLOW_GROUP_KEYWORD;
-            }
-          // fall through
-          case 144: break;
-          default:
-            zzScanError(ZZ_NO_MATCH);
-          }
-      }
-    }
-  }
-
-
-}
@@ -1,16 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsAccumulateFunction extends PsiElement {
-
-  @NotNull
-  DroolsExpressionContent getExpressionContent();
-
-  @NotNull
-  PsiElement getIdentifier();
-
-}
@@ -1,28 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsConditionalElement extends PsiElement {
-
-  @Nullable
-  DroolsAccumElement getAccumElement();
-
-  @Nullable
-  DroolsEvalElement getEvalElement();
-
-  @Nullable
-  DroolsExistsElement getExistsElement();
-
-  @Nullable
-  DroolsForallElement getForallElement();
-
-  @Nullable
-  DroolsFromElement getFromElement();
-
-  @Nullable
-  DroolsNotElement getNotElement();
-
-}
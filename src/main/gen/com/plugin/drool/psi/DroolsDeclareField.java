@@ -1,22 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsDeclareField extends PsiElement {
-
-  @Nullable
-  DroolsAttributeValue getAttributeValue();
-
-  @NotNull
-  DroolsTypeName getTypeName();
-
-  @NotNull
-  PsiElement getIdentifier();
-
-  @Nullable
-  PsiElement getOperator();
-
-}
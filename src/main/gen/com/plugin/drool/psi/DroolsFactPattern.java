@@ -1,22 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsFactPattern extends PsiElement {
-
-  @NotNull
-  DroolsClassName getClassName();
-
-  @Nullable
-  DroolsConstraintList getConstraintList();
-
-  @Nullable
-  DroolsLogicalConnective getLogicalConnective();
-
-  @Nullable
-  DroolsPattern getPattern();
-
-}
@@ -1,49 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsRuleAttribute extends PsiElement {
-
-  @Nullable
-  DroolsAgendaGroupAttribute getAgendaGroupAttribute();
-
-  @Nullable
-  DroolsAutoFocusAttribute getAutoFocusAttribute();
-
-  @Nullable
-  DroolsDateEffectiveAttribute getDateEffectiveAttribute();
-
-  @Nullable
-  DroolsDateExpiresAttribute getDateExpiresAttribute();
-
-  @Nullable
-  DroolsDialectAttribute getDialectAttribute();
-
-  @Nullable
-  DroolsDurationAttribute getDurationAttribute();
-
-  @Nullable
-  DroolsEnabledAttribute getEnabledAttribute();
-
-  @Nullable
-  DroolsExtendsAttribute getExtendsAttribute();
-
-  @Nullable
-  DroolsLockOnActiveAttribute getLockOnActiveAttribute();
-
-  @Nullable
-  DroolsNoLoopAttribute getNoLoopAttribute();
-
-  @Nullable
-  DroolsRuleflowGroupAttribute getRuleflowGroupAttribute();
-
-  @Nullable
-  DroolsSalienceAttribute getSalienceAttribute();
-
-  @Nullable
-  DroolsTimerAttribute getTimerAttribute();
-
-}
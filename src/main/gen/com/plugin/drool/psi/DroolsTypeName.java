@@ -1,19 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElement;
-
-public interface DroolsTypeName extends PsiElement {
-
-  @Nullable
-  DroolsArrayBrackets getArrayBrackets();
-
-  @NotNull
-  DroolsClassName getClassName();
-
-  @Nullable
-  DroolsTypeArguments getTypeArguments();
-
-}
@@ -1,254 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi;
-
-import org.jetbrains.annotations.*;
-import com.intellij.psi.PsiElementVisitor;
-import com.intellij.psi.PsiElement;
-
-public class DroolsVisitor extends PsiElementVisitor {
-
-  public void visitAccumElement(@NotNull DroolsAccumElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitAccumulateFunction(@NotNull DroolsAccumulateFunction o) {
-    visitPsiElement(o);
-  }
-
-  public void visitAgendaGroupAttribute(@NotNull DroolsAgendaGroupAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitArrayBrackets(@NotNull DroolsArrayBrackets o) {
-    visitPsiElement(o);
-  }
-
-  public void visitAttributeValue(@NotNull DroolsAttributeValue o) {
-    visitPsiElement(o);
-  }
-
-  public void visitAutoFocusAttribute(@NotNull DroolsAutoFocusAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitBindingPattern(@NotNull DroolsBindingPattern o) {
-    visitPsiElement(o);
-  }
-
-  public void visitBindingVariable(@NotNull DroolsBindingVariable o) {
-    visitPsiElement(o);
-  }
-
-  public void visitBlockContent(@NotNull DroolsBlockContent o) {
-    visitPsiElement(o);
-  }
-
-  public void visitClassName(@NotNull DroolsClassName o) {
-    visitPsiElement(o);
-  }
-
-  public void visitConditionalElement(@NotNull DroolsConditionalElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitConstraintExpr(@NotNull DroolsConstraintExpr o) {
-    visitPsiElement(o);
-  }
-
-  public void visitConstraintList(@NotNull DroolsConstraintList o) {
-    visitPsiElement(o);
-  }
-
-  public void visitConstraintOperator(@NotNull DroolsConstraintOperator o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDateEffectiveAttribute(@NotNull DroolsDateEffectiveAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDateExpiresAttribute(@NotNull DroolsDateExpiresAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDeclareBlock(@NotNull DroolsDeclareBlock o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDeclareExtends(@NotNull DroolsDeclareExtends o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDeclareField(@NotNull DroolsDeclareField o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDialectAttribute(@NotNull DroolsDialectAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitDurationAttribute(@NotNull DroolsDurationAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitEnabledAttribute(@NotNull DroolsEnabledAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitEvalElement(@NotNull DroolsEvalElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitExistsElement(@NotNull DroolsExistsElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitExpression(@NotNull DroolsExpression o) {
-    visitPsiElement(o);
-  }
-
-  public void visitExpressionContent(@NotNull DroolsExpressionContent o) {
-    visitPsiElement(o);
-  }
-
-  public void visitExtendsAttribute(@NotNull DroolsExtendsAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitFactPattern(@NotNull DroolsFactPattern o) {
-    visitPsiElement(o);
-  }
-
-  public void visitForallElement(@NotNull DroolsForallElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitFromElement(@NotNull DroolsFromElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitFunctionBody(@NotNull DroolsFunctionBody o) {
-    visitPsiElement(o);
-  }
-
-  public void visitFunctionDef(@NotNull DroolsFunctionDef o) {
-    visitPsiElement(o);
-  }
-
-  public void visitGlobalDecl(@NotNull DroolsGlobalDecl o) {
-    visitPsiElement(o);
-  }
-
-  public void visitImportPath(@NotNull DroolsImportPath o) {
-    visitPsiElement(o);
-  }
-
-  public void visitImportStatement(@NotNull DroolsImportStatement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitLiteral(@NotNull DroolsLiteral o) {
-    visitPsiElement(o);
-  }
-
-  public void visitLockOnActiveAttribute(@NotNull DroolsLockOnActiveAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitLogicalConnective(@NotNull DroolsLogicalConnective o) {
-    visitPsiElement(o);
-  }
-
-  public void visitNoLoopAttribute(@NotNull DroolsNoLoopAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitNotElement(@NotNull DroolsNotElement o) {
-    visitPsiElement(o);
-  }
-
-  public void visitPackageDecl(@NotNull DroolsPackageDecl o) {
-    visitPsiElement(o);
-  }
-
-  public void visitParameter(@NotNull DroolsParameter o) {
-    visitPsiElement(o);
-  }
-
-  public void visitParameterList(@NotNull DroolsParameterList o) {
-    visitPsiElement(o);
-  }
-
-  public void visitPattern(@NotNull DroolsPattern o) {
-    visitPsiElement(o);
-  }
-
-  public void visitQualifiedName(@NotNull DroolsQualifiedName o) {
-    visitPsiElement(o);
-  }
-
-  public void visitQueryDef(@NotNull DroolsQueryDef o) {
-    visitPsiElement(o);
-  }
-
-  public void visitQueryName(@NotNull DroolsQueryName o) {
-    visitPsiElement(o);
-  }
-
-  public void visitQueryParams(@NotNull DroolsQueryParams o) {
-    visitPsiElement(o);
-  }
-
-  public void visitRuleAttribute(@NotNull DroolsRuleAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitRuleAttributes(@NotNull DroolsRuleAttributes o) {
-    visitPsiElement(o);
-  }
-
-  public void visitRuleBlock(@NotNull DroolsRuleBlock o) {
-    visitPsiElement(o);
-  }
-
-  public void visitRuleName(@NotNull DroolsRuleName o) {
-    visitPsiElement(o);
-  }
-
-  public void visitRuleflowGroupAttribute(@NotNull DroolsRuleflowGroupAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitSalienceAttribute(@NotNull DroolsSalienceAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitThenClause(@NotNull DroolsThenClause o) {
-    visitPsiElement(o);
-  }
-
-  public void visitThenContent(@NotNull DroolsThenContent o) {
-    visitPsiElement(o);
-  }
-
-  public void visitTimerAttribute(@NotNull DroolsTimerAttribute o) {
-    visitPsiElement(o);
-  }
-
-  public void visitTypeArguments(@NotNull DroolsTypeArguments o) {
-    visitPsiElement(o);
-  }
-
-  public void visitTypeName(@NotNull DroolsTypeName o) {
-    visitPsiElement(o);
-  }
-
-  public void visitWhenClause(@NotNull DroolsWhenClause o) {
-    visitPsiElement(o);
-  }
-
-  public void visitPsiElement(@NotNull PsiElement o) {
-    visitElement(o);
-  }
-
-}
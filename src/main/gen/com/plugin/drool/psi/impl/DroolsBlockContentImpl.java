@@ -1,42 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi.impl;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.lang.ASTNode;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiElementVisitor;
-import com.intellij.psi.util.PsiTreeUtil;
-import static com.plugin.drool.psi.DroolsTypes.*;
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
-import com.plugin.drool.psi.*;
-
-public class DroolsBlockContentImpl extends ASTWrapperPsiElement implements DroolsBlockContent {
-
-  public DroolsBlockContentImpl(@NotNull ASTNode node) {
-    super(node);
-  }
-
-  public void accept(@NotNull DroolsVisitor visitor) {
-    visitor.visitBlockContent(this);
-  }
-
-  @Override
-  public void accept(@NotNull PsiElementVisitor visitor) {
-    if (visitor instanceof DroolsVisitor) accept((DroolsVisitor)visitor);
-    else super.accept(visitor);
-  }
-
-  @Override
-  @NotNull
-  public List<DroolsBlockContent> getBlockContentList() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsBlockContent.class);
-  }
-
-  @Override
-  @NotNull
-  public List<DroolsExpressionContent> getExpressionContentList() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsExpressionContent.class);
-  }
-
-}
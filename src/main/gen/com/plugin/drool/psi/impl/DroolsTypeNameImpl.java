@@ -1,48 +0,0 @@
-// This is a generated file. Not intended for manual editing.
-package com.plugin.drool.psi.impl;
-
-import java.util.List;
-import org.jetbrains.annotations.*;
-import com.intellij.lang.ASTNode;
-import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiElementVisitor;
-import com.intellij.psi.util.PsiTreeUtil;
-import static com.plugin.drool.psi.DroolsTypes.*;
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
-import com.plugin.drool.psi.*;
-
-public class DroolsTypeNameImpl extends ASTWrapperPsiElement implements DroolsTypeName {
-
-  public DroolsTypeNameImpl(@NotNull ASTNode node) {
-    super(node);
-  }
-
-  public void accept(@NotNull DroolsVisitor visitor) {
-    visitor.visitTypeName(this);
-  }
-
-  @Override
-  public void accept(@NotNull PsiElementVisitor visitor) {
-    if (visitor instanceof DroolsVisitor) accept((DroolsVisitor)visitor);
-    else super.accept(visitor);
-  }
-
-  @Override
-  @Nullable
-  public DroolsArrayBrackets getArrayBrackets() {
-    return findChildByClass(DroolsArrayBrackets.class);
-  }
-
-  @Override
-  @NotNull
-  public DroolsClassName getClassName() {
-    return findNotNullChildByClass(DroolsClassName.class);
-  }
-
-  @Override
-  @Nullable
-  public DroolsTypeArguments getTypeArguments() {
-    return findChildByClass(DroolsTypeArguments.class);
-  }
-
-}
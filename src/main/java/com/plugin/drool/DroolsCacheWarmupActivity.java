@@ -0,0 +1,150 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.ProjectActivity;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import java.util.ArrayList;
+import java.util.List;
+import kotlin.Unit;
+import kotlin.coroutines.Continuation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.plugin.drool.util.DroolsConstants.isJavaLangClass;
+
+/**
+ * Pre-populates {@link DroolsResolutionCache} after the project is opened, so the first
+ * highlighting pass over a rule file does not pay the full class lookup cost for every import and
+ * fact type.
+ *
+ * <p>Waits for indexing to finish, then resolves the imports, global types and fact pattern types
+ * of every .drl file in the project from a cancellable background task. The names are read from
+ * each file's stub tree, which comes from the stub index, so warm-up never builds the AST of a
+ * file that is not open. Each file is processed in its own non-blocking read action, so typing is
+ * never blocked and the work restarts transparently if a write action or a new indexing phase
+ * interrupts it. The persisted {@link DroolsResolutionSnapshot} is loaded up front, while
+ * indexing is still running.
+ */
+public class DroolsCacheWarmupActivity implements ProjectActivity {
+
+  @Nullable
+  @Override
+  public Object execute(
+      @NotNull Project project, @NotNull Continuation<? super Unit> continuation) {
+    if (ApplicationManager.getApplication().isUnitTestMode()) {
+      return Unit.INSTANCE;
+    }
+    // Read the previous session's answers while indexing runs, so they are ready for highlighting
+    DroolsResolutionSnapshot.getInstance(project).ensureLoaded();
+    DumbService.getInstance(project).runWhenSmart(() -> new WarmupTask(project).queue());
+    return Unit.INSTANCE;
+  }
+
+  /**
+   * Resolves the imports, global types and fact pattern types of one file through the project's
+   * resolution cache. Must be called inside a read action in smart mode.
+   */
+  static void warmUpFile(@NotNull Project project, @NotNull VirtualFile file) {
+    if (!file.isValid()) {
+      return;
+    }
+    PsiFile psiFile = PsiManager.getInstance(project).findFile(file);
+    if (!(psiFile instanceof DroolsPsiFile droolsFile)) {
+      return;
+    }
+
+    // The accessors read the stub tree unless the file's AST is already loaded
+    DroolsResolutionCache cache = DroolsResolutionCache.getInstance(project);
+    DroolsImportTable imports = DroolsImportTable.forFile(droolsFile);
+
+    for (DroolsImportStatement importStmt : droolsFile.getImports()) {
+      String importPath = importStmt.getImportPathString().trim();
+      if (importPath.isEmpty() || importStmt.isWildcard()) {
+        continue;
+      }
+      cache.resolveClass(importPath, importStmt);
+    }
+
+    for (DroolsGlobalDecl global : droolsFile.getGlobals()) {
+      String typeText = global.getTypeText();
+      if (typeText != null) {
+        // The inspection checks the class name only, without type arguments or array brackets
+        int end = typeText.length();
+        for (int i = 0; i < typeText.length(); i++) {
+          if (typeText.charAt(i) == '<' || typeText.charAt(i) == '[') {
+            end = i;
+            break;
+          }
+        }
+        warmUpClassName(imports, typeText.substring(0, end).trim(), global);
+      }
+    }
+
+    for (DroolsRuleBlock rule : droolsFile.getRules()) {
+      for (String factTypeName : rule.getFactTypeNames()) {
+        warmUpClassName(imports, factTypeName, rule);
+      }
+    }
+  }
+
+  /**
+   * Resolves a type name the way the unresolved-class inspection does, skipping names it never
+   * looks up.
+   */
+  private static void warmUpClassName(
+      @NotNull DroolsImportTable imports, @NotNull String className, @NotNull PsiElement context) {
+    if (className.isEmpty() || isJavaLangClass(className) || imports.isDeclaredType(className)) {
+      return;
+    }
+    imports.resolveClass(className, context);
+  }
+
+  /** Background task that walks every .drl file of the project once. */
+  private static final class WarmupTask extends Task.Backgroundable {
+
+    WarmupTask(@NotNull Project project) {
+      super(project, "Warming up Drools resolution cache", true);
+    }
+
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+      Project project = getProject();
+      List<VirtualFile> files =
+          ReadAction.nonBlocking(
+                  () ->
+                      new ArrayList<>(
+                          FileTypeIndex.getFiles(
+                              DroolsFileType.getInstance(),
+                              GlobalSearchScope.projectScope(project))))
+              .inSmartMode(project)
+              .wrapProgress(indicator)
+              .executeSynchronously();
+
+      indicator.setIndeterminate(false);
+      for (int i = 0; i < files.size(); i++) {
+        indicator.checkCanceled();
+        VirtualFile file = files.get(i);
+        indicator.setFraction((double) i / files.size());
+        indicator.setText2(file.getPresentableUrl());
+
+        ReadAction.nonBlocking(() -> warmUpFile(project, file))
+            .inSmartMode(project)
+            .wrapProgress(indicator)
+            .executeSynchronously();
+      }
+    }
+  }
+}
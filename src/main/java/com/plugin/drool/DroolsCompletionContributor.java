@@ -310,6 +310,43 @@ public class DroolsCompletionContributor extends CompletionContributor {
       if (ruleBlock != null) {
         addBindingVariables(ruleBlock, result);
       }
+
+      // Also suggest the globals and functions of the package, from any of its files
+      DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(parameters.getOriginalFile());
+      if (symbols != null) {
+        addPackageSymbols(symbols, result);
+      }
+    }
+
+    private void addPackageSymbols(
+        @NotNull DroolsPackageSymbols symbols, @NotNull CompletionResultSet result) {
+      for (Map.Entry<String, DroolsGlobalDecl> entry : symbols.getGlobals().entrySet()) {
+        String typeText = entry.getValue().getTypeText();
+        result.addElement(
+            PrioritizedLookupElement.withPriority(
+                LookupElementBuilder.create(entry.getValue(), entry.getKey())
+                    .withTypeText(typeText != null ? typeText : OBJECT, true)
+                    .withIcon(AllIcons.Nodes.Gvariable),
+                85));
+      }
+      for (Map.Entry<String, DroolsFunctionDef> entry : symbols.getFunctions().entrySet()) {
+        DroolsFunctionDef function = entry.getValue();
+        String returnType = function.getReturnTypeText();
+        result.addElement(
+            PrioritizedLookupElement.withPriority(
+                LookupElementBuilder.create(function, entry.getKey())
+                    .withTailText("(" + String.join(", ", function.getParameterTexts()) + ")", true)
+                    .withTypeText(returnType != null ? returnType : "void", true)
+                    .withIcon(AllIcons.Nodes.Function)
+                    .withInsertHandler(
+                        (ctx, item) -> {
+                          Document doc = ctx.getDocument();
+                          int offset = ctx.getTailOffset();
+                          doc.insertString(offset, "()");
+                          ctx.getEditor().getCaretModel().moveToOffset(offset + 1);
+                        }),
+                85));
+      }
     }
 
     private void addLocalVariables(
@@ -386,8 +423,8 @@ public class DroolsCompletionContributor extends CompletionContributor {
       Project project = position.getProject();
       PsiFile file = parameters.getOriginalFile();
 
-      // Collect already-imported class names for prioritization
-      Set<String> importedClassNames = getImportedClassNames(file);
+      // Already-imported classes are prioritized
+      DroolsImportTable imports = DroolsImportTable.forFile(file);
 
       // Get search scope
       GlobalSearchScope scope = getSearchScope(position, project);
@@ -416,8 +453,8 @@ public class DroolsCompletionContributor extends CompletionContributor {
           if (psiClass.getName() == null || psiClass.getName().isEmpty()) continue;
 
           boolean isImported =
-              importedClassNames.contains(qualifiedName)
-                  || importedClassNames.contains(className)
+              imports.isImported(qualifiedName)
+                  || imports.isImportedBySimpleName(className)
                   || isJavaLangClass(qualifiedName);
 
           Icon icon = getClassIcon(psiClass);
@@ -562,7 +599,15 @@ public class DroolsCompletionContributor extends CompletionContributor {
         return null;
       }
 
-      // Try to resolve as a class name directly (for static access like Integer.)
+      // A global of the package (results.), else a class for static access (Integer.)
+      DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(context);
+      DroolsGlobalDecl global = symbols != null ? symbols.findGlobal(text) : null;
+      if (global != null) {
+        PsiClass globalType = DroolsPackageSymbols.resolveGlobalType(global);
+        if (globalType != null) {
+          return globalType;
+        }
+      }
       return resolveClassName(text, context, project);
     }
 
@@ -592,7 +637,7 @@ public class DroolsCompletionContributor extends CompletionContributor {
       // If there are chained segments (e.g. "$x.member"), resolve each one iteratively
       for (int i = 1; i < segments.length; i++) {
         String memberName = segments[i];
-        currentClass = resolveMemberType(currentClass, memberName, context, project);
+        currentClass = DroolsMemberTable.forClass(currentClass).getMemberType(memberName);
         if (currentClass == null) return null;
       }
 
@@ -614,97 +659,8 @@ public class DroolsCompletionContributor extends CompletionContributor {
       return null;
     }
 
-    /**
-     * Resolves a member name (property/field/getter) on a given class to the PsiClass of its return
-     * type. Used for chained access like "$x.address" where we need to find the type of "address"
-     * on the class that $x is bound to.
-     */
-    private PsiClass resolveMemberType(
-        PsiClass ownerClass, String memberName, PsiElement context, Project project) {
-      // Try getter methods: getXxx() or isXxx()
-      String capitalizedName =
-          memberName.isEmpty()
-              ? memberName
-              : Character.toUpperCase(memberName.charAt(0)) + memberName.substring(1);
-      String getterName = "get" + capitalizedName;
-      String booleanGetterName = "is" + capitalizedName;
-
-      for (PsiMethod method : ownerClass.getAllMethods()) {
-        if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (method.getParameterList().getParametersCount() != 0) continue;
-
-        String methodName = method.getName();
-        if (methodName.equals(getterName) || methodName.equals(booleanGetterName)) {
-          PsiType returnType = method.getReturnType();
-          if (returnType != null) {
-            PsiClass resolved = resolveTypeToClass(returnType, context, project);
-            if (resolved != null) return resolved;
-          }
-        }
-      }
-
-      // Try direct method match (e.g. member name IS the method name)
-      for (PsiMethod method : ownerClass.getAllMethods()) {
-        if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (method.getParameterList().getParametersCount() != 0) continue;
-        if (method.getName().equals(memberName)) {
-          PsiType returnType = method.getReturnType();
-          if (returnType != null) {
-            PsiClass resolved = resolveTypeToClass(returnType, context, project);
-            if (resolved != null) return resolved;
-          }
-        }
-      }
-
-      // Try public fields
-      for (PsiField field : ownerClass.getAllFields()) {
-        if (!field.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (field.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (field.getName().equals(memberName)) {
-          PsiType fieldType = field.getType();
-          PsiClass resolved = resolveTypeToClass(fieldType, context, project);
-          if (resolved != null) return resolved;
-        }
-      }
-
-      return null;
-    }
-
-    /** Resolves a PsiType to its PsiClass. Handles class types by extracting the resolved class. */
-    private PsiClass resolveTypeToClass(PsiType type, PsiElement context, Project project) {
-      if (type instanceof com.intellij.psi.PsiClassType classType) {
-        return classType.resolve();
-      }
-      return null;
-    }
-
     private PsiClass resolveClassName(String className, PsiElement context, Project project) {
-      DroolsResolutionCache cache = DroolsResolutionCache.getInstance(project);
-
-      // Try fully qualified name first
-      PsiClass resolved = cache.resolveClass(className, context);
-      if (resolved != null) return resolved;
-
-      // Try with imports from the file
-      PsiFile file = context.getContainingFile();
-      if (file instanceof DroolsPsiFile droolsFile) {
-        for (DroolsImportStatement importStmt : droolsFile.getImports()) {
-          DroolsImportPath importPath = importStmt.getImportPath();
-          if (importPath != null) {
-            String path = importPath.getText();
-            if (path.endsWith("." + className) || path.equals(className)) {
-              resolved = cache.resolveClass(path, context);
-              if (resolved != null) return resolved;
-            }
-          }
-        }
-      }
-
-      // Try java.lang
-      resolved = cache.resolveClass(JAVA_DOT_LANG_DOT + className, context);
-      return resolved;
+      return DroolsImportTable.forElement(context).resolveClass(className, context);
     }
 
     private boolean isStaticContext(String text, PsiElement context, Project project) {
@@ -733,38 +689,18 @@ public class DroolsCompletionContributor extends CompletionContributor {
     }
 
     private void addBeanProperties(PsiClass psiClass, CompletionResultSet result) {
-      Set<String> addedProperties = new HashSet<>();
-      for (PsiMethod method : psiClass.getAllMethods()) {
-        if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
-
-        String name = method.getName();
-        String propertyName = null;
-        if (name.startsWith("get") && name.length() > 3 && method.getParameterList().isEmpty()) {
-          propertyName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
-        } else if (name.startsWith("is")
-            && name.length() > 2
-            && method.getParameterList().isEmpty()) {
-          propertyName = Character.toLowerCase(name.charAt(2)) + name.substring(3);
-        }
-
-        if (propertyName != null && addedProperties.add(propertyName)) {
-          PsiType returnType = method.getReturnType();
-          String typeText = returnType != null ? returnType.getPresentableText() : OBJECT;
-          result.addElement(
-              LookupElementBuilder.create(propertyName)
-                  .withTypeText(typeText, true)
-                  .withIcon(AllIcons.Nodes.Property));
-        }
-      }
-      // Also add public fields
-      for (PsiField field : psiClass.getAllFields()) {
-        if (!field.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (field.hasModifierProperty(PsiModifier.STATIC)) continue;
-        String fieldName = field.getName();
-        if (addedProperties.add(fieldName)) {
+      for (DroolsMemberTable.BeanProperty property :
+          DroolsMemberTable.forClass(psiClass).getBeanProperties()) {
+        if (property.member() instanceof PsiField field) {
           result.addElement(createFieldLookup(field));
+          continue;
         }
+        PsiType type = property.type();
+        String typeText = type != null ? type.getPresentableText() : OBJECT;
+        result.addElement(
+            LookupElementBuilder.create(property.name())
+                .withTypeText(typeText, true)
+                .withIcon(AllIcons.Nodes.Property));
       }
     }
 
@@ -981,28 +917,6 @@ public class DroolsCompletionContributor extends CompletionContributor {
         .withIcon(AllIcons.Nodes.EntryPoints);
   }
 
-  /** Gets the set of fully qualified class names that are already imported in the file. */
-  private static Set<String> getImportedClassNames(PsiFile file) {
-    Set<String> imported = new HashSet<>();
-    if (file instanceof DroolsPsiFile droolsFile) {
-      for (DroolsImportStatement importStmt : droolsFile.getImports()) {
-        DroolsImportPath importPath = importStmt.getImportPath();
-        if (importPath != null) {
-          String path = importPath.getText();
-          if (path != null && !path.isEmpty()) {
-            imported.add(path);
-            // Also add the simple name
-            int lastDot = path.lastIndexOf('.');
-            if (lastDot > 0) {
-              imported.add(path.substring(lastDot + 1));
-            }
-          }
-        }
-      }
-    }
-    return imported;
-  }
-
   /** Gets the appropriate search scope for class resolution. */
   private static GlobalSearchScope getSearchScope(PsiElement element, Project project) {
     Module module = ModuleUtilCore.findModuleForPsiElement(element);
@@ -1037,11 +951,8 @@ public class DroolsCompletionContributor extends CompletionContributor {
       if (!(file instanceof DroolsPsiFile droolsFile)) return;
 
       // Check if already imported
-      for (DroolsImportStatement importStmt : droolsFile.getImports()) {
-        DroolsImportPath importPath = importStmt.getImportPath();
-        if (importPath != null && qualifiedName.equals(importPath.getText())) {
-          return; // Already imported
-        }
+      if (DroolsImportTable.forFile(droolsFile).isImported(qualifiedName)) {
+        return;
       }
 
       // Insert import statement
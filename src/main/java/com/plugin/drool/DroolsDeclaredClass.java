@@ -0,0 +1,161 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementFactory;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypes;
+import com.intellij.psi.impl.light.LightFieldBuilder;
+import com.intellij.psi.impl.light.LightMethodBuilder;
+import com.intellij.psi.impl.light.LightPsiClassBuilder;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.plugin.drool.index.DroolsDeclaredTypeIndex;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.stubs.DroolsDeclareBlockStub;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Light {@link PsiClass} for a type declared with {@code declare}, so completion, references and
+ * the annotator see it like any Java class: a private field plus a public getter and setter per
+ * declared field, and the {@code extends} type as super class.
+ *
+ * <p>Built from the declare block's stub, so the declaring file is not parsed, and cached on the
+ * block until its file, Java PSI or the project roots change. Members navigate to the declare
+ * block.
+ */
+public final class DroolsDeclaredClass extends LightPsiClassBuilder {
+
+  private final String qualifiedName;
+
+  private DroolsDeclaredClass(
+      @NotNull DroolsDeclareBlock declare, @NotNull String name, @NotNull String qualifiedName) {
+    super(declare, name);
+    this.qualifiedName = qualifiedName;
+    setNavigationElement(declare);
+    getModifierList().addModifier(PsiModifier.PUBLIC);
+  }
+
+  /**
+   * Returns the class of a declare block, building it on first use after each change. Returns null
+   * for a block without a name, or when called again while the same block is being built, as for
+   * a type that (indirectly) extends itself.
+   */
+  @Nullable
+  public static PsiClass forDeclare(@NotNull DroolsDeclareBlock declare) {
+    return RecursionManager.doPreventingRecursion(
+        declare,
+        false,
+        () ->
+            CachedValuesManager.getCachedValue(
+                declare,
+                () ->
+                    CachedValueProvider.Result.create(
+                        build(declare),
+                        declare.getContainingFile(),
+                        DroolsResolutionCache.getInstance(declare.getProject())
+                            .getClassDependencyTracker())));
+  }
+
+  @Nullable
+  @Override
+  public String getQualifiedName() {
+    return qualifiedName;
+  }
+
+  @Nullable
+  private static DroolsDeclaredClass build(@NotNull DroolsDeclareBlock declare) {
+    String name = declare.getDeclaredName();
+    if (name == null) {
+      return null;
+    }
+    DroolsImportTable imports = DroolsImportTable.forElement(declare);
+    DroolsDeclaredClass psiClass =
+        new DroolsDeclaredClass(
+            declare, name, DroolsDeclaredTypeIndex.fqn(imports.getPackageName(), name));
+
+    String superTypeName = declare.getSuperTypeName();
+    if (superTypeName != null) {
+      PsiClass superClass = imports.resolveClass(superTypeName, declare);
+      if (superClass != null) {
+        psiClass.getExtendsList().addReference(superClass);
+      }
+    }
+
+    Project project = declare.getProject();
+    PsiManager manager = PsiManager.getInstance(project);
+    PsiElementFactory factory = JavaPsiFacade.getElementFactory(project);
+    for (DroolsDeclareBlockStub.DeclaredField field : declare.getDeclaredFields()) {
+      PsiType type = toPsiType(field.typeText(), imports, declare, factory);
+
+      LightFieldBuilder psiField = new LightFieldBuilder(field.name(), type, declare);
+      psiField.setModifiers(PsiModifier.PRIVATE);
+      psiField.setContainingClass(psiClass);
+      psiClass.addField(psiField);
+
+      LightMethodBuilder getter =
+          new LightMethodBuilder(manager, PropertyUtilBase.suggestGetterName(field.name(), type))
+              .setMethodReturnType(type)
+              .addModifier(PsiModifier.PUBLIC)
+              .setContainingClass(psiClass);
+      getter.setNavigationElement(declare);
+      psiClass.addMethod(getter);
+
+      LightMethodBuilder setter =
+          new LightMethodBuilder(manager, PropertyUtilBase.suggestSetterName(field.name()))
+              .setMethodReturnType(PsiTypes.voidType())
+              .addParameter(field.name(), type)
+              .addModifier(PsiModifier.PUBLIC)
+              .setContainingClass(psiClass);
+      setter.setNavigationElement(declare);
+      psiClass.addMethod(setter);
+    }
+    return psiClass;
+  }
+
+  /**
+   * Converts a field type as written ({@code int}, {@code Customer}, {@code List<String>}, {@code
+   * String[]}) to a type, resolving class names through the file's imports. Type arguments are
+   * dropped; a class that does not resolve becomes an unresolved class type of that name.
+   */
+  @NotNull
+  private static PsiType toPsiType(
+      @NotNull String typeText,
+      @NotNull DroolsImportTable imports,
+      @NotNull DroolsDeclareBlock declare,
+      @NotNull PsiElementFactory factory) {
+    String text = typeText.replace(" ", "");
+    int dimensions = 0;
+    while (text.endsWith("[]")) {
+      text = text.substring(0, text.length() - 2);
+      dimensions++;
+    }
+    int typeArguments = text.indexOf('<');
+    if (typeArguments >= 0) {
+      text = text.substring(0, typeArguments);
+    }
+
+    PsiType type;
+    if (TypeConversionUtil.isPrimitive(text)) {
+      type = factory.createPrimitiveTypeFromText(text);
+    } else {
+      PsiClass psiClass = text.isEmpty() ? null : imports.resolveClass(text, declare);
+      type =
+          psiClass != null
+              ? factory.createType(psiClass)
+              : factory.createTypeByFQClassName(
+                  text.isEmpty() ? "java.lang.Object" : text, declare.getResolveScope());
+    }
+    for (int i = 0; i < dimensions; i++) {
+      type = type.createArrayType();
+    }
+    return type;
+  }
+}
@@ -0,0 +1,89 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.plugin.drool.index.DroolsFactUsageIndex;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gutter icon on Java classes that are pattern-matched by rules, opening a "Rules matching this
+ * fact" popup.
+ *
+ * <p>Whether a class gets the icon is answered by {@link DroolsFactUsageIndex} alone. The rules
+ * themselves are only looked up when the popup opens, and are taken from the stubs of the rule
+ * files, so neither step parses any .drl file.
+ */
+public class DroolsFactLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+  @Override
+  protected void collectNavigationMarkers(
+      @NotNull PsiElement element,
+      @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
+    if (!(element instanceof PsiIdentifier)
+        || !(element.getParent() instanceof PsiClass psiClass)
+        || psiClass.getNameIdentifier() != element) {
+      return;
+    }
+    String fqn = psiClass.getQualifiedName();
+    Project project = element.getProject();
+    if (fqn == null || DumbService.isDumb(project)) {
+      return;
+    }
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    if (!DroolsFactUsageIndex.hasUsages(fqn, scope)) {
+      return;
+    }
+
+    NavigationGutterIconBuilder<PsiElement> builder =
+        NavigationGutterIconBuilder.create(DroolsFileType.getInstance().getIcon())
+            .setTargets(NotNullLazyValue.lazy(() -> findMatchingRules(project, fqn, scope)))
+            .setPopupTitle("Rules matching this fact")
+            .setTooltipText("Navigate to rules matching " + psiClass.getName());
+    result.add(builder.createLineMarkerInfo(element));
+  }
+
+  /** Returns the rules with a fact pattern of class {@code fqn}, once per rule, in index order. */
+  @NotNull
+  static List<DroolsRuleBlock> findMatchingRules(
+      @NotNull Project project, @NotNull String fqn, @NotNull GlobalSearchScope scope) {
+    Map<VirtualFile, Set<String>> ruleNamesByFile = new LinkedHashMap<>();
+    for (DroolsFactUsageIndex.RuleUsage usage :
+        DroolsFactUsageIndex.findUsages(project, fqn, scope)) {
+      ruleNamesByFile
+          .computeIfAbsent(usage.file(), file -> new LinkedHashSet<>())
+          .add(usage.ruleName());
+    }
+
+    List<DroolsRuleBlock> rules = new ArrayList<>();
+    PsiManager psiManager = PsiManager.getInstance(project);
+    for (Map.Entry<VirtualFile, Set<String>> entry : ruleNamesByFile.entrySet()) {
+      PsiFile file = entry.getKey().isValid() ? psiManager.findFile(entry.getKey()) : null;
+      if (!(file instanceof DroolsPsiFile droolsFile)) continue;
+      for (DroolsRuleBlock rule : droolsFile.getRules()) {
+        if (entry.getValue().contains(rule.getNameString())) {
+          rules.add(rule);
+        }
+      }
+    }
+    return rules;
+  }
+}
@@ -0,0 +1,138 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.plugin.drool.psi.DroolsLazyElementType;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.util.DroolsChars;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * File-level facts the annotator and inspections need, collected in one pass over the file: which
+ * rule names repeat within the file, which identifiers the file uses outside its package and
+ * import statements, and which string literals are unterminated. Binding occurrences are per rule,
+ * see {@link DroolsRuleBindings}.
+ *
+ * <p>Built once per file modification and cached on the file like {@link DroolsImportTable}, so
+ * each check is a lookup instead of a rescan of the file. The pass reads the leaves of each
+ * top-level item ({@link DroolsChars#forEachLeaf}), which are the lexer's tokens, so no item's text
+ * is copied. A then clause or function body that nothing else has parsed yet is one leaf; its
+ * tokens are lexed from the text it holds, so it is not expanded.
+ */
+public final class DroolsFileAnalysis {
+
+  private static final DroolsFileAnalysis EMPTY = new DroolsFileAnalysis();
+
+  /** Rules whose name is already taken by an earlier rule of the file. */
+  private final Set<PsiElement> duplicateRules = new HashSet<>();
+
+  /** Identifiers used anywhere outside the package declaration and the imports. */
+  private final Set<String> usedIdentifiers = new HashSet<>();
+
+  /** Ranges of string literals that are not terminated. */
+  private final List<TextRange> unterminatedStrings = new ArrayList<>();
+
+  private DroolsFileAnalysis() {}
+
+  private DroolsFileAnalysis(@NotNull DroolsPsiFile file) {
+    Map<String, PsiElement> firstRuleByName = new HashMap<>();
+    Lexer lexer = new DroolsLexerAdapter();
+    for (ASTNode item = file.getNode().getFirstChildNode();
+        item != null;
+        item = item.getTreeNext()) {
+      if (item.getElementType() == DroolsTypes.COMMENT) continue;
+      PsiElement psi = item.getPsi();
+      if (psi instanceof DroolsRuleBlock rule) {
+        String name = rule.getNameString();
+        if (!name.isEmpty() && firstRuleByName.putIfAbsent(name, rule) != null) {
+          duplicateRules.add(rule);
+        }
+      }
+      boolean declaration =
+          item.getElementType() == DroolsTypes.PACKAGE_DECL
+              || item.getElementType() == DroolsTypes.IMPORT_STATEMENT;
+      scanTokens(lexer, item, declaration);
+    }
+  }
+
+  /** Records the strings and identifiers among the tokens of one top-level item. */
+  private void scanTokens(@NotNull Lexer lexer, @NotNull ASTNode item, boolean declaration) {
+    DroolsChars.forEachLeaf(
+        item,
+        leaf -> {
+          CharSequence text = leaf.getChars();
+          if (!(leaf.getElementType() instanceof DroolsLazyElementType)) {
+            scanToken(leaf.getElementType(), text, 0, text.length(), leaf, declaration);
+            return;
+          }
+          // An unparsed body starts and ends at token boundaries, so its text lexes on its own
+          lexer.start(text);
+          for (IElementType type; (type = lexer.getTokenType()) != null; lexer.advance()) {
+            scanToken(type, text, lexer.getTokenStart(), lexer.getTokenEnd(), leaf, declaration);
+          }
+        });
+  }
+
+  private void scanToken(
+      @NotNull IElementType type,
+      @NotNull CharSequence text,
+      int start,
+      int end,
+      @NotNull ASTNode leaf,
+      boolean declaration) {
+    if (type == DroolsTypes.STRING) {
+      String literal = text.subSequence(start, end).toString();
+      if (!DroolsAnnotator.isWellFormedStringLiteral(literal)) {
+        int offset = leaf.getStartOffset();
+        unterminatedStrings.add(new TextRange(offset + start, offset + end));
+      }
+    } else if (type == DroolsTypes.IDENTIFIER && !declaration) {
+      usedIdentifiers.add(text.subSequence(start, end).toString());
+    }
+  }
+
+  /** Returns the analysis of the given file, building it on first use after each modification. */
+  @NotNull
+  public static DroolsFileAnalysis forFile(@Nullable PsiFile file) {
+    if (!(file instanceof DroolsPsiFile droolsFile)) {
+      return EMPTY;
+    }
+    return CachedValuesManager.getCachedValue(
+        droolsFile,
+        () -> CachedValueProvider.Result.create(new DroolsFileAnalysis(droolsFile), droolsFile));
+  }
+
+  /** Returns whether an earlier rule of the same file has the same name as {@code rule}. */
+  public boolean isDuplicateInFile(@NotNull DroolsRuleBlock rule) {
+    return duplicateRules.contains(rule);
+  }
+
+  /**
+   * Returns whether {@code identifier} occurs as a token outside the package declaration and the
+   * imports. String literals and comments do not count.
+   */
+  public boolean isIdentifierUsed(@NotNull String identifier) {
+    return usedIdentifiers.contains(identifier);
+  }
+
+  /** Returns the ranges of the file's unterminated string literals, in file order. */
+  @NotNull
+  public List<TextRange> getUnterminatedStrings() {
+    return Collections.unmodifiableList(unterminatedStrings);
+  }
+}
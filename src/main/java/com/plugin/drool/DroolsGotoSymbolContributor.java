@@ -0,0 +1,43 @@
+package com.plugin.drool;
+
+import com.intellij.navigation.ChooseByNameContributorEx;
+import com.intellij.navigation.NavigationItem;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.FindSymbolParameters;
+import com.intellij.util.indexing.IdFilter;
+import com.plugin.drool.index.DroolsSymbolNameIndex;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Go to Symbol and Search Everywhere contributor for rules, queries, functions and declared types.
+ *
+ * <p>Names come straight from the keys of {@link DroolsSymbolNameIndex}; the platform matches them
+ * against the typed pattern (camel humps, fuzzy, wildcards) and asks for elements of the matching
+ * names only. Both steps feed processors, so results stream into the popup as they are found and
+ * stop as soon as the popup has enough or is closed.
+ */
+public class DroolsGotoSymbolContributor implements ChooseByNameContributorEx {
+
+  @Override
+  public void processNames(
+      @NotNull Processor<? super String> processor,
+      @NotNull GlobalSearchScope scope,
+      @Nullable IdFilter filter) {
+    DroolsSymbolNameIndex.processNames(processor, scope, filter);
+  }
+
+  @Override
+  public void processElementsWithName(
+      @NotNull String name,
+      @NotNull Processor<? super NavigationItem> processor,
+      @NotNull FindSymbolParameters parameters) {
+    DroolsSymbolNameIndex.processSymbols(
+        parameters.getProject(),
+        name,
+        parameters.getSearchScope(),
+        parameters.getIdFilter(),
+        processor);
+  }
+}
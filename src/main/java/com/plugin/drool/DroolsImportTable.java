@@ -0,0 +1,245 @@
+package com.plugin.drool;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.plugin.drool.index.DroolsDeclaredTypeIndex;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.DroolsImportStatement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.plugin.drool.util.DroolsConstants.JAVA_DOT_LANG_DOT;
+
+/**
+ * Name-resolution table for a single .drl file: explicit imports by simple name, wildcard
+ * packages, types declared with {@code declare}, the file's own package, and the implicit {@code
+ * java.lang} package.
+ *
+ * <p>Built once per file modification and cached on the file, so resolving an identifier is a map
+ * lookup instead of a scan over every import statement. Shared by the annotator, completion and
+ * reference resolution so all three resolve names the same way.
+ */
+public final class DroolsImportTable {
+
+  private static final DroolsImportTable EMPTY = new DroolsImportTable();
+
+  private final String packageName;
+
+  /** Simple name -> FQN for single-class imports. The first import of a simple name wins. */
+  private final Map<String, String> explicitImports = new HashMap<>();
+
+  /** Packages imported with {@code .*}, in declaration order. */
+  private final List<String> wildcardPackages = new ArrayList<>();
+
+  /** Every import path text; used for "already imported" checks. */
+  private final Set<String> importPaths = new HashSet<>();
+
+  /** First import statement for each path; later ones with the same path are duplicates. */
+  private final Map<String, DroolsImportStatement> firstImportByPath = new HashMap<>();
+
+  /** Simple name -> FQN for types declared in this file. */
+  private final Map<String, String> declaredTypes = new HashMap<>();
+
+  private DroolsImportTable() {
+    this("");
+  }
+
+  private DroolsImportTable(@NotNull String packageName) {
+    this.packageName = packageName;
+  }
+
+  private DroolsImportTable(@NotNull DroolsPsiFile file) {
+    this(file.getPackageName());
+
+    for (DroolsImportStatement importStmt : file.getImports()) {
+      String path = importStmt.getImportPathString().trim();
+      if (path.isEmpty()) continue;
+
+      firstImportByPath.putIfAbsent(path, importStmt);
+      addImport(path);
+    }
+
+    for (DroolsDeclareBlock declare : file.getDeclares()) {
+      String name = declare.getDeclaredName();
+      if (name != null) {
+        addDeclaredType(name);
+      }
+    }
+  }
+
+  private void addImport(@NotNull String path) {
+    importPaths.add(path);
+    if (path.endsWith(".*")) {
+      wildcardPackages.add(path.substring(0, path.length() - 2));
+    } else {
+      explicitImports.putIfAbsent(getSimpleName(path), path);
+    }
+  }
+
+  private void addDeclaredType(@NotNull String name) {
+    declaredTypes.putIfAbsent(name, DroolsDeclaredTypeIndex.fqn(packageName, name));
+  }
+
+  /**
+   * Returns the import table of the given file, building it on first use after each modification.
+   * Files of other languages get an empty table.
+   */
+  @NotNull
+  public static DroolsImportTable forFile(@Nullable PsiFile file) {
+    if (!(file instanceof DroolsPsiFile droolsFile)) {
+      return EMPTY;
+    }
+    return CachedValuesManager.getCachedValue(
+        droolsFile,
+        () -> CachedValueProvider.Result.create(new DroolsImportTable(droolsFile), droolsFile));
+  }
+
+  /**
+   * Returns a table built from a file's header as written: its package, the paths of its import
+   * statements and the names of its declare blocks, in file order. For indexers, which must not
+   * build PSI; {@link #isDuplicate} is always false on such a table.
+   */
+  @NotNull
+  public static DroolsImportTable fromHeader(
+      @NotNull String packageName,
+      @NotNull List<String> importPaths,
+      @NotNull List<String> declaredNames) {
+    DroolsImportTable table = new DroolsImportTable(packageName);
+    for (String path : importPaths) {
+      if (!path.isEmpty()) {
+        table.addImport(path);
+      }
+    }
+    for (String name : declaredNames) {
+      table.addDeclaredType(name);
+    }
+    return table;
+  }
+
+  /** Returns the table of the file that contains {@code element}. */
+  @NotNull
+  public static DroolsImportTable forElement(@NotNull PsiElement element) {
+    return forFile(element.getContainingFile());
+  }
+
+  /** Returns the package declared by the file, or an empty string for the default package. */
+  @NotNull
+  public String getPackageName() {
+    return packageName;
+  }
+
+  /** Returns the FQN of a single-class import with the given simple name, or null. */
+  @Nullable
+  public String getImportedFqn(@NotNull String simpleName) {
+    return explicitImports.get(simpleName);
+  }
+
+  /** Returns the packages imported with wildcards, in declaration order. */
+  @NotNull
+  public List<String> getWildcardPackages() {
+    return Collections.unmodifiableList(wildcardPackages);
+  }
+
+  /** Returns true if the exact path (an FQN or a {@code pkg.*} wildcard) is imported. */
+  public boolean isImported(@NotNull String path) {
+    return importPaths.contains(path);
+  }
+
+  /** Returns true if {@code simpleName} is imported explicitly by a single-class import. */
+  public boolean isImportedBySimpleName(@NotNull String simpleName) {
+    return explicitImports.containsKey(simpleName);
+  }
+
+  /**
+   * Returns true if {@code importStmt} repeats the path of an earlier import statement in the same
+   * file.
+   */
+  public boolean isDuplicate(@NotNull DroolsImportStatement importStmt, @NotNull String path) {
+    DroolsImportStatement first = firstImportByPath.get(path);
+    return first != null && first != importStmt;
+  }
+
+  /** Returns the FQN of a type declared with {@code declare} in this file, or null. */
+  @Nullable
+  public String getDeclaredTypeFqn(@NotNull String simpleName) {
+    return declaredTypes.get(simpleName);
+  }
+
+  /** Returns true if a type with this simple name is declared with {@code declare} in the file. */
+  public boolean isDeclaredType(@NotNull String simpleName) {
+    return declaredTypes.containsKey(simpleName);
+  }
+
+  /**
+   * Returns the fully qualified names a class name as written in the file may denote, in the order
+   * {@link #resolveClass} tries them, without consulting the classpath. As in Java, a single-class
+   * import or a declared type of that name is the only candidate, even if it does not resolve.
+   * Otherwise the candidates are the name itself and, for a simple name, the name in the file's
+   * package, in each wildcard package, and in {@code java.lang}.
+   *
+   * <p>This is the one definition of how the file qualifies names: {@link #resolveClass} and the
+   * fact usage index both go through it, so they always agree.
+   */
+  @NotNull
+  public List<String> getCandidateFqns(@NotNull String name) {
+    String imported = explicitImports.get(name);
+    if (imported != null) {
+      return List.of(imported);
+    }
+    String declared = declaredTypes.get(name);
+    if (declared != null) {
+      return List.of(declared);
+    }
+    if (name.indexOf('.') >= 0) {
+      return List.of(name);
+    }
+    List<String> candidates = new ArrayList<>(wildcardPackages.size() + 3);
+    candidates.add(name);
+    if (!packageName.isEmpty()) {
+      candidates.add(packageName + "." + name);
+    }
+    for (String wildcardPackage : wildcardPackages) {
+      candidates.add(wildcardPackage + "." + name);
+    }
+    candidates.add(JAVA_DOT_LANG_DOT + name);
+    return candidates;
+  }
+
+  /**
+   * Resolves a class name as written in the file by trying its {@link #getCandidateFqns candidate
+   * FQNs} in order. Lookups go through {@link DroolsResolutionCache}, so repeated misses on
+   * wildcard packages are cheap, and declared types of the package resolve from the declared type
+   * index.
+   *
+   * @param name the simple or qualified class name
+   * @param context the element the name appears in; determines the module scope
+   * @return the resolved class, or null
+   */
+  @Nullable
+  public PsiClass resolveClass(@NotNull String name, @NotNull PsiElement context) {
+    DroolsResolutionCache cache = DroolsResolutionCache.getInstance(context.getProject());
+    for (String fqn : getCandidateFqns(name)) {
+      PsiClass resolved = cache.resolveClass(fqn, context);
+      if (resolved != null) {
+        return resolved;
+      }
+    }
+    return null;
+  }
+
+  @NotNull
+  private static String getSimpleName(@NotNull String path) {
+    int lastDot = path.lastIndexOf('.');
+    return lastDot >= 0 ? path.substring(lastDot + 1) : path;
+  }
+}
@@ -0,0 +1,195 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.plugin.drool.index.DroolsKModuleIndex;
+import com.plugin.drool.index.DroolsKModuleIndex.KieBase;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The KieBases of the project, as declared by the {@code META-INF/kmodule.xml} files indexed by
+ * {@link DroolsKModuleIndex}, and the KieBases each rule file belongs to.
+ *
+ * <p>A rule file belongs to the KieBases of its module's kmodule.xml whose {@code packages} match
+ * the file's resource folder, and to every KieBase that includes one of those, directly or through
+ * other includes. Like Drools, the folder relative to its source or resource root is matched, not
+ * the {@code package} declaration, which only falls back for files outside source roots. Rules,
+ * globals and functions of two files only meet at runtime if the files share a KieBase, which is
+ * what {@link #shareKieBase} answers.
+ *
+ * <p>The model is cached on the project until a kmodule.xml, the file structure, the project roots
+ * or the indexing state changes. Membership is memoized per module and folder, so after the first
+ * file of a folder each lookup is a hash map access. Files of modules without a kmodule.xml have
+ * no KieBases ({@code null}) and keep the package-wide behavior Drools uses for them.
+ */
+public final class DroolsKieBaseModel {
+
+  private static final DroolsKieBaseModel EMPTY =
+      new DroolsKieBaseModel(Collections.emptyMap(), Collections.emptyMap());
+
+  /** KieBases declared by the kmodule.xml of each module, in declaration order. */
+  private final Map<Module, List<KieBase>> kieBasesByModule;
+
+  /** Names of the KieBases that include each KieBase directly, across all modules. */
+  private final Map<String, List<String>> includedBy;
+
+  /** Memoized {@link #getKieBaseNames} results per module and resource folder package. */
+  private final Map<ModulePackage, Set<String>> membership = new ConcurrentHashMap<>();
+
+  private DroolsKieBaseModel(
+      @NotNull Map<Module, List<KieBase>> kieBasesByModule,
+      @NotNull Map<String, List<String>> includedBy) {
+    this.kieBasesByModule = kieBasesByModule;
+    this.includedBy = includedBy;
+  }
+
+  /** Returns the KieBase model of the project, building it on first use after a change. */
+  @NotNull
+  public static DroolsKieBaseModel forProject(@NotNull Project project) {
+    return CachedValuesManager.getManager(project)
+        .getCachedValue(
+            project,
+            () -> {
+              List<Object> dependencies = new ArrayList<>();
+              dependencies.add(VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS);
+              dependencies.add(ProjectRootManager.getInstance(project));
+              dependencies.add(DumbService.getInstance(project).getModificationTracker());
+              DroolsKieBaseModel model = build(project, dependencies);
+              return CachedValueProvider.Result.create(model, dependencies.toArray());
+            });
+  }
+
+  @NotNull
+  private static DroolsKieBaseModel build(
+      @NotNull Project project, @NotNull List<Object> dependencies) {
+    if (DumbService.isDumb(project)) {
+      return EMPTY;
+    }
+    Map<Module, List<KieBase>> kieBasesByModule = new HashMap<>();
+    Map<String, List<String>> includedBy = new HashMap<>();
+    FileDocumentManager documentManager = FileDocumentManager.getInstance();
+    for (VirtualFile file :
+        FilenameIndex.getVirtualFilesByName(
+            DroolsKModuleIndex.KMODULE_FILE_NAME, GlobalSearchScope.projectScope(project))) {
+      if (!DroolsKModuleIndex.isKModuleFile(file)) continue;
+      // Edits are tracked through the document, saves and external changes through the file
+      dependencies.add(file);
+      Document document = documentManager.getDocument(file);
+      if (document != null) {
+        dependencies.add(document);
+      }
+      Module module = ModuleUtilCore.findModuleForFile(file, project);
+      List<KieBase> kieBases = kieBasesByModule.computeIfAbsent(module, key -> new ArrayList<>());
+      for (KieBase kieBase : DroolsKModuleIndex.getKieBases(project, file).values()) {
+        kieBases.add(kieBase);
+        for (String included : kieBase.includes()) {
+          includedBy.computeIfAbsent(included, key -> new ArrayList<>()).add(kieBase.name());
+        }
+      }
+    }
+    if (kieBasesByModule.isEmpty()) {
+      return EMPTY;
+    }
+    return new DroolsKieBaseModel(kieBasesByModule, includedBy);
+  }
+
+  /** Returns whether the project declares any KieBase. */
+  public boolean isEmpty() {
+    return kieBasesByModule.isEmpty();
+  }
+
+  /**
+   * Returns the names of the KieBases that contain {@code file}, or null if its module has no
+   * kmodule.xml. An empty set means the module declares KieBases but none takes the file's folder.
+   */
+  @Nullable
+  public Set<String> getKieBaseNames(@NotNull DroolsPsiFile file) {
+    if (isEmpty()) {
+      return null;
+    }
+    Project project = file.getProject();
+    VirtualFile virtualFile = file.getViewProvider().getVirtualFile();
+    Module module = ModuleUtilCore.findModuleForFile(virtualFile, project);
+    List<KieBase> kieBases = kieBasesByModule.get(module);
+    if (kieBases == null) {
+      return null;
+    }
+    VirtualFile folder = virtualFile.getParent();
+    String folderPackage =
+        folder != null
+            ? ProjectFileIndex.getInstance(project).getPackageNameByDirectory(folder)
+            : null;
+    return membership.computeIfAbsent(
+        new ModulePackage(module, folderPackage != null ? folderPackage : file.getPackageName()),
+        key -> computeKieBaseNames(kieBases, key.packageName()));
+  }
+
+  /**
+   * Returns whether two rule files can end up in the same KieBase. Files without KieBases (see
+   * {@link #getKieBaseNames}) are treated as sharing one with every file, as before kmodule.xml
+   * support.
+   */
+  public boolean shareKieBase(@NotNull DroolsPsiFile file, @Nullable PsiFile other) {
+    if (isEmpty() || !(other instanceof DroolsPsiFile otherFile) || file.equals(other)) {
+      return true;
+    }
+    Set<String> kieBases = getKieBaseNames(file);
+    Set<String> otherKieBases = getKieBaseNames(otherFile);
+    if (kieBases == null || otherKieBases == null) {
+      return true;
+    }
+    for (String kieBase : kieBases) {
+      if (otherKieBases.contains(kieBase)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @NotNull
+  private Set<String> computeKieBaseNames(
+      @NotNull List<KieBase> kieBases, @NotNull String packageName) {
+    Set<String> names = new LinkedHashSet<>();
+    Deque<String> pending = new ArrayDeque<>();
+    for (KieBase kieBase : kieBases) {
+      if (kieBase.containsPackage(packageName) && names.add(kieBase.name())) {
+        pending.add(kieBase.name());
+      }
+    }
+    while (!pending.isEmpty()) {
+      for (String includer : includedBy.getOrDefault(pending.poll(), List.of())) {
+        if (names.add(includer)) {
+          pending.add(includer);
+        }
+      }
+    }
+    return Collections.unmodifiableSet(names);
+  }
+
+  /** Memoization key: a module (null for files outside modules) and a folder package name. */
+  private record ModulePackage(@Nullable Module module, @NotNull String packageName) {}
+}
@@ -0,0 +1,192 @@
+package com.plugin.drool;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMember;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Member lookup table for a single {@link PsiClass}, used to resolve chained dot access such as
+ * {@code $customer.address.city} in both completion and reference resolution.
+ *
+ * <p>The table is built with one pass over {@link PsiClass#getAllMethods()} and {@link
+ * PsiClass#getAllFields()} and cached on the class until Java PSI or the project roots change (see
+ * {@link DroolsResolutionCache#getClassDependencyTracker()}). Member types are resolved lazily and
+ * memoized per member name, so each segment of a chain is a map lookup after the first use.
+ */
+public final class DroolsMemberTable {
+
+  /** Return types of public, non-static, parameterless methods, by method name. */
+  private final Map<String, PsiType> accessorTypes = new HashMap<>();
+
+  /** Types of public, non-static fields, by field name. */
+  private final Map<String, PsiType> fieldTypes = new HashMap<>();
+
+  /** First method of each name in {@link PsiClass#getAllMethods()} order, any visibility. */
+  private final Map<String, PsiMethod> methodsByName = new HashMap<>();
+
+  /** First field of each name in {@link PsiClass#getAllFields()} order, any visibility. */
+  private final Map<String, PsiField> fieldsByName = new HashMap<>();
+
+  /** Bean properties (getter-derived, then public fields) in declaration order. */
+  private final List<BeanProperty> beanProperties;
+
+  /** {@link #beanProperties} by property name. */
+  private final Map<String, BeanProperty> propertiesByName;
+
+  /** Memoized results of {@link #getMemberType(String)}; empty means "does not resolve". */
+  private final Map<String, Optional<PsiClass>> memberTypes = new ConcurrentHashMap<>();
+
+  private DroolsMemberTable(@NotNull PsiClass psiClass) {
+    Map<String, BeanProperty> properties = new LinkedHashMap<>();
+
+    for (PsiMethod method : psiClass.getAllMethods()) {
+      String name = method.getName();
+      methodsByName.putIfAbsent(name, method);
+
+      if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
+      if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
+      if (!method.getParameterList().isEmpty()) continue;
+
+      PsiType returnType = method.getReturnType();
+      if (returnType != null) {
+        accessorTypes.putIfAbsent(name, returnType);
+      }
+      String propertyName = getPropertyName(name);
+      if (propertyName != null) {
+        properties.putIfAbsent(propertyName, new BeanProperty(propertyName, method, returnType));
+      }
+    }
+
+    for (PsiField field : psiClass.getAllFields()) {
+      String name = field.getName();
+      fieldsByName.putIfAbsent(name, field);
+
+      if (!field.hasModifierProperty(PsiModifier.PUBLIC)) continue;
+      if (field.hasModifierProperty(PsiModifier.STATIC)) continue;
+
+      fieldTypes.putIfAbsent(name, field.getType());
+      properties.putIfAbsent(name, new BeanProperty(name, field, field.getType()));
+    }
+
+    this.beanProperties = Collections.unmodifiableList(new ArrayList<>(properties.values()));
+    this.propertiesByName = properties;
+  }
+
+  /** Returns the member table of {@code psiClass}, building it on first use. */
+  @NotNull
+  public static DroolsMemberTable forClass(@NotNull PsiClass psiClass) {
+    return CachedValuesManager.getCachedValue(
+        psiClass,
+        () ->
+            CachedValueProvider.Result.create(
+                new DroolsMemberTable(psiClass),
+                DroolsResolutionCache.getInstance(psiClass.getProject())
+                    .getClassDependencyTracker()));
+  }
+
+  /**
+   * Resolves a member name (property, parameterless method or public field) to the class of its
+   * type. Tries {@code getXxx()}, {@code isXxx()}, a method named exactly {@code memberName}, then
+   * a field.
+   *
+   * @return the class of the member's type, or null if the member does not exist or its type is
+   *     not a class type
+   */
+  @Nullable
+  public PsiClass getMemberType(@NotNull String memberName) {
+    return memberTypes.computeIfAbsent(memberName, this::computeMemberType).orElse(null);
+  }
+
+  /** Returns the first method with the given name, including non-public and inherited ones. */
+  @Nullable
+  public PsiMethod findMethod(@NotNull String name) {
+    return methodsByName.get(name);
+  }
+
+  /** Returns the first field with the given name, including non-public and inherited ones. */
+  @Nullable
+  public PsiField findField(@NotNull String name) {
+    return fieldsByName.get(name);
+  }
+
+  /**
+   * Returns the getter or public field behind a bean property such as {@code address}, or null if
+   * the class has no such property.
+   */
+  @Nullable
+  public PsiMember findPropertyMember(@NotNull String propertyName) {
+    BeanProperty property = propertiesByName.get(propertyName);
+    return property != null ? property.member() : null;
+  }
+
+  /**
+   * Returns the bean properties of the class: one entry per property derived from a public getter
+   * ({@code getXxx()} / {@code isXxx()}), followed by public instance fields not already covered.
+   */
+  @NotNull
+  public List<BeanProperty> getBeanProperties() {
+    return beanProperties;
+  }
+
+  @NotNull
+  private Optional<PsiClass> computeMemberType(@NotNull String memberName) {
+    String capitalizedName =
+        memberName.isEmpty()
+            ? memberName
+            : Character.toUpperCase(memberName.charAt(0)) + memberName.substring(1);
+
+    for (String accessor : new String[] {"get" + capitalizedName, "is" + capitalizedName}) {
+      PsiClass resolved = resolveClassType(accessorTypes.get(accessor));
+      if (resolved != null) {
+        return Optional.of(resolved);
+      }
+    }
+
+    PsiClass resolved = resolveClassType(accessorTypes.get(memberName));
+    if (resolved == null) {
+      resolved = resolveClassType(fieldTypes.get(memberName));
+    }
+    return Optional.ofNullable(resolved);
+  }
+
+  @Nullable
+  private static PsiClass resolveClassType(@Nullable PsiType type) {
+    return type instanceof PsiClassType classType ? classType.resolve() : null;
+  }
+
+  /** Derives the property name from a getter name, or returns null if it is not a getter. */
+  @Nullable
+  private static String getPropertyName(@NotNull String methodName) {
+    if (methodName.startsWith("get") && methodName.length() > 3) {
+      return Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+    }
+    if (methodName.startsWith("is") && methodName.length() > 2) {
+      return Character.toLowerCase(methodName.charAt(2)) + methodName.substring(3);
+    }
+    return null;
+  }
+
+  /**
+   * A bean property: its name, the getter or field that provides it, and its type.
+   *
+   * @param type the property type, or null if the getter has no return type
+   */
+  public record BeanProperty(
+      @NotNull String name, @NotNull PsiMember member, @Nullable PsiType type) {}
+}
@@ -0,0 +1,46 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.application.QueryExecutorBase;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.PsiSearchScopeUtil;
+import com.intellij.psi.search.SearchScope;
+import com.intellij.psi.search.UsageSearchContext;
+import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.util.Processor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds rule file usages of a Java getter written as a bean property, such as {@code
+ * Customer(address != null)} or {@code $c.address}.
+ *
+ * <p>Java's own searchers already find {@code $c.getAddress()} through the word index, but look
+ * for property names in foreign languages only. This searcher asks for the property name as a code
+ * word in .drl files, so the word index narrows the search to the rule files that mention it
+ * before any of them is parsed or resolved.
+ */
+public class DroolsMethodReferencesSearcher
+    extends QueryExecutorBase<PsiReference, MethodReferencesSearch.SearchParameters> {
+
+  public DroolsMethodReferencesSearcher() {
+    super(true);
+  }
+
+  @Override
+  public void processQuery(
+      @NotNull MethodReferencesSearch.SearchParameters queryParameters,
+      @NotNull Processor<? super PsiReference> consumer) {
+    PsiMethod method = queryParameters.getMethod();
+    if (!PropertyUtilBase.isSimplePropertyGetter(method)) {
+      return;
+    }
+    String propertyName = PropertyUtilBase.getPropertyNameByGetter(method);
+    SearchScope scope =
+        PsiSearchScopeUtil.restrictScopeTo(
+            queryParameters.getEffectiveSearchScope(), DroolsFileType.getInstance());
+    queryParameters
+        .getOptimizer()
+        .searchWord(propertyName, scope, UsageSearchContext.IN_CODE, true, method);
+  }
+}
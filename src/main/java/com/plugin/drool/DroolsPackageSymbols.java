@@ -0,0 +1,139 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.plugin.drool.index.DroolsFunctionIndex;
+import com.plugin.drool.index.DroolsGlobalIndex;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Globals and functions visible from a rule file: its own, then those declared by the other rule
+ * files of its package, which Drools shares across the package. When kmodule.xml declares
+ * KieBases, only files sharing a KieBase with this one count (see {@link DroolsKieBaseModel}).
+ *
+ * <p>Other files are found through {@link DroolsGlobalIndex} and {@link DroolsFunctionIndex} and
+ * read from their stubs, so their ASTs are never loaded. The result is cached on the file until
+ * any PSI or the indexing state changes. While indexes are not ready only the file's own symbols
+ * are visible.
+ */
+public final class DroolsPackageSymbols {
+
+  private final Map<String, DroolsGlobalDecl> globals;
+  private final Map<String, DroolsFunctionDef> functions;
+
+  private DroolsPackageSymbols(@NotNull DroolsPsiFile file) {
+    Project project = file.getProject();
+    String packageName = file.getPackageName();
+    boolean smart = !DumbService.isDumb(project);
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+
+    DroolsKieBaseModel kieBases = DroolsKieBaseModel.forProject(project);
+
+    this.globals =
+        collect(
+            file,
+            kieBases,
+            file.getGlobals(),
+            smart ? DroolsGlobalIndex.getGlobals(project, packageName, scope) : List.of(),
+            DroolsGlobalDecl::getGlobalName);
+    this.functions =
+        collect(
+            file,
+            kieBases,
+            file.getFunctions(),
+            smart ? DroolsFunctionIndex.getFunctions(project, packageName, scope) : List.of(),
+            DroolsFunctionDef::getFunctionName);
+  }
+
+  /** Returns the symbols visible from {@code file}, computing them on first use after a change. */
+  @NotNull
+  public static DroolsPackageSymbols forFile(@NotNull DroolsPsiFile file) {
+    return CachedValuesManager.getCachedValue(
+        file,
+        () ->
+            CachedValueProvider.Result.create(
+                new DroolsPackageSymbols(file),
+                PsiModificationTracker.MODIFICATION_COUNT,
+                DumbService.getInstance(file.getProject()).getModificationTracker()));
+  }
+
+  /** Returns the symbols visible from the file of {@code element}, or null outside rule files. */
+  @Nullable
+  public static DroolsPackageSymbols forElement(@NotNull PsiElement element) {
+    PsiFile file = element.getContainingFile();
+    return file instanceof DroolsPsiFile droolsFile ? forFile(droolsFile) : null;
+  }
+
+  /** Returns the visible globals by name; the file's own declarations win over other files. */
+  @NotNull
+  public Map<String, DroolsGlobalDecl> getGlobals() {
+    return globals;
+  }
+
+  /** Returns the visible functions by name; the file's own declarations win over other files. */
+  @NotNull
+  public Map<String, DroolsFunctionDef> getFunctions() {
+    return functions;
+  }
+
+  /** Returns the visible global with the given name, or null. */
+  @Nullable
+  public DroolsGlobalDecl findGlobal(@NotNull String name) {
+    return globals.get(name);
+  }
+
+  /** Returns the visible function with the given name, or null. */
+  @Nullable
+  public DroolsFunctionDef findFunction(@NotNull String name) {
+    return functions.get(name);
+  }
+
+  /** Resolves the declared type of a global through the imports of the file that declares it. */
+  @Nullable
+  public static PsiClass resolveGlobalType(@NotNull DroolsGlobalDecl global) {
+    String typeText = global.getTypeText();
+    if (typeText == null || typeText.isEmpty()) {
+      return null;
+    }
+    return DroolsImportTable.forElement(global).resolveClass(typeText, global);
+  }
+
+  @NotNull
+  private static <T extends PsiElement> Map<String, T> collect(
+      @NotNull DroolsPsiFile file,
+      @NotNull DroolsKieBaseModel kieBases,
+      @NotNull Collection<T> own,
+      @NotNull Collection<T> indexed,
+      @NotNull Function<T, String> nameOf) {
+    Map<String, T> byName = new LinkedHashMap<>();
+    for (T element : own) {
+      String name = nameOf.apply(element);
+      if (name != null) {
+        byName.putIfAbsent(name, element);
+      }
+    }
+    for (T element : indexed) {
+      String name = nameOf.apply(element);
+      if (name != null && kieBases.shareKieBase(file, element.getContainingFile())) {
+        byName.putIfAbsent(name, element);
+      }
+    }
+    return Collections.unmodifiableMap(byName);
+  }
+}
@@ -11,10 +11,11 @@ import com.intellij.psi.PsiFile;
 import com.intellij.psi.tree.IFileElementType;
 import com.intellij.psi.tree.TokenSet;
 import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.stubs.DroolsFileElementType;
 import org.jetbrains.annotations.NotNull;
 
 public class DroolsParserDefinition implements ParserDefinition {
-  public static final IFileElementType FILE = new IFileElementType(DroolsLanguage.INSTANCE);
+  public static final IFileElementType FILE = new DroolsFileElementType();
 
   @NotNull
   @Override
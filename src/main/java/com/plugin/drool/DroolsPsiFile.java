@@ -3,8 +3,13 @@ package com.plugin.drool;
 import com.intellij.extapi.psi.PsiFileBase;
 import com.intellij.openapi.fileTypes.FileType;
 import com.intellij.psi.FileViewProvider;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.IElementType;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.plugin.drool.psi.*;
+import com.plugin.drool.psi.stubs.DroolsFileStub;
+import java.util.Arrays;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +17,9 @@ import org.jetbrains.annotations.Nullable;
 /**
  * PSI File class for Drools .drl files. Provides typed accessor methods for navigating the PSI
  * tree.
+ *
+ * <p>Imports, globals, rules, functions, declares and queries are stub-based: while the AST of the
+ * file is not loaded, their accessors (and the package name) are answered from the stub tree.
  */
 public class DroolsPsiFile extends PsiFileBase implements DroolsFile {
 
@@ -31,39 +39,71 @@ public class DroolsPsiFile extends PsiFileBase implements DroolsFile {
     return PsiTreeUtil.getChildOfType(this, DroolsPackageDecl.class);
   }
 
+  /** Returns the declared package name, or an empty string if the file has none. */
+  @NotNull
+  public String getPackageName() {
+    if (getGreenStub() instanceof DroolsFileStub stub) {
+      String packageName = stub.getPackageName();
+      return packageName != null ? packageName : "";
+    }
+    DroolsPackageDecl packageDecl = getPackageDecl();
+    DroolsQualifiedName qualifiedName = packageDecl != null ? packageDecl.getQualifiedName() : null;
+    return qualifiedName != null ? qualifiedName.getText().trim() : "";
+  }
+
   /** Returns all import statements in the file. */
   @NotNull
   public List<DroolsImportStatement> getImports() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsImportStatement.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.IMPORT_STATEMENT, DroolsImportStatement.class, new DroolsImportStatement[0]);
   }
 
   /** Returns all global declarations in the file. */
   @NotNull
   public List<DroolsGlobalDecl> getGlobals() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsGlobalDecl.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.GLOBAL_DECL, DroolsGlobalDecl.class, new DroolsGlobalDecl[0]);
   }
 
   /** Returns all rule blocks in the file. */
   @NotNull
   public List<DroolsRuleBlock> getRules() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsRuleBlock.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.RULE_BLOCK, DroolsRuleBlock.class, new DroolsRuleBlock[0]);
   }
 
   /** Returns all function definitions in the file. */
   @NotNull
   public List<DroolsFunctionDef> getFunctions() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsFunctionDef.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.FUNCTION_DEF, DroolsFunctionDef.class, new DroolsFunctionDef[0]);
   }
 
   /** Returns all declare blocks in the file. */
   @NotNull
   public List<DroolsDeclareBlock> getDeclares() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsDeclareBlock.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.DECLARE_BLOCK, DroolsDeclareBlock.class, new DroolsDeclareBlock[0]);
   }
 
   /** Returns all query definitions in the file. */
   @NotNull
   public List<DroolsQueryDef> getQueries() {
-    return PsiTreeUtil.getChildrenOfTypeAsList(this, DroolsQueryDef.class);
+    return getStubOrPsiChildren(
+        DroolsTypes.QUERY_DEF, DroolsQueryDef.class, new DroolsQueryDef[0]);
+  }
+
+  /**
+   * Returns the top-level children of the given type from the stub tree if the file has one, and
+   * from the AST otherwise. Either way the elements are in source order.
+   */
+  @NotNull
+  private <T extends PsiElement> List<T> getStubOrPsiChildren(
+      @NotNull IElementType elementType, @NotNull Class<T> psiClass, @NotNull T[] emptyArray) {
+    StubElement<?> stub = getGreenStub();
+    if (stub != null) {
+      return Arrays.asList(stub.getChildrenByType(elementType, emptyArray));
+    }
+    return PsiTreeUtil.getChildrenOfTypeAsList(this, psiClass);
   }
 }
@@ -5,20 +5,19 @@ import com.intellij.openapi.util.TextRange;
 import com.intellij.patterns.ElementPattern;
 import com.intellij.patterns.PlatformPatterns;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiClassType;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiField;
-import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiMember;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiReferenceBase;
 import com.intellij.psi.PsiReferenceContributor;
 import com.intellij.psi.PsiReferenceProvider;
 import com.intellij.psi.PsiReferenceRegistrar;
-import com.intellij.psi.PsiType;
 import com.intellij.psi.PsiWhiteSpace;
+import com.intellij.psi.impl.source.tree.LeafPsiElement;
+import com.intellij.psi.util.PropertyUtilBase;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.IncorrectOperationException;
 import com.intellij.util.ProcessingContext;
 import com.plugin.drool.psi.DroolsBindingPattern;
 import com.plugin.drool.psi.DroolsBindingVariable;
@@ -26,8 +25,9 @@ import com.plugin.drool.psi.DroolsClassName;
 import com.plugin.drool.psi.DroolsConstraintExpr;
 import com.plugin.drool.psi.DroolsExpressionContent;
 import com.plugin.drool.psi.DroolsFactPattern;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsGlobalDecl;
 import com.plugin.drool.psi.DroolsImportPath;
-import com.plugin.drool.psi.DroolsImportStatement;
 import com.plugin.drool.psi.DroolsRuleBlock;
 import com.plugin.drool.psi.DroolsThenClause;
 import com.plugin.drool.psi.DroolsTypeName;
@@ -38,7 +38,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static com.plugin.drool.util.DroolsConstants.IDEA_RULES;
-import static com.plugin.drool.util.DroolsConstants.JAVA_DOT_LANG_DOT;
 
 /**
  * Provides PsiReference implementations for navigable elements in Drools files. Enables
@@ -56,6 +55,12 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
     registrar.registerReferenceProvider(methodCallPattern(), new DroolsMethodReferenceProvider());
     // Binding variable references ($varName)
     registrar.registerReferenceProvider(bindingRefPattern(), new DroolsBindingReferenceProvider());
+    // Bean properties in constraints (Customer(address != null))
+    registrar.registerReferenceProvider(
+        constraintPropertyPattern(), new DroolsPropertyReferenceProvider());
+    // Globals and functions of the package used in then clauses
+    registrar.registerReferenceProvider(
+        thenSymbolPattern(), new DroolsPackageSymbolReferenceProvider());
   }
 
   // --- Element Pattern Definitions ---
@@ -87,6 +92,20 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
             PlatformPatterns.psiElement().inside(DroolsExpressionContent.class));
   }
 
+  /** Matches IDENTIFIER leaves in constraints, candidates for bean property names. */
+  private static ElementPattern<PsiElement> constraintPropertyPattern() {
+    return PlatformPatterns.psiElement(DroolsTypes.IDENTIFIER)
+        .withLanguage(DroolsLanguage.INSTANCE)
+        .inside(DroolsConstraintExpr.class);
+  }
+
+  /** Matches IDENTIFIER leaves in then clauses, candidates for global and function names. */
+  private static ElementPattern<PsiElement> thenSymbolPattern() {
+    return PlatformPatterns.psiElement(DroolsTypes.IDENTIFIER)
+        .withLanguage(DroolsLanguage.INSTANCE)
+        .inside(DroolsThenClause.class);
+  }
+
   // --- Reference Providers ---
 
   /**
@@ -261,6 +280,47 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
     }
   }
 
+  /**
+   * Resolves a property name at the start of a constraint ({@code address} in {@code
+   * Customer(address != null)}) to its getter or field on the pattern's class. Names after a dot
+   * or a {@code $} are left to the method and binding references.
+   */
+  private static class DroolsPropertyReferenceProvider extends PsiReferenceProvider {
+    @Override
+    public PsiReference @NotNull [] getReferencesByElement(
+        @NotNull PsiElement element, @NotNull ProcessingContext context) {
+      PsiElement prev = PsiTreeUtil.prevVisibleLeaf(element);
+      if (prev != null
+          && (prev.getNode().getElementType() == DroolsTypes.DOT
+              || prev.getNode().getElementType() == DroolsTypes.DOLLAR)) {
+        return PsiReference.EMPTY_ARRAY;
+      }
+      DroolsFactPattern pattern = PsiTreeUtil.getParentOfType(element, DroolsFactPattern.class);
+      if (pattern == null) {
+        return PsiReference.EMPTY_ARRAY;
+      }
+      return new PsiReference[] {new DroolsPropertyReference(element, pattern)};
+    }
+  }
+
+  /**
+   * Resolves a name at the start of a then-clause expression ({@code results} in {@code
+   * results.add($c)}, {@code label} in {@code label($c)}) to a global or function of the package.
+   */
+  private static class DroolsPackageSymbolReferenceProvider extends PsiReferenceProvider {
+    @Override
+    public PsiReference @NotNull [] getReferencesByElement(
+        @NotNull PsiElement element, @NotNull ProcessingContext context) {
+      PsiElement prev = PsiTreeUtil.prevVisibleLeaf(element);
+      if (prev != null
+          && (prev.getNode().getElementType() == DroolsTypes.DOT
+              || prev.getNode().getElementType() == DroolsTypes.DOLLAR)) {
+        return PsiReference.EMPTY_ARRAY;
+      }
+      return new PsiReference[] {new DroolsPackageSymbolReference(element)};
+    }
+  }
+
   // --- PsiReference Implementations ---
 
   /**
@@ -278,44 +338,9 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
     @Override
     @Nullable
     public PsiElement resolve() {
-      Project project = getElement().getProject();
-      DroolsResolutionCache cache = DroolsResolutionCache.getInstance(project);
-
-      // Try resolving as fully qualified name first
-      PsiClass resolved = cache.resolveClass(className, getElement());
-      if (resolved != null) {
-        return getNavigableElement(resolved);
-      }
-
-      // Try resolving using imports from the file
-      PsiFile file = getElement().getContainingFile();
-      if (file instanceof DroolsPsiFile droolsFile) {
-        for (DroolsImportStatement importStmt : droolsFile.getImports()) {
-          DroolsImportPath importPath = importStmt.getImportPath();
-          if (importPath != null) {
-            String path = importPath.getText();
-            if (path != null) {
-              if (path.endsWith("." + className) || path.equals(className)) {
-                resolved = cache.resolveClass(path, getElement());
-                if (resolved != null) {
-                  return getNavigableElement(resolved);
-                }
-              }
-              // Handle wildcard imports
-              if (path.endsWith(".*")) {
-                String packageName = path.substring(0, path.length() - 2);
-                resolved = cache.resolveClass(packageName + "." + className, getElement());
-                if (resolved != null) {
-                  return getNavigableElement(resolved);
-                }
-              }
-            }
-          }
-        }
-      }
-
-      // Try java.lang
-      resolved = cache.resolveClass("java.lang." + className, getElement());
+      // Resolve through the file's imports, wildcard packages and java.lang
+      PsiElement element = getElement();
+      PsiClass resolved = DroolsImportTable.forElement(element).resolveClass(className, element);
       if (resolved != null) {
         return getNavigableElement(resolved);
       }
@@ -368,23 +393,29 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
         return null;
       }
 
-      // Find the method by name
-      for (PsiMethod method : resolvedClass.getAllMethods()) {
-        if (method.getName().equals(methodName)) {
-          PsiElement nav = method.getNavigationElement();
-          return nav != null ? nav : method;
-        }
+      // Find the method by name, then a bean property ($c.address), then any field
+      DroolsMemberTable members = DroolsMemberTable.forClass(resolvedClass);
+      PsiMember member = members.findMethod(methodName);
+      if (member == null) {
+        member = members.findPropertyMember(methodName);
       }
-
-      // Also check fields (for field access after dot)
-      for (PsiField field : resolvedClass.getAllFields()) {
-        if (field.getName().equals(methodName)) {
-          PsiElement nav = field.getNavigationElement();
-          return nav != null ? nav : field;
-        }
+      if (member == null) {
+        member = members.findField(methodName);
       }
+      if (member == null) {
+        return null;
+      }
+      PsiElement nav = member.getNavigationElement();
+      return nav != null ? nav : member;
+    }
 
-      return null;
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) {
+      // A getter reached through its property name keeps being referenced that way
+      if (resolve() instanceof PsiMethod method && !method.getName().equals(methodName)) {
+        return replaceIdentifier(getElement(), toPropertyName(newElementName));
+      }
+      return replaceIdentifier(getElement(), newElementName);
     }
 
     @Override
@@ -414,7 +445,11 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
         return null;
       }
 
-      // Try to resolve as a class name directly (for static access like Integer.)
+      // A global of the package (results.add(...)), else a class for static access (Integer.)
+      PsiClass globalType = resolveGlobal(text, context);
+      if (globalType != null) {
+        return globalType;
+      }
       return resolveClassName(text, context, project);
     }
 
@@ -444,7 +479,7 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
       // If there are chained segments (e.g. "$x.member"), resolve each one iteratively
       for (int i = 1; i < segments.length; i++) {
         String memberName = segments[i];
-        currentClass = resolveMemberType(currentClass, memberName, context, project);
+        currentClass = DroolsMemberTable.forClass(currentClass).getMemberType(memberName);
         if (currentClass == null) return null;
       }
 
@@ -465,98 +500,90 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
       return null;
     }
 
-    /**
-     * Resolves a member name (property/field/getter) on a given class to the PsiClass of its return
-     * type. Used for chained access like "$x.address" where we need to find the type of "address"
-     * on the class that $x is bound to.
-     */
-    private PsiClass resolveMemberType(
-        PsiClass ownerClass, String memberName, PsiElement context, Project project) {
-      // Try getter methods: getXxx() or isXxx()
-      String capitalizedName =
-          memberName.isEmpty()
-              ? memberName
-              : Character.toUpperCase(memberName.charAt(0)) + memberName.substring(1);
-      String getterName = "get" + capitalizedName;
-      String booleanGetterName = "is" + capitalizedName;
-
-      for (PsiMethod method : ownerClass.getAllMethods()) {
-        if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (method.getParameterList().getParametersCount() != 0) continue;
-
-        String name = method.getName();
-        if (name.equals(getterName) || name.equals(booleanGetterName)) {
-          PsiType returnType = method.getReturnType();
-          if (returnType instanceof PsiClassType classType) {
-            PsiClass resolved = classType.resolve();
-            if (resolved != null) return resolved;
-          }
-        }
-      }
+    private PsiClass resolveClassName(String className, PsiElement context, Project project) {
+      return DroolsImportTable.forElement(context).resolveClass(className, context);
+    }
+  }
 
-      // Try direct method match (e.g. member name IS the method name)
-      for (PsiMethod method : ownerClass.getAllMethods()) {
-        if (!method.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (method.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (method.getParameterList().getParametersCount() != 0) continue;
-        if (method.getName().equals(memberName)) {
-          PsiType returnType = method.getReturnType();
-          if (returnType instanceof PsiClassType classType) {
-            PsiClass resolved = classType.resolve();
-            if (resolved != null) return resolved;
-          }
-        }
-      }
+  /**
+   * Soft reference from a name in a then clause to a global or function declared in any rule file
+   * of the package. Soft, since most names there are local variables or Java identifiers.
+   */
+  private static class DroolsPackageSymbolReference extends PsiReferenceBase<PsiElement> {
 
-      // Try public fields
-      for (PsiField field : ownerClass.getAllFields()) {
-        if (!field.hasModifierProperty(PsiModifier.PUBLIC)) continue;
-        if (field.hasModifierProperty(PsiModifier.STATIC)) continue;
-        if (field.getName().equals(memberName)) {
-          PsiType fieldType = field.getType();
-          if (fieldType instanceof PsiClassType classType) {
-            PsiClass resolved = classType.resolve();
-            if (resolved != null) return resolved;
-          }
-        }
+    DroolsPackageSymbolReference(@NotNull PsiElement element) {
+      super(element, new TextRange(0, element.getTextLength()), true);
+    }
+
+    @Override
+    @Nullable
+    public PsiElement resolve() {
+      DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(getElement());
+      if (symbols == null) {
+        return null;
       }
+      String name = getElement().getText();
+      DroolsGlobalDecl global = symbols.findGlobal(name);
+      if (global != null) {
+        return global;
+      }
+      return symbols.findFunction(name);
+    }
 
-      return null;
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) {
+      return replaceIdentifier(getElement(), newElementName);
     }
 
-    private PsiClass resolveClassName(String className, PsiElement context, Project project) {
-      DroolsResolutionCache cache = DroolsResolutionCache.getInstance(project);
+    @Override
+    public Object @NotNull [] getVariants() {
+      return EMPTY_ARRAY;
+    }
+  }
 
-      // Try fully qualified name first
-      PsiClass resolved = cache.resolveClass(className, context);
-      if (resolved != null) return resolved;
-
-      // Try with imports from the file
-      PsiFile file = context.getContainingFile();
-      if (file instanceof DroolsPsiFile droolsFile) {
-        for (DroolsImportStatement importStmt : droolsFile.getImports()) {
-          DroolsImportPath importPath = importStmt.getImportPath();
-          if (importPath != null) {
-            String path = importPath.getText();
-            if (path != null) {
-              if (path.endsWith("." + className) || path.equals(className)) {
-                resolved = cache.resolveClass(path, context);
-                if (resolved != null) return resolved;
-              }
-              if (path.endsWith(".*")) {
-                String packageName = path.substring(0, path.length() - 2);
-                resolved = cache.resolveClass(packageName + "." + className, context);
-                if (resolved != null) return resolved;
-              }
-            }
-          }
-        }
+  /**
+   * Soft reference from a constraint property name to the getter or field of the pattern's class.
+   * Soft, since the same position may hold a local name or a class used for static access.
+   */
+  private static class DroolsPropertyReference extends PsiReferenceBase<PsiElement> {
+    private final DroolsFactPattern pattern;
+
+    DroolsPropertyReference(@NotNull PsiElement element, @NotNull DroolsFactPattern pattern) {
+      super(element, new TextRange(0, element.getTextLength()), true);
+      this.pattern = pattern;
+    }
+
+    @Override
+    @Nullable
+    public PsiElement resolve() {
+      String className = pattern.getClassName().getText().trim();
+      PsiClass psiClass = DroolsImportTable.forElement(pattern).resolveClass(className, pattern);
+      if (psiClass == null) {
+        return null;
+      }
+      DroolsMemberTable members = DroolsMemberTable.forClass(psiClass);
+      String propertyName = getElement().getText();
+      PsiMember member = members.findPropertyMember(propertyName);
+      if (member == null) {
+        member = members.findField(propertyName);
+      }
+      if (member == null) {
+        return null;
       }
+      PsiElement nav = member.getNavigationElement();
+      return nav != null ? nav : member;
+    }
 
-      // Try java.lang
-      resolved = cache.resolveClass(JAVA_DOT_LANG_DOT + className, context);
-      return resolved;
+    @Override
+    public PsiElement handleElementRename(@NotNull String newElementName) {
+      String newName =
+          resolve() instanceof PsiMethod ? toPropertyName(newElementName) : newElementName;
+      return replaceIdentifier(getElement(), newName);
+    }
+
+    @Override
+    public Object @NotNull [] getVariants() {
+      return EMPTY_ARRAY;
     }
   }
 
@@ -599,4 +626,33 @@ public class DroolsReferenceContributor extends PsiReferenceContributor {
       return EMPTY_ARRAY;
     }
   }
+
+  // --- Shared Resolution ---
+
+  /** Resolves the type of a global of the package named {@code name}, or returns null. */
+  @Nullable
+  private static PsiClass resolveGlobal(@NotNull String name, @NotNull PsiElement context) {
+    DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(context);
+    DroolsGlobalDecl global = symbols != null ? symbols.findGlobal(name) : null;
+    return global != null ? DroolsPackageSymbols.resolveGlobalType(global) : null;
+  }
+
+  // --- Rename Support ---
+
+  /** Returns the property name of a getter name ({@code getStreet} to {@code street}). */
+  @NotNull
+  private static String toPropertyName(@NotNull String getterName) {
+    String propertyName = PropertyUtilBase.getPropertyName(getterName);
+    return propertyName != null ? propertyName : getterName;
+  }
+
+  /** Replaces the text of a referencing identifier leaf. */
+  @NotNull
+  private static PsiElement replaceIdentifier(
+      @NotNull PsiElement element, @NotNull String newName) {
+    if (element instanceof LeafPsiElement leaf) {
+      return leaf.replaceWithText(newName).getPsi();
+    }
+    throw new IncorrectOperationException("Cannot rename " + element);
+  }
 }
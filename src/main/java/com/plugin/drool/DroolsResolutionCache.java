@@ -1,64 +1,110 @@
 package com.plugin.drool;
 
+import com.intellij.lang.java.JavaLanguage;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.DumbService;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
 import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.JavaPsiFacade;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
-import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.GlobalSearchScope;
 import com.intellij.psi.util.PsiModificationTracker;
+import com.plugin.drool.index.DroolsDeclaredTypeIndex;
 import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsDeclareBlock;
 import com.plugin.drool.psi.DroolsRuleBlock;
-import com.plugin.drool.psi.DroolsWhenClause;
+import com.plugin.drool.util.BoundedLruCache;
+import com.plugin.drool.util.CacheStats;
 import java.lang.ref.SoftReference;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Project-level resolution cache for Drools class and binding variable lookups.
  *
- * <p>Uses {@link SoftReference} for class cache entries so the GC can reclaim memory under
- * pressure. Tracks PSI modification counts via {@link PsiModificationTracker} to automatically
- * invalidate stale entries when the PSI tree or project dependencies change.
+ * <p>The class cache is a weight-bounded LRU cache ({@link BoundedLruCache}) keyed by stable
+ * identifiers rather than PSI, so memory stays bounded between invalidations. Entries additionally
+ * use {@link SoftReference} so the GC can reclaim them under pressure. Hit, miss, eviction and
+ * load-time counters are available through {@link #getClassCacheStats()}. Class entries are
+ * dropped when Java PSI, the project roots or the indexing state change (see {@link
+ * #getClassDependencyTracker()}), never on edits to .drl files.
+ *
+ * <p>Binding variables are not cached here: {@link #getBindingsForRule} reads the table {@link
+ * DroolsRuleBindings} caches on the rule itself, which is rebuilt after the rule's file changes and
+ * is released with the rule's PSI, so editing one rule file does not touch the bindings of any
+ * other and no invalidated tree stays reachable from this service.
+ *
+ * <p>Class entries are keyed by the resolution scope and the FQN. A name is resolved against the
+ * dependencies and libraries of the module that contains the context element, so a rule file in
+ * one module never sees a class that only exists in another. Classes found in libraries (or the
+ * JDK) are stored under a key shared by every module with the same library classpath, so a
+ * library class is resolved once per distinct classpath rather than once per module. A module
+ * that finds a shared library entry first checks its own sources, which may define a class of the
+ * same name that shadows the library one.
+ *
+ * <p>Unresolved names are cached too, in a separate LRU of at most {@link #MAX_NEGATIVE_ENTRIES}
+ * entries, so misspelled imports and simple names probed as FQNs do not hit {@code JavaPsiFacade}
+ * on every highlighting pass. Misses are never cached while indexes are not ready.
+ *
+ * <p>Class state is held in a generation per class dependency epoch (the modification count of
+ * {@link #getClassDependencyTracker()}). When the epoch advances, the next lookup swaps in a fresh
+ * generation atomically instead of clearing the old one, so concurrent highlighting passes never
+ * observe a half-cleared cache. A lookup works entirely against the generation it started with and
+ * drops its result if that generation was replaced while it was resolving, so a class resolved
+ * against an older epoch is never published into a newer one.
+ *
+ * <p>Types declared with {@code declare} in rule files are resolved through {@link
+ * DroolsDeclaredTypeIndex} when no Java class of that name exists. They depend on .drl edits rather
+ * than on the class dependency epoch, so they are never stored in the class cache; each declare
+ * block caches its own {@link DroolsDeclaredClass} instead.
  *
  * <p>Satisfies Requirements 11.1 (300ms validation), 11.2 (incremental validation), and 11.4
  * (memory usage under 50MB for 100 DRL files).
  */
 public final class DroolsResolutionCache {
 
+  /** Upper bound for resolved class entries. */
+  static final int MAX_CLASS_ENTRIES = 20_000;
+
+  /** Upper bound for cached unresolved names; the least recently used ones are evicted first. */
+  static final int MAX_NEGATIVE_ENTRIES = 10_000;
+
+  /** Scope key for lookups whose context does not belong to any module. */
+  private static final String PROJECT_SCOPE = "project";
+
+  private static final String MODULE_SCOPE_PREFIX = "module:";
+  private static final String LIBRARY_SCOPE_PREFIX = "libraries#";
+
   private final Project project;
 
-  /**
-   * Per-file class resolution cache, keyed by fully qualified class name. Uses SoftReferences so GC
-   * can reclaim memory under pressure.
-   */
-  private final ConcurrentHashMap<String, SoftReference<PsiClass>> classCache;
+  private final CacheStats classStats = new CacheStats();
 
   /**
-   * Binding variable scope cache per rule block. Maps each rule block to its binding variables
-   * (variable name -> PSI element).
+   * The class cache generation for the current class dependency epoch. Replaced atomically, never
+   * cleared, when the epoch advances or the cache is invalidated.
    */
-  private final ConcurrentHashMap<DroolsRuleBlock, Map<String, DroolsBindingVariable>> bindingCache;
+  private final AtomicReference<Generation> generation;
 
-  /** Tracks the last known PSI modification count to detect when caches need invalidation. */
-  private volatile long lastModificationCount;
-
-  /** Tracks the last known Java structure modification count for dependency changes. */
-  private volatile long lastJavaModificationCount;
+  /** Tracks Java PSI and project root changes; the only inputs class resolution depends on. */
+  private final ModificationTracker classDependencyTracker;
 
   public DroolsResolutionCache(@NotNull Project project) {
     this.project = project;
-    this.classCache = new ConcurrentHashMap<>();
-    this.bindingCache = new ConcurrentHashMap<>();
-    this.lastModificationCount = getModificationCount();
-    this.lastJavaModificationCount = getJavaModificationCount();
+    this.classDependencyTracker = createClassDependencyTracker(project);
+    this.generation =
+        new AtomicReference<>(new Generation(classDependencyTracker.getModificationCount()));
   }
 
   /**
@@ -73,8 +119,12 @@ public final class DroolsResolutionCache {
   }
 
   /**
-   * Resolves a fully qualified class name, checking the cache first. If the cache is stale (PSI
-   * tree or dependencies changed), it is invalidated before lookup.
+   * Resolves a fully qualified class name, checking the cache first. If Java PSI or the project
+   * roots changed since the last lookup, the class cache is invalidated before lookup.
+   *
+   * <p>When the context belongs to a module, only classes visible from that module (its sources,
+   * dependencies and libraries) are returned. Without a module the whole project is searched.
+   * Names no Java class answers to are looked up among the types declared in rule files.
    *
    * @param fqn the fully qualified class name to resolve
    * @param context an optional PSI element for module-scoped resolution; may be null
@@ -82,158 +132,288 @@ public final class DroolsResolutionCache {
    */
   @Nullable
   public PsiClass resolveClass(@NotNull String fqn, @Nullable PsiElement context) {
-    checkForInvalidation();
+    // Everything below works on one generation; a concurrent swap never exposes a partial state
+    Generation current = currentGeneration();
 
-    // Check cache first
-    SoftReference<PsiClass> ref = classCache.get(fqn);
-    if (ref != null) {
-      PsiClass cached = ref.get();
-      if (cached != null && cached.isValid()) {
-        return cached;
+    Module module = context != null ? ModuleUtilCore.findModuleForPsiElement(context) : null;
+    ClassKey scopeKey =
+        new ClassKey(module != null ? MODULE_SCOPE_PREFIX + module.getName() : PROJECT_SCOPE, fqn);
+
+    ClassKey libraryKey =
+        module != null ? new ClassKey(current.getLibraryScope(module), fqn) : null;
+
+    // Check the module's own entries first, then those shared by modules with the same libraries
+    PsiClass cached = current.getCachedClass(scopeKey);
+    if (cached == null && libraryKey != null) {
+      cached = current.getCachedClass(libraryKey);
+      if (cached != null) {
+        cached = shadowLibraryClass(current, scopeKey, cached, module);
       }
-      // SoftReference was cleared or PsiClass is invalid — remove stale entry
-      classCache.remove(fqn);
     }
+    if (cached != null) {
+      classStats.recordHit();
+      return cached;
+    }
+    if (current.unresolvedCache.get(scopeKey) != null) {
+      classStats.recordHit();
+      return findDeclaredClass(fqn, module);
+    }
+    classStats.recordMiss();
 
     // Resolve the class
-    PsiClass resolved = doResolveClass(fqn, context);
-    if (resolved != null) {
-      classCache.put(fqn, new SoftReference<>(resolved));
+    long start = System.nanoTime();
+    PsiClass resolved = doResolveClass(fqn, module);
+    classStats.recordLoad(System.nanoTime() - start);
+
+    // Publish only into a generation that is still current; results computed against an older
+    // epoch may already be stale and are dropped
+    if (generation.get() != current) {
+      return resolved != null ? resolved : findDeclaredClass(fqn, module);
+    }
+    if (resolved == null) {
+      cacheUnresolved(current, scopeKey);
+      return findDeclaredClass(fqn, module);
     }
+    ClassKey storeKey = libraryKey != null && isLibraryClass(resolved) ? libraryKey : scopeKey;
+    current.classCache.put(storeKey, new SoftReference<>(resolved));
     return resolved;
   }
 
   /**
-   * Retrieves the binding variables for a given rule block, using the cache. If the cache is stale,
-   * it is invalidated before lookup.
+   * Retrieves the binding variables for a given rule block, from the {@link DroolsRuleBindings}
+   * table cached on the rule.
    *
    * @param rule the rule block to get bindings for
    * @return an unmodifiable map of variable name to binding variable PSI element
    */
   @NotNull
   public Map<String, DroolsBindingVariable> getBindingsForRule(@NotNull DroolsRuleBlock rule) {
-    checkForInvalidation();
-
-    Map<String, DroolsBindingVariable> cached = bindingCache.get(rule);
-    if (cached != null) {
-      // Verify entries are still valid
-      boolean allValid = cached.values().stream().allMatch(PsiElement::isValid);
-      if (allValid) {
-        return cached;
-      }
-      // Some entries are invalid — remove stale entry
-      bindingCache.remove(rule);
-    }
-
-    // Build the binding map from the rule's when-clause
-    Map<String, DroolsBindingVariable> bindings = buildBindingMap(rule);
-    bindingCache.put(rule, bindings);
-    return bindings;
+    return DroolsRuleBindings.forRule(rule).getDeclarations();
   }
 
   /**
-   * Manually invalidates all caches. Call this when you know the project state has changed
+   * Manually invalidates the class caches. Call this when you know the project state has changed
    * significantly (e.g., after a bulk refactoring or dependency update).
    */
   public void invalidate() {
-    classCache.clear();
-    bindingCache.clear();
-    lastModificationCount = getModificationCount();
-    lastJavaModificationCount = getJavaModificationCount();
+    generation.set(new Generation(classDependencyTracker.getModificationCount()));
+  }
+
+  /**
+   * Returns the tracker that class resolution results depend on. It changes only when Java PSI, the
+   * project roots (module dependencies, libraries, SDKs) or the dumb mode state change. Other
+   * caches that derive data from resolved classes can use it as their dependency.
+   */
+  @NotNull
+  public ModificationTracker getClassDependencyTracker() {
+    return classDependencyTracker;
   }
 
   /**
-   * Returns the current number of entries in the class cache. Useful for diagnostics and testing.
+   * Returns the current number of resolved entries in the class cache. Useful for diagnostics and
+   * testing.
    */
   public int getClassCacheSize() {
-    return classCache.size();
+    return generation.get().classCache.size();
+  }
+
+  /**
+   * Returns the current number of cached unresolved names. Useful for diagnostics and testing.
+   */
+  public int getNegativeCacheSize() {
+    return generation.get().unresolvedCache.size();
   }
 
   /**
-   * Returns the current number of entries in the binding cache. Useful for diagnostics and testing.
+   * Returns hit, miss, eviction and load-time counters for class lookups since the project was
+   * opened. Hits include cached unresolved names; evictions cover both resolved and unresolved
+   * entries.
    */
-  public int getBindingCacheSize() {
-    return bindingCache.size();
+  @NotNull
+  public CacheStats.Snapshot getClassCacheStats() {
+    return classStats.snapshot();
   }
 
   // --- Private helpers ---
 
   /**
-   * Checks whether the PSI tree or Java structure has been modified since the last cache access. If
-   * so, invalidates all caches.
+   * Returns the generation for the current class dependency epoch. If Java PSI, the project roots
+   * or the dumb mode state changed since the current generation was created, a fresh one is
+   * swapped in with a compare-and-set; of several threads racing to do so, one wins and all use
+   * its generation.
+   */
+  @NotNull
+  private Generation currentGeneration() {
+    while (true) {
+      long epoch = classDependencyTracker.getModificationCount();
+      Generation current = generation.get();
+      if (current.epoch == epoch) {
+        return current;
+      }
+      Generation next = new Generation(epoch);
+      if (generation.compareAndSet(current, next)) {
+        return next;
+      }
+    }
+  }
+
+  /**
+   * Remembers that {@code key} did not resolve. Skipped while indexes are not ready, since a miss
+   * in dumb mode says nothing about the classpath.
    */
-  private void checkForInvalidation() {
-    long currentModCount = getModificationCount();
-    long currentJavaModCount = getJavaModificationCount();
+  private void cacheUnresolved(@NotNull Generation current, @NotNull ClassKey key) {
+    if (!DumbService.isDumb(project)) {
+      current.unresolvedCache.put(key, Boolean.TRUE);
+    }
+  }
 
-    if (currentModCount != lastModificationCount
-        || currentJavaModCount != lastJavaModificationCount) {
-      invalidate();
+  /**
+   * Returns the class a module sees for a name that another module with the same libraries
+   * resolved to {@code libraryClass}. The module's own sources and those of its dependencies come
+   * before the libraries on its classpath, so a source class of the same name wins. The answer is
+   * stored under the module's own key, so the sources are searched once per module and name.
+   */
+  @NotNull
+  private PsiClass shadowLibraryClass(
+      @NotNull Generation current,
+      @NotNull ClassKey scopeKey,
+      @NotNull PsiClass libraryClass,
+      @NotNull Module module) {
+    PsiClass sourceClass =
+        JavaPsiFacade.getInstance(project)
+            .findClass(scopeKey.fqn(), GlobalSearchScope.moduleWithDependenciesScope(module));
+    PsiClass resolved = sourceClass != null ? sourceClass : libraryClass;
+    if (generation.get() == current) {
+      current.classCache.put(scopeKey, new SoftReference<>(resolved));
     }
+    return resolved;
   }
 
-  /** Gets the current PSI modification count from IntelliJ's modification tracker. */
-  private long getModificationCount() {
-    ModificationTracker tracker = PsiManager.getInstance(project).getModificationTracker();
-    return tracker.getModificationCount();
+  /** Returns true if the class comes from a library or the JDK rather than from project sources. */
+  private boolean isLibraryClass(@NotNull PsiClass psiClass) {
+    PsiFile file = psiClass.getContainingFile();
+    VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+    return virtualFile != null && ProjectFileIndex.getInstance(project).isInLibrary(virtualFile);
   }
 
   /**
-   * Gets the current Java structure modification count, which changes when dependencies or Java
-   * class structures are modified.
+   * Creates a tracker that combines Java-language PSI changes, project root changes and dumb mode
+   * transitions. Edits in .drl (or any other non-Java) files do not advance it.
    */
-  private long getJavaModificationCount() {
-    PsiModificationTracker tracker = PsiManager.getInstance(project).getModificationTracker();
-    return tracker.getModificationCount();
+  @NotNull
+  private static ModificationTracker createClassDependencyTracker(@NotNull Project project) {
+    ModificationTracker javaTracker =
+        PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE);
+    ModificationTracker rootTracker = ProjectRootManager.getInstance(project);
+    ModificationTracker dumbTracker = DumbService.getInstance(project).getModificationTracker();
+    return () ->
+        javaTracker.getModificationCount()
+            + rootTracker.getModificationCount()
+            + dumbTracker.getModificationCount();
   }
 
-  /** Performs the actual class resolution using JavaPsiFacade with multiple search scopes. */
+  /**
+   * Performs the actual class resolution using JavaPsiFacade. Resolves against the module's
+   * dependencies and libraries when a module is known, and against the whole project otherwise.
+   */
   @Nullable
-  private PsiClass doResolveClass(@NotNull String fqn, @Nullable PsiElement context) {
-    JavaPsiFacade facade = JavaPsiFacade.getInstance(project);
+  private PsiClass doResolveClass(@NotNull String fqn, @Nullable Module module) {
+    GlobalSearchScope scope =
+        module != null
+            ? GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module)
+            : GlobalSearchScope.allScope(project);
+    return JavaPsiFacade.getInstance(project).findClass(fqn, scope);
+  }
 
-    // Try all-scope first (includes everything: dependencies, JARs, JDK)
-    PsiClass psiClass = facade.findClass(fqn, GlobalSearchScope.allScope(project));
-    if (psiClass != null) {
-      return psiClass;
+  /**
+   * Returns the class of the type declared in a rule file under {@code fqn}, or null. Looks in the
+   * module's rule files and those of its dependencies, or in the whole project without a module.
+   */
+  @Nullable
+  private PsiClass findDeclaredClass(@NotNull String fqn, @Nullable Module module) {
+    if (DumbService.isDumb(project)) {
+      return null;
     }
+    GlobalSearchScope scope =
+        module != null
+            ? GlobalSearchScope.moduleWithDependenciesScope(module)
+            : GlobalSearchScope.projectScope(project);
+    DroolsDeclareBlock declare = DroolsDeclaredTypeIndex.findDeclare(project, fqn, scope);
+    return declare != null ? DroolsDeclaredClass.forDeclare(declare) : null;
+  }
 
-    // If a context element is provided, try module-scoped resolution
-    if (context != null) {
-      Module module = ModuleUtilCore.findModuleForPsiElement(context);
-      if (module != null) {
-        psiClass =
-            facade.findClass(
-                fqn, GlobalSearchScope.moduleWithDependenciesAndLibrariesScope(module));
-        return psiClass;
-      }
-    }
+  /**
+   * All class cache state for one class dependency epoch. The epoch and the cache instances never
+   * change; a generation is discarded as a whole, never cleared.
+   */
+  private final class Generation {
+    final long epoch;
 
-    return null;
-  }
+    /**
+     * Class resolution cache, keyed by resolution scope and fully qualified class name. Uses
+     * SoftReferences so GC can reclaim memory under pressure.
+     */
+    final BoundedLruCache<ClassKey, SoftReference<PsiClass>> classCache =
+        new BoundedLruCache<>(MAX_CLASS_ENTRIES, (key, ref) -> 1, classStats);
 
-  /** Builds a map of binding variable names to their PSI elements from a rule's when-clause. */
-  @NotNull
-  private Map<String, DroolsBindingVariable> buildBindingMap(@NotNull DroolsRuleBlock rule) {
-    DroolsWhenClause whenClause = rule.getWhenClause();
-    if (whenClause == null) {
-      return Collections.emptyMap();
-    }
+    /** Names that did not resolve, keyed like {@link #classCache}. */
+    final BoundedLruCache<ClassKey, Boolean> unresolvedCache =
+        new BoundedLruCache<>(MAX_NEGATIVE_ENTRIES, (key, unresolved) -> 1, classStats);
 
-    Map<String, DroolsBindingVariable> bindings = new HashMap<>();
-    collectBindingVariables(whenClause, bindings);
-    return Collections.unmodifiableMap(bindings);
-  }
+    /** Library scope key per module name, derived from the module's library classpath. */
+    final ConcurrentHashMap<String, String> moduleLibraryScopes = new ConcurrentHashMap<>();
+
+    /** Interned library classpaths; modules with equal classpaths share one library scope key. */
+    final ConcurrentHashMap<List<String>, String> libraryScopeIds = new ConcurrentHashMap<>();
+
+    final AtomicInteger nextLibraryScopeId = new AtomicInteger();
 
-  /** Recursively collects binding variables from a PSI subtree. */
-  private void collectBindingVariables(
-      @NotNull PsiElement element, @NotNull Map<String, DroolsBindingVariable> bindings) {
-    if (element instanceof DroolsBindingVariable bindingVar) {
-      String name = bindingVar.getIdentifier().getText();
-      bindings.put("$" + name, bindingVar);
+    Generation(long epoch) {
+      this.epoch = epoch;
     }
-    for (PsiElement child : element.getChildren()) {
-      collectBindingVariables(child, bindings);
+
+    /**
+     * Returns the cached class for {@code key}, or null if nothing usable is cached. Stale entries
+     * are removed on the way.
+     */
+    @Nullable
+    PsiClass getCachedClass(@NotNull ClassKey key) {
+      SoftReference<PsiClass> ref = classCache.get(key);
+      if (ref == null) {
+        return null;
+      }
+      PsiClass cached = ref.get();
+      if (cached != null && cached.isValid()) {
+        return cached;
+      }
+      // SoftReference was cleared or PsiClass is invalid — remove stale entry
+      classCache.remove(key, ref);
+      return null;
+    }
+
+    /**
+     * Returns the scope key shared by all modules whose library classpath (libraries and SDK of the
+     * module and its dependencies, in order) equals that of {@code module}.
+     */
+    @NotNull
+    String getLibraryScope(@NotNull Module module) {
+      return moduleLibraryScopes.computeIfAbsent(
+          module.getName(),
+          name -> {
+            List<String> classpath =
+                List.of(
+                    OrderEnumerator.orderEntries(module)
+                        .recursively()
+                        .withoutDepModules()
+                        .withoutModuleSourceEntries()
+                        .classes()
+                        .getUrls());
+            return libraryScopeIds.computeIfAbsent(
+                classpath, urls -> LIBRARY_SCOPE_PREFIX + nextLibraryScopeId.getAndIncrement());
+          });
     }
   }
+
+  /** Class cache key: the scope a name was resolved in and the fully qualified name. */
+  private record ClassKey(@NotNull String scope, @NotNull String fqn) {}
 }
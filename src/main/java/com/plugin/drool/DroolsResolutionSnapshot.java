@@ -0,0 +1,396 @@
+package com.plugin.drool;
+
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.PathManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiModificationTracker;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Persists class-resolution answers across IDE restarts.
+ *
+ * <p>For each .drl file the snapshot stores the names looked up by the unresolved-class
+ * inspection that resolved to a library or JDK class, and a fingerprint of the library classpath
+ * of the file's module. It is written to the IDE system directory when the project closes and read
+ * back when it opens. Until the classes themselves are resolved again, the inspection answers
+ * "does this name resolve?" for those names from the snapshot instead of going through {@code
+ * JavaPsiFacade}.
+ *
+ * <p>Only library answers are kept because only they can be validated at startup: the fingerprint
+ * covers the class roots and jar timestamps, but not the contents of source roots, and Java
+ * sources may have changed while the IDE was closed (after a pull, say). Whether a name resolves
+ * to a source class, or does not resolve at all, is always answered by live resolution.
+ *
+ * <p>Names are stored as the rule file writes them, so what they resolve to depends on the file's
+ * package, imports and declare blocks. Each entry keeps a hash of that header ({@link
+ * DroolsRuleFindings#headerHash}), and a lookup discards the file's entries when the current header
+ * hashes differently, whether it was edited in this session or while the IDE was closed.
+ *
+ * <p>Validation is lazy: the first lookup for a file compares the stored fingerprint with the
+ * current one of its module and discards the file's entries on mismatch. The whole loaded snapshot
+ * is dropped on the first Java PSI change of the session, since any such change may add or remove
+ * classes; from then on answers come from live resolution only.
+ *
+ * <p>Each file keeps at most {@link #MAX_NAMES_PER_FILE} names. Names are kept in order of last
+ * lookup, so names typed halfway while editing drop out in favour of those highlighting keeps
+ * asking for.
+ */
+public final class DroolsResolutionSnapshot implements Disposable {
+
+  private static final Logger LOG = Logger.getInstance(DroolsResolutionSnapshot.class);
+
+  static final int FORMAT_VERSION = 3;
+
+  /** Upper bound for the names recorded per file; the least recently looked up go first. */
+  static final int MAX_NAMES_PER_FILE = 256;
+
+  private final Project project;
+
+  /** Entries read from disk, by file URL. Cleared once Java PSI changes. */
+  private final Map<String, FileEntry> loaded = new ConcurrentHashMap<>();
+
+  /** Answers observed in this session, by file URL; written back on close. */
+  private final Map<String, FileEntry> recorded = new ConcurrentHashMap<>();
+
+  /** Classpath fingerprint per module name ("" for files outside modules). */
+  private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+
+  private final ModificationTracker javaTracker;
+  private final ModificationTracker rootTracker;
+
+  private volatile boolean loadAttempted;
+  private volatile long javaCountAtLoad;
+  private volatile long fingerprintRootCount;
+
+  private final LongAdder snapshotHits = new LongAdder();
+
+  public DroolsResolutionSnapshot(@NotNull Project project) {
+    this.project = project;
+    this.javaTracker =
+        PsiModificationTracker.getInstance(project).forLanguage(JavaLanguage.INSTANCE);
+    this.rootTracker = ProjectRootManager.getInstance(project);
+  }
+
+  @NotNull
+  public static DroolsResolutionSnapshot getInstance(@NotNull Project project) {
+    return project.getService(DroolsResolutionSnapshot.class);
+  }
+
+  /** Reads the snapshot of the previous session, once. Safe to call from any thread. */
+  public void ensureLoaded() {
+    if (loadAttempted) {
+      return;
+    }
+    synchronized (this) {
+      if (loadAttempted) {
+        return;
+      }
+      if (!ApplicationManager.getApplication().isUnitTestMode()) {
+        load(getStoragePath());
+      }
+      loadAttempted = true;
+    }
+  }
+
+  /**
+   * Returns whether {@code name} resolves in the file of {@code context}, answering from the
+   * snapshot if it holds a valid entry and through {@code resolver} otherwise. Names that resolve
+   * to a library or JDK class are recorded for the next session.
+   */
+  public boolean isResolvable(
+      @NotNull String name,
+      @NotNull PsiElement context,
+      @NotNull Supplier<? extends PsiClass> resolver) {
+    PsiFile file = context.getContainingFile();
+    VirtualFile virtualFile = file != null ? file.getViewProvider().getVirtualFile() : null;
+    if (file == null || !file.isPhysical() || virtualFile == null) {
+      return resolver.get() != null;
+    }
+
+    ensureLoaded();
+    String url = virtualFile.getUrl();
+    long header =
+        file instanceof DroolsPsiFile droolsFile ? DroolsRuleFindings.headerHash(droolsFile) : 0;
+    if (lookup(url, virtualFile, header, name)) {
+      snapshotHits.increment();
+      record(url, virtualFile, header, name);
+      return true;
+    }
+    PsiClass resolved = resolver.get();
+    if (resolved != null && isLibraryClass(resolved)) {
+      record(url, virtualFile, header, name);
+    }
+    return resolved != null;
+  }
+
+  /** Returns how many lookups were answered from the snapshot in this session. */
+  public long getHitCount() {
+    return snapshotHits.sum();
+  }
+
+  /** Returns the number of files with loaded, not yet discarded entries. */
+  public int getLoadedFileCount() {
+    dropIfJavaChanged();
+    return loaded.size();
+  }
+
+  @Override
+  public void dispose() {
+    if (ApplicationManager.getApplication().isUnitTestMode()) {
+      return;
+    }
+    save(getStoragePath());
+    if (getHitCount() > 0) {
+      LOG.info("Drools resolution snapshot answered " + getHitCount() + " lookups");
+    }
+  }
+
+  // --- Persistence ---
+
+  /** Reads entries from {@code path}; a missing, outdated or corrupt file is ignored. */
+  void load(@NotNull Path path) {
+    javaCountAtLoad = javaTracker.getModificationCount();
+    if (!Files.isRegularFile(path)) {
+      return;
+    }
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != FORMAT_VERSION) {
+        return;
+      }
+      int fileCount = in.readInt();
+      for (int i = 0; i < fileCount; i++) {
+        String url = in.readUTF();
+        String module = in.readUTF();
+        long fingerprint = in.readLong();
+        long headerHash = in.readLong();
+        int nameCount = in.readInt();
+        if (nameCount < 0 || nameCount > MAX_NAMES_PER_FILE) {
+          throw new IOException("Invalid name count " + nameCount);
+        }
+        Set<String> names = ConcurrentHashMap.newKeySet(nameCount);
+        for (int j = 0; j < nameCount; j++) {
+          names.add(in.readUTF());
+        }
+        loaded.put(url, new FileEntry(module, fingerprint, headerHash, names));
+      }
+    } catch (IOException e) {
+      LOG.info("Ignoring unreadable Drools resolution snapshot " + path, e);
+      loaded.clear();
+    }
+  }
+
+  /** Writes the entries recorded in this session plus loaded ones that are still valid. */
+  void save(@NotNull Path path) {
+    dropIfJavaChanged();
+    Map<String, FileEntry> entries = new HashMap<>(loaded);
+    entries.putAll(recorded);
+    try {
+      Files.createDirectories(path.getParent());
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(entries.size());
+        for (Map.Entry<String, FileEntry> entry : entries.entrySet()) {
+          FileEntry fileEntry = entry.getValue();
+          List<String> names = fileEntry.copyNames();
+          out.writeUTF(entry.getKey());
+          out.writeUTF(fileEntry.module());
+          out.writeLong(fileEntry.fingerprint());
+          out.writeLong(fileEntry.headerHash());
+          out.writeInt(names.size());
+          for (String name : names) {
+            out.writeUTF(name);
+          }
+        }
+      }
+    } catch (IOException e) {
+      LOG.info("Could not write Drools resolution snapshot " + path, e);
+    }
+  }
+
+  @NotNull
+  private Path getStoragePath() {
+    return PathManager.getSystemDir()
+        .resolve("drools-resolution")
+        .resolve(project.getLocationHash() + ".dat");
+  }
+
+  // --- Lookup and validation ---
+
+  /**
+   * Returns whether a valid loaded entry says that {@code name} resolves to a library class. The
+   * entry must have been recorded under the file's current header.
+   */
+  private boolean lookup(
+      @NotNull String url, @NotNull VirtualFile file, long headerHash, @NotNull String name) {
+    dropIfJavaChanged();
+    FileEntry entry = loaded.get(url);
+    if (entry == null) {
+      return false;
+    }
+    if (entry.headerHash() != headerHash) {
+      loaded.remove(url, entry);
+      return false;
+    }
+    if (!entry.validated()) {
+      String module = getModuleName(file);
+      if (!entry.module().equals(module) || entry.fingerprint() != getFingerprint(file, module)) {
+        loaded.remove(url, entry);
+        return false;
+      }
+      entry = entry.asValidated();
+      loaded.put(url, entry);
+    }
+    return entry.names().contains(name);
+  }
+
+  /**
+   * Records that {@code name} resolves to a library class under the given header. Names recorded
+   * under an earlier header of the file are forgotten, since they may no longer resolve.
+   */
+  private void record(
+      @NotNull String url, @NotNull VirtualFile file, long headerHash, @NotNull String name) {
+    FileEntry entry =
+        recorded.compute(
+            url,
+            (key, previous) -> {
+              if (previous != null && previous.headerHash() == headerHash) {
+                return previous;
+              }
+              String module = getModuleName(file);
+              return new FileEntry(
+                  module, getFingerprint(file, module), headerHash, newBoundedNameSet());
+            });
+    entry.names().add(name);
+  }
+
+  /**
+   * Returns a thread-safe set that keeps the {@link #MAX_NAMES_PER_FILE} most recently added
+   * names. Adding a name again marks it as recently used.
+   */
+  @NotNull
+  private static Set<String> newBoundedNameSet() {
+    Map<String, Boolean> lastUse =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > MAX_NAMES_PER_FILE;
+          }
+        };
+    return Collections.synchronizedSet(Collections.newSetFromMap(lastUse));
+  }
+
+  /** Returns true if the class comes from a library or the JDK rather than from project sources. */
+  private boolean isLibraryClass(@NotNull PsiClass psiClass) {
+    PsiFile file = psiClass.getContainingFile();
+    VirtualFile virtualFile = file != null ? file.getVirtualFile() : null;
+    return virtualFile != null && ProjectFileIndex.getInstance(project).isInLibrary(virtualFile);
+  }
+
+  private void dropIfJavaChanged() {
+    if (!loaded.isEmpty() && javaTracker.getModificationCount() != javaCountAtLoad) {
+      loaded.clear();
+    }
+  }
+
+  @NotNull
+  private String getModuleName(@NotNull VirtualFile file) {
+    Module module = ModuleUtilCore.findModuleForFile(file, project);
+    return module != null ? module.getName() : "";
+  }
+
+  /**
+   * Returns a hash of the library classpath the recorded names resolve against: class root URLs of
+   * the module and its dependencies, plus the timestamp and size of each jar, so replacing a
+   * library version changes it. Source roots are left out, since no source answer is kept.
+   */
+  private long getFingerprint(@NotNull VirtualFile file, @NotNull String moduleName) {
+    long rootCount = rootTracker.getModificationCount();
+    if (rootCount != fingerprintRootCount) {
+      fingerprints.clear();
+      fingerprintRootCount = rootCount;
+    }
+    return fingerprints.computeIfAbsent(moduleName, name -> computeFingerprint(file));
+  }
+
+  private long computeFingerprint(@NotNull VirtualFile file) {
+    Module module = ModuleUtilCore.findModuleForFile(file, project);
+    OrderEnumerator enumerator =
+        module != null
+            ? OrderEnumerator.orderEntries(module).recursively()
+            : OrderEnumerator.orderEntries(project);
+
+    long hash = 17;
+    for (VirtualFile root : enumerator.classes().getRoots()) {
+      hash = hash * 31 + root.getUrl().hashCode();
+      VirtualFile local = VfsUtilCore.getVirtualFileForJar(root);
+      if (local != null) {
+        hash = hash * 31 + Long.hashCode(local.getTimeStamp());
+        hash = hash * 31 + Long.hashCode(local.getLength());
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Names of one file that resolve to library classes, the module they were resolved in, its
+   * classpath fingerprint and the hash of the file header they were resolved under.
+   */
+  private record FileEntry(
+      @NotNull String module,
+      long fingerprint,
+      long headerHash,
+      @NotNull Set<String> names,
+      boolean validated) {
+
+    FileEntry(
+        @NotNull String module, long fingerprint, long headerHash, @NotNull Set<String> names) {
+      this(module, fingerprint, headerHash, names, false);
+    }
+
+    @NotNull
+    FileEntry asValidated() {
+      return new FileEntry(module, fingerprint, headerHash, names, true);
+    }
+
+    /** Copies the names; the recorded sets are synchronized and must be iterated under lock. */
+    @NotNull
+    List<String> copyNames() {
+      synchronized (names) {
+        return new ArrayList<>(names);
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsLazyElementType;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.DroolsWhenClause;
+import com.plugin.drool.util.DroolsChars;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The bindings of one rule: the {@code $name} variables its when clause declares, and every {@code
+ * $name} token pair in the rule, declarations included.
+ *
+ * <p>Occurrences come from a single pass over the rule's leaves, which are the lexer's tokens, so
+ * string literals and comments never count and the rule's text is not copied. A then clause that
+ * nothing has parsed yet is one leaf, and only its own text is lexed, so it stays unparsed. The
+ * table is cached on the rule and rebuilt after its file changes; the unused-binding check, {@link
+ * com.plugin.drool.fixes.RemoveBindingFix} and binding reference resolution all read it instead of
+ * scanning the rule themselves.
+ */
+public final class DroolsRuleBindings {
+
+  /** Binding declarations of the when clause, keyed by name with the {@code $} prefix. */
+  private final Map<String, DroolsBindingVariable> declarations;
+
+  /** Per binding name without the {@code $}, the file ranges of its {@code $name} occurrences. */
+  private final Map<String, List<TextRange>> occurrences = new HashMap<>();
+
+  private DroolsRuleBindings(@NotNull DroolsRuleBlock rule) {
+    declarations = collectDeclarations(rule);
+    DroolsChars.forEachLeaf(rule.getNode(), new OccurrenceScanner()::scanLeaf);
+  }
+
+  /** Returns the binding table of {@code rule}, building it on first use after each file change. */
+  @NotNull
+  public static DroolsRuleBindings forRule(@NotNull DroolsRuleBlock rule) {
+    return CachedValuesManager.getCachedValue(
+        rule, () -> CachedValueProvider.Result.create(new DroolsRuleBindings(rule), rule));
+  }
+
+  @NotNull
+  private static Map<String, DroolsBindingVariable> collectDeclarations(
+      @NotNull DroolsRuleBlock rule) {
+    DroolsWhenClause whenClause = rule.getWhenClause();
+    if (whenClause == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, DroolsBindingVariable> bindings = new HashMap<>();
+    for (DroolsBindingVariable binding :
+        PsiTreeUtil.findChildrenOfType(whenClause, DroolsBindingVariable.class)) {
+      bindings.put("$" + binding.getIdentifier().getText(), binding);
+    }
+    return Collections.unmodifiableMap(bindings);
+  }
+
+  /** Returns the when clause's binding declarations, keyed by name with the {@code $} prefix. */
+  @NotNull
+  public Map<String, DroolsBindingVariable> getDeclarations() {
+    return declarations;
+  }
+
+  /**
+   * Returns the file ranges of the {@code $name} occurrences in the rule, declaration included, in
+   * file order.
+   *
+   * @param name the binding name without the {@code $} prefix
+   */
+  @NotNull
+  public List<TextRange> getOccurrences(@NotNull String name) {
+    List<TextRange> ranges = occurrences.get(name);
+    return ranges != null ? Collections.unmodifiableList(ranges) : Collections.emptyList();
+  }
+
+  /**
+   * Returns whether the binding {@code $name} occurs at most once in the rule, which is its
+   * declaration alone.
+   *
+   * @param name the binding name without the {@code $} prefix
+   */
+  public boolean isUnused(@NotNull String name) {
+    List<TextRange> ranges = occurrences.get(name);
+    return ranges == null || ranges.size() <= 1;
+  }
+
+  /** Collects the {@code $name} token pairs of a rule from its leaves, in text order. */
+  private final class OccurrenceScanner {
+
+    private final Lexer lexer = new DroolsLexerAdapter();
+
+    /** File offset of the {@code $} token just before the current token, or -1. */
+    private int dollarStart = -1;
+
+    void scanLeaf(@NotNull ASTNode leaf) {
+      IElementType type = leaf.getElementType();
+      if (type instanceof DroolsLazyElementType) {
+        // An unparsed body starts and ends at token boundaries, so its text lexes on its own
+        CharSequence text = leaf.getChars();
+        int offset = leaf.getStartOffset();
+        lexer.start(text);
+        for (IElementType token; (token = lexer.getTokenType()) != null; lexer.advance()) {
+          scanToken(token, text, lexer.getTokenStart(), lexer.getTokenEnd(), offset);
+        }
+      } else if (type == DroolsTypes.DOLLAR
+          || (type == DroolsTypes.IDENTIFIER && dollarStart >= 0)) {
+        scanToken(type, leaf.getChars(), 0, leaf.getTextLength(), leaf.getStartOffset());
+      } else {
+        dollarStart = -1;
+      }
+    }
+
+    private void scanToken(
+        @NotNull IElementType type, @NotNull CharSequence text, int start, int end, int offset) {
+      if (type == DroolsTypes.IDENTIFIER && dollarStart >= 0) {
+        String name = text.subSequence(start, end).toString();
+        occurrences
+            .computeIfAbsent(name, key -> new ArrayList<>())
+            .add(new TextRange(dollarStart, offset + end));
+      }
+      dollarStart = type == DroolsTypes.DOLLAR ? offset + start : -1;
+    }
+  }
+}
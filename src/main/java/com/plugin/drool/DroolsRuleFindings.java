@@ -0,0 +1,268 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Ref;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsClassName;
+import com.plugin.drool.psi.DroolsFactPattern;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.DroolsWhenClause;
+import com.plugin.drool.util.BoundedLruCache;
+import com.plugin.drool.util.CacheStats;
+import com.plugin.drool.util.DroolsChars;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.plugin.drool.util.DroolsConstants.isJavaLangClass;
+
+/**
+ * The semantic findings of one rule: fact pattern types that do not resolve, and bindings that are
+ * never used.
+ *
+ * <p>Findings are memoized by content rather than by file modification. Each file keeps a bounded
+ * LRU cache keyed by a hash of the rule's token stream and a hash of the file's header (package,
+ * imports and declare blocks). A rule starts at a token boundary outside any comment, so its text
+ * determines its tokens, and the hash is taken over its leaf characters ({@link
+ * DroolsChars#hash}) instead of lexing it again. After an edit only the rule whose text changed
+ * misses the cache, so the inspections redo one rule instead of the whole file; an edit to the
+ * header misses for every rule of the file.
+ *
+ * <p>Offsets are relative to the rule, so an entry is valid for any rule with the same text.
+ * Types that resolved to a Java class are trusted until the {@link
+ * DroolsResolutionCache#getClassDependencyTracker() class dependency epoch} advances. That epoch
+ * does not follow rule file edits, so the other types are looked up again on each call to {@link
+ * #getUnresolvedClasses}: those that did not resolve, since a type declared in another rule file
+ * can make them resolve, and those that resolved only through such a declaration, since deleting
+ * it makes them unresolved.
+ */
+public final class DroolsRuleFindings {
+
+  /** Maximum total weight of one file's cache: one per rule plus one per finding. */
+  static final int MAX_WEIGHT_PER_FILE = 50_000;
+
+  private static final Key<FileMemo> MEMO_KEY = Key.create("drools.rule.findings");
+
+  /** The class dependency epoch the findings were computed in. */
+  private final long classEpoch;
+
+  /**
+   * Fact pattern types that did not resolve when the findings were computed, or resolved only
+   * through a type declared in another rule file.
+   */
+  private final List<Finding> recheckedCandidates = new ArrayList<>();
+
+  /** Bindings that are declared but never referenced, in rule order. */
+  private final List<Finding> unusedBindings = new ArrayList<>();
+
+  private DroolsRuleFindings(@NotNull DroolsRuleBlock rule, long classEpoch) {
+    this.classEpoch = classEpoch;
+    int ruleStart = rule.getNode().getStartOffset();
+
+    DroolsWhenClause whenClause = rule.getWhenClause();
+    if (whenClause != null) {
+      DroolsImportTable imports = DroolsImportTable.forElement(rule);
+      for (DroolsFactPattern pattern :
+          PsiTreeUtil.findChildrenOfType(whenClause, DroolsFactPattern.class)) {
+        DroolsClassName className = pattern.getClassName();
+        String name = DroolsChars.trimmedText(className.getNode());
+        if (resolve(name, rule, imports) != Resolution.RESOLVED) {
+          recheckedCandidates.add(
+              new Finding(className.getNode().getStartOffset() - ruleStart, name));
+        }
+      }
+    }
+
+    DroolsRuleBindings bindings = DroolsRuleBindings.forRule(rule);
+    for (DroolsBindingVariable binding : bindings.getDeclarations().values()) {
+      String name = binding.getIdentifier().getText();
+      if (!name.isEmpty() && bindings.isUnused(name)) {
+        unusedBindings.add(new Finding(binding.getNode().getStartOffset() - ruleStart, name));
+      }
+    }
+    unusedBindings.sort(Comparator.comparingInt(Finding::offset));
+  }
+
+  /**
+   * Returns the findings of {@code rule}, from its file's cache when a rule with the same text
+   * and the same file header was checked before in the current class dependency epoch.
+   */
+  @NotNull
+  public static DroolsRuleFindings forRule(@NotNull DroolsRuleBlock rule) {
+    long classEpoch =
+        DroolsResolutionCache.getInstance(rule.getProject())
+            .getClassDependencyTracker()
+            .getModificationCount();
+    if (!(rule.getContainingFile() instanceof DroolsPsiFile file)) {
+      return new DroolsRuleFindings(rule, classEpoch);
+    }
+
+    FileMemo memo = file.getUserData(MEMO_KEY);
+    if (memo == null) {
+      memo = file.putUserDataIfAbsent(MEMO_KEY, new FileMemo());
+    }
+    ASTNode node = rule.getNode();
+    RuleKey key = new RuleKey(DroolsChars.hash(node), node.getTextLength(), headerHash(file));
+    DroolsRuleFindings cached = memo.cache.get(key);
+    if (cached != null && cached.classEpoch == classEpoch) {
+      memo.stats.recordHit();
+      return cached;
+    }
+    memo.stats.recordMiss();
+
+    long start = System.nanoTime();
+    DroolsRuleFindings findings = new DroolsRuleFindings(rule, classEpoch);
+    memo.stats.recordLoad(System.nanoTime() - start);
+    memo.cache.put(key, findings);
+    return findings;
+  }
+
+  /** Returns the hit, miss and eviction counts of the findings cache of {@code file}. */
+  @NotNull
+  public static CacheStats.Snapshot getCacheStats(@NotNull PsiFile file) {
+    FileMemo memo = file.getUserData(MEMO_KEY);
+    return (memo != null ? memo.stats : new CacheStats()).snapshot();
+  }
+
+  /**
+   * Returns the fact pattern types of {@code rule} that do not resolve. Only the types that did
+   * not resolve to a Java class when the findings were computed are looked up again.
+   */
+  @NotNull
+  public List<Finding> getUnresolvedClasses(@NotNull DroolsRuleBlock rule) {
+    if (recheckedCandidates.isEmpty()) {
+      return Collections.emptyList();
+    }
+    DroolsImportTable imports = DroolsImportTable.forElement(rule);
+    List<Finding> unresolved = new ArrayList<>();
+    for (Finding candidate : recheckedCandidates) {
+      if (resolve(candidate.name(), rule, imports) == Resolution.UNRESOLVED) {
+        unresolved.add(candidate);
+      }
+    }
+    return unresolved;
+  }
+
+  /** Returns the bindings that the rule declares but never references, in rule order. */
+  @NotNull
+  public List<Finding> getUnusedBindings() {
+    return Collections.unmodifiableList(unusedBindings);
+  }
+
+  private int weight() {
+    return 1 + recheckedCandidates.size() + unusedBindings.size();
+  }
+
+  /**
+   * Returns how a fact pattern type resolves. Empty names, {@code java.lang} classes and types
+   * declared in the file always resolve, as does any name while resolution fails during indexing.
+   * Types declared in the file are part of the header the findings are keyed by.
+   */
+  @NotNull
+  private static Resolution resolve(
+      @NotNull String name, @NotNull PsiElement context, @NotNull DroolsImportTable imports) {
+    if (name.isEmpty() || isJavaLangClass(name) || imports.isDeclaredType(name)) {
+      return Resolution.RESOLVED;
+    }
+    try {
+      Ref<PsiClass> live = Ref.create();
+      boolean resolvable =
+          DroolsResolutionSnapshot.getInstance(context.getProject())
+              .isResolvable(
+                  name,
+                  context,
+                  () -> {
+                    live.set(imports.resolveClass(name, context));
+                    return live.get();
+                  });
+      if (!resolvable) {
+        return Resolution.UNRESOLVED;
+      }
+      // A snapshot answer is always a library class
+      return live.get() instanceof DroolsDeclaredClass
+          ? Resolution.DECLARED_ELSEWHERE
+          : Resolution.RESOLVED;
+    } catch (ProcessCanceledException e) {
+      // Must not be memoized as an answer
+      throw e;
+    } catch (Exception e) {
+      // Fail-open: if resolution fails due to indexing, don't report false positives. Leaving
+      // dumb mode advances the class dependency epoch, so the answer is not kept past indexing.
+      return Resolution.RESOLVED;
+    }
+  }
+
+  /**
+   * Returns the hash of the file's package, import and declare items, cached per modification. Two
+   * headers with the same hash qualify every class name the same way.
+   */
+  static long headerHash(@NotNull DroolsPsiFile file) {
+    return CachedValuesManager.getCachedValue(
+        file, () -> CachedValueProvider.Result.create(computeHeaderHash(file), file));
+  }
+
+  private static long computeHeaderHash(@NotNull DroolsPsiFile file) {
+    long hash = 1;
+    for (ASTNode item = file.getNode().getFirstChildNode();
+        item != null;
+        item = item.getTreeNext()) {
+      if (item.getElementType() == DroolsTypes.PACKAGE_DECL
+          || item.getElementType() == DroolsTypes.IMPORT_STATEMENT
+          || item.getElementType() == DroolsTypes.DECLARE_BLOCK) {
+        hash = 31 * hash + DroolsChars.hash(item);
+      }
+    }
+    return hash;
+  }
+
+  /** A class name or binding found in a rule, at an offset relative to the start of the rule. */
+  public record Finding(int offset, @NotNull String name) {
+
+    /**
+     * Returns the element of the given type that starts at this finding's offset in {@code rule},
+     * or null if there is none.
+     */
+    @Nullable
+    public <T extends PsiElement> T findIn(@NotNull DroolsRuleBlock rule, @NotNull Class<T> type) {
+      ASTNode ruleNode = rule.getNode();
+      ASTNode leaf = ruleNode.findLeafElementAt(offset);
+      T element = leaf != null ? PsiTreeUtil.getParentOfType(leaf.getPsi(), type, false) : null;
+      if (element == null
+          || element.getNode().getStartOffset() != ruleNode.getStartOffset() + offset) {
+        return null;
+      }
+      return element;
+    }
+  }
+
+  /** How a fact pattern type resolved. */
+  private enum Resolution {
+    /** To a Java class, or trivially; valid for the class dependency epoch. */
+    RESOLVED,
+    /** To a type declared in another rule file, which rule file edits can remove. */
+    DECLARED_ELSEWHERE,
+    UNRESOLVED
+  }
+
+  /** Cache key: the rule's token stream hash and text length, and the file's header hash. */
+  private record RuleKey(long tokenHash, int textLength, long headerHash) {}
+
+  /** The findings cache of one file and its counters. */
+  private static final class FileMemo {
+    final CacheStats stats = new CacheStats();
+    final BoundedLruCache<RuleKey, DroolsRuleFindings> cache =
+        new BoundedLruCache<>(MAX_WEIGHT_PER_FILE, (key, findings) -> findings.weight(), stats);
+  }
+}
@@ -0,0 +1,247 @@
+package com.plugin.drool;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.ActionToolbar;
+import com.intellij.openapi.actionSystem.DefaultActionGroup;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.fileEditor.OpenFileDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.ui.ColoredTreeCellRenderer;
+import com.intellij.ui.DoubleClickListener;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.SimpleTextAttributes;
+import com.intellij.ui.treeStructure.Tree;
+import com.intellij.util.PlatformIcons;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.intellij.util.ui.JBUI;
+import com.plugin.drool.index.DroolsRuleGroupIndex;
+import com.plugin.drool.index.DroolsRuleGroupIndex.GroupKind;
+import com.plugin.drool.index.DroolsRuleGroupIndex.RuleEntry;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseEvent;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.swing.JTree;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeWillExpandListener;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+import javax.swing.tree.TreePath;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Content of the "Drools Rule Groups" tool window: agenda groups and ruleflow groups, each
+ * expanding to its rules ordered by salience.
+ *
+ * <p>Everything shown comes from {@link DroolsRuleGroupIndex}. Opening the window reads the group
+ * names and rule counts only; the rules of a group are read when it is first expanded. The tree
+ * uses a fixed row height and the large-model mode of {@link JTree}, so only visible rows are
+ * measured and painted, whatever the number of rules.
+ */
+final class DroolsRuleGroupsPanel extends SimpleToolWindowPanel implements Disposable {
+
+  private static final String LOADING = "Loading...";
+
+  /** Rules of a group in firing order: highest salience first, then by name. */
+  private static final Comparator<RuleEntry> FIRING_ORDER =
+      Comparator.comparingInt((RuleEntry entry) -> -entry.rule().getSalienceValue())
+          .thenComparing(entry -> entry.rule().ruleName());
+
+  private final Project project;
+  private final DefaultMutableTreeNode root = new DefaultMutableTreeNode();
+  private final DefaultTreeModel model = new DefaultTreeModel(root);
+  private final Tree tree = new Tree(model);
+
+  DroolsRuleGroupsPanel(@NotNull Project project) {
+    super(true, true);
+    this.project = project;
+
+    tree.setRootVisible(false);
+    tree.setShowsRootHandles(true);
+    tree.setRowHeight(JBUI.CurrentTheme.Tree.rowHeight());
+    tree.setLargeModel(true);
+    tree.setCellRenderer(new GroupTreeRenderer());
+    tree.addTreeWillExpandListener(new LazyGroupLoader());
+    new DoubleClickListener() {
+      @Override
+      protected boolean onDoubleClick(@NotNull MouseEvent event) {
+        return navigateToSelection();
+      }
+    }.installOn(tree);
+    tree.addKeyListener(
+        new KeyAdapter() {
+          @Override
+          public void keyPressed(KeyEvent event) {
+            if (event.getKeyCode() == KeyEvent.VK_ENTER && navigateToSelection()) {
+              event.consume();
+            }
+          }
+        });
+
+    DefaultActionGroup actions = new DefaultActionGroup();
+    actions.add(DumbAwareAction.create("Refresh", AllIcons.Actions.Refresh, event -> refresh()));
+    ActionToolbar toolbar =
+        ActionManager.getInstance().createActionToolbar("DroolsRuleGroups", actions, true);
+    toolbar.setTargetComponent(tree);
+    setToolbar(toolbar.getComponent());
+    setContent(ScrollPaneFactory.createScrollPane(tree));
+
+    refresh();
+  }
+
+  /** Re-reads the group names and counts from the index, once indexing has finished. */
+  void refresh() {
+    root.removeAllChildren();
+    root.add(new DefaultMutableTreeNode(LOADING, false));
+    model.reload();
+
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    ReadAction.nonBlocking(() -> loadGroups(scope))
+        .inSmartMode(project)
+        .expireWith(this)
+        .coalesceBy(this)
+        .finishOnUiThread(ModalityState.any(), this::showGroups)
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  @NotNull
+  private List<DefaultMutableTreeNode> loadGroups(@NotNull GlobalSearchScope scope) {
+    return Arrays.stream(GroupKind.values())
+        .map(
+            kind -> {
+              DefaultMutableTreeNode kindNode = new DefaultMutableTreeNode(kind);
+              for (String name : DroolsRuleGroupIndex.getGroupNames(project, kind, scope)) {
+                int ruleCount = DroolsRuleGroupIndex.countRules(kind, name, scope);
+                DefaultMutableTreeNode groupNode =
+                    new DefaultMutableTreeNode(new GroupNode(kind, name, ruleCount));
+                // Placeholder child, replaced by the rules when the group is first expanded
+                groupNode.add(new DefaultMutableTreeNode(LOADING, false));
+                kindNode.add(groupNode);
+              }
+              return kindNode;
+            })
+        .toList();
+  }
+
+  private void showGroups(@NotNull List<DefaultMutableTreeNode> kindNodes) {
+    root.removeAllChildren();
+    kindNodes.forEach(root::add);
+    model.reload();
+    for (int row = 0; row < tree.getRowCount(); row++) {
+      if (tree.getPathForRow(row).getLastPathComponent() instanceof DefaultMutableTreeNode node
+          && node.getUserObject() instanceof GroupKind) {
+        tree.expandRow(row);
+      }
+    }
+  }
+
+  private void loadRules(@NotNull DefaultMutableTreeNode groupNode, @NotNull GroupNode group) {
+    GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+    ReadAction.nonBlocking(
+            () -> {
+              List<RuleEntry> rules =
+                  DroolsRuleGroupIndex.findRules(group.kind(), group.name(), scope);
+              return rules.stream().sorted(FIRING_ORDER).toList();
+            })
+        .inSmartMode(project)
+        .expireWith(this)
+        .finishOnUiThread(
+            ModalityState.any(),
+            rules -> {
+              groupNode.removeAllChildren();
+              for (RuleEntry rule : rules) {
+                groupNode.add(new DefaultMutableTreeNode(rule, false));
+              }
+              model.nodeStructureChanged(groupNode);
+            })
+        .submit(AppExecutorUtil.getAppExecutorService());
+  }
+
+  private boolean navigateToSelection() {
+    TreePath path = tree.getSelectionPath();
+    if (path == null
+        || !(path.getLastPathComponent() instanceof DefaultMutableTreeNode node)
+        || !(node.getUserObject() instanceof RuleEntry entry)
+        || !entry.file().isValid()) {
+      return false;
+    }
+    new OpenFileDescriptor(project, entry.file(), entry.rule().ruleOffset()).navigate(true);
+    return true;
+  }
+
+  private static boolean isPlaceholder(@Nullable Object child) {
+    return child instanceof DefaultMutableTreeNode node && node.getUserObject() == LOADING;
+  }
+
+  @Override
+  public void dispose() {}
+
+  /** A group of a kind, with the number of its rules at the time the tree was loaded. */
+  private record GroupNode(@NotNull GroupKind kind, @NotNull String name, int ruleCount) {}
+
+  /** Loads the rules of a group from the index when the group is first expanded. */
+  private final class LazyGroupLoader implements TreeWillExpandListener {
+
+    @Override
+    public void treeWillExpand(TreeExpansionEvent event) {
+      if (event.getPath().getLastPathComponent() instanceof DefaultMutableTreeNode node
+          && node.getUserObject() instanceof GroupNode group
+          && isPlaceholder(node.getChildCount() == 1 ? node.getFirstChild() : null)) {
+        loadRules(node, group);
+      }
+    }
+
+    @Override
+    public void treeWillCollapse(TreeExpansionEvent event) {}
+  }
+
+  /** Renders kinds, groups with their rule counts, and rules with salience and file. */
+  private static final class GroupTreeRenderer extends ColoredTreeCellRenderer {
+
+    @Override
+    public void customizeCellRenderer(
+        @NotNull JTree tree,
+        Object value,
+        boolean selected,
+        boolean expanded,
+        boolean leaf,
+        int row,
+        boolean hasFocus) {
+      Object userObject =
+          value instanceof DefaultMutableTreeNode node ? node.getUserObject() : null;
+      if (userObject instanceof GroupKind kind) {
+        setIcon(AllIcons.Nodes.Folder);
+        append(kind.getTitle(), SimpleTextAttributes.REGULAR_BOLD_ATTRIBUTES);
+      } else if (userObject instanceof GroupNode group) {
+        setIcon(AllIcons.Nodes.Tag);
+        append(group.name());
+        append(
+            "  " + group.ruleCount() + (group.ruleCount() == 1 ? " rule" : " rules"),
+            SimpleTextAttributes.GRAYED_ATTRIBUTES);
+      } else if (userObject instanceof RuleEntry entry) {
+        setIcon(PlatformIcons.METHOD_ICON);
+        append(entry.rule().ruleName());
+        StringBuilder details = new StringBuilder();
+        if (entry.rule().salience() != null) {
+          details.append("  salience ").append(entry.rule().salience());
+        }
+        if (entry.rule().autoFocus()) {
+          details.append("  auto-focus");
+        }
+        details.append("  ").append(entry.file().getName());
+        append(details.toString(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+      } else if (userObject != null) {
+        append(userObject.toString(), SimpleTextAttributes.GRAYED_ATTRIBUTES);
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.ToolWindow;
+import com.intellij.openapi.wm.ToolWindowFactory;
+import com.intellij.ui.content.Content;
+import com.intellij.ui.content.ContentFactory;
+import org.jetbrains.annotations.NotNull;
+
+/** Creates the "Drools Rule Groups" tool window, listing agenda and ruleflow groups with rules. */
+public class DroolsRuleGroupsToolWindowFactory implements ToolWindowFactory, DumbAware {
+
+  @Override
+  public void createToolWindowContent(@NotNull Project project, @NotNull ToolWindow toolWindow) {
+    DroolsRuleGroupsPanel panel = new DroolsRuleGroupsPanel(project);
+    Content content = ContentFactory.getInstance().createContent(panel, null, false);
+    content.setDisposer(panel);
+    toolWindow.getContentManager().addContent(content);
+  }
+}
@@ -111,29 +111,17 @@ public class DroolsStructureViewElement implements StructureViewTreeElement, Sor
     if (element instanceof DroolsPsiFile droolsPsiFile) {
       return droolsPsiFile.getName();
     } else if (element instanceof DroolsRuleBlock ruleBlock) {
-      DroolsRuleName ruleName = ruleBlock.getRuleName();
-      if (ruleName != null) {
-        return stripQuotes(ruleName.getText());
-      }
-      return "<unnamed rule>";
+      String name = ruleBlock.getNameString();
+      return !name.isEmpty() ? name : "<unnamed rule>";
     } else if (element instanceof DroolsQueryDef queryDef) {
-      DroolsQueryName queryName = queryDef.getQueryName();
-      if (queryName != null) {
-        return stripQuotes(queryName.getText());
-      }
-      return "<unnamed query>";
+      String name = queryDef.getNameString();
+      return !name.isEmpty() ? name : "<unnamed query>";
     } else if (element instanceof DroolsFunctionDef functionDef) {
-      PsiElement identifier = functionDef.getIdentifier();
-      if (identifier != null) {
-        return identifier.getText();
-      }
-      return "<unnamed function>";
+      String name = functionDef.getFunctionName();
+      return name != null ? name : "<unnamed function>";
     } else if (element instanceof DroolsDeclareBlock declareBlock) {
-      PsiElement identifier = declareBlock.getIdentifier();
-      if (identifier != null) {
-        return identifier.getText();
-      }
-      return "<unnamed type>";
+      String name = declareBlock.getDeclaredName();
+      return name != null ? name : "<unnamed type>";
     } else if (element instanceof PsiNamedElement psiNamedElement) {
       return psiNamedElement.getName();
     }
@@ -156,16 +144,4 @@ public class DroolsStructureViewElement implements StructureViewTreeElement, Sor
     }
     return null;
   }
-
-  /** Strips surrounding quotes from a string if present. */
-  @NotNull
-  private static String stripQuotes(@Nullable String text) {
-    if (text == null) {
-      return "";
-    }
-    if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
-      return text.substring(1, text.length() - 1);
-    }
-    return text;
-  }
 }
@@ -11,15 +11,19 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.util.PsiTreeUtil;
 import com.plugin.drool.DroolsPsiFile;
+import com.plugin.drool.DroolsRuleBindings;
 import com.plugin.drool.psi.DroolsBindingPattern;
 import com.plugin.drool.psi.DroolsBindingVariable;
 import com.plugin.drool.psi.DroolsFactPattern;
+import com.plugin.drool.psi.DroolsRuleBlock;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Quick-fix that removes an unused binding variable prefix from a pattern. Transforms {@code $var :
  * Type(constraints)} into {@code Type(constraints)} by removing the binding variable and the colon
- * separator.
+ * separator. The fix is only offered for bindings that the rule's {@link DroolsRuleBindings} table
+ * shows as unused.
  */
 public class RemoveBindingFix implements IntentionAction, LocalQuickFix {
 
@@ -47,9 +51,17 @@ public class RemoveBindingFix implements IntentionAction, LocalQuickFix {
     return getText();
   }
 
+  /**
+   * Available on a binding at the caret that its rule's {@link DroolsRuleBindings} table shows as
+   * unused, so a warning that went stale after an edit offers no fix.
+   */
   @Override
   public boolean isAvailable(@NotNull Project project, Editor editor, PsiFile file) {
-    return file instanceof DroolsPsiFile;
+    if (editor == null || !(file instanceof DroolsPsiFile)) {
+      return false;
+    }
+    DroolsBindingVariable bindingVar = findBindingAtCaret(editor, file);
+    return bindingVar != null && isRemovable(bindingVar);
   }
 
   @Override
@@ -58,14 +70,7 @@ public class RemoveBindingFix implements IntentionAction, LocalQuickFix {
       return;
     }
 
-    int offset = editor.getCaretModel().getOffset();
-    PsiElement elementAtCaret = file.findElementAt(offset);
-    if (elementAtCaret == null) {
-      return;
-    }
-
-    DroolsBindingVariable bindingVar =
-        PsiTreeUtil.getParentOfType(elementAtCaret, DroolsBindingVariable.class, false);
+    DroolsBindingVariable bindingVar = findBindingAtCaret(editor, file);
     if (bindingVar == null) {
       return;
     }
@@ -73,6 +78,32 @@ public class RemoveBindingFix implements IntentionAction, LocalQuickFix {
     removeBinding(project, file, bindingVar);
   }
 
+  /** Returns the binding at the caret, or just before it when the caret ends the binding. */
+  @Nullable
+  private static DroolsBindingVariable findBindingAtCaret(
+      @NotNull Editor editor, @NotNull PsiFile file) {
+    int offset = editor.getCaretModel().getOffset();
+    for (int at = offset; at >= Math.max(0, offset - 1); at--) {
+      PsiElement elementAtCaret = file.findElementAt(at);
+      DroolsBindingVariable bindingVar =
+          PsiTreeUtil.getParentOfType(elementAtCaret, DroolsBindingVariable.class, false);
+      if (bindingVar != null) {
+        return bindingVar;
+      }
+    }
+    return null;
+  }
+
+  /** Returns whether {@code bindingVar} prefixes a pattern and is never referenced in its rule. */
+  private static boolean isRemovable(@NotNull DroolsBindingVariable bindingVar) {
+    if (!(bindingVar.getParent() instanceof DroolsBindingPattern)) {
+      return false;
+    }
+    DroolsRuleBlock rule = PsiTreeUtil.getParentOfType(bindingVar, DroolsRuleBlock.class);
+    return rule == null
+        || DroolsRuleBindings.forRule(rule).isUnused(bindingVar.getIdentifier().getText());
+  }
+
   @Override
   public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
     PsiElement element = descriptor.getPsiElement();
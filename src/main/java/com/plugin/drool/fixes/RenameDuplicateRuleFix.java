@@ -7,30 +7,71 @@ import com.intellij.openapi.editor.Document;
 import com.intellij.openapi.editor.Editor;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiDocumentManager;
-import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.SmartPointerManager;
+import com.intellij.psi.SmartPsiElementPointer;
 import com.plugin.drool.DroolsPsiFile;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
 import com.plugin.drool.psi.DroolsRuleBlock;
 import com.plugin.drool.psi.DroolsRuleName;
+import java.util.HashSet;
+import java.util.Set;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Quick-fix that renames a duplicate rule by replacing the rule name text with a suggested name
- * (typically the original name with a numeric suffix like _2, _3, etc.).
+ * (the original name with a numeric suffix like _2, _3, etc.). The suffix is picked by {@link
+ * #suggestUniqueName(DroolsRuleBlock)} when the fix is first shown or run, not when the inspection
+ * registers it, since finding a free one takes index lookups.
  */
 public class RenameDuplicateRuleFix implements IntentionAction, LocalQuickFix {
 
-  private final String suggestedName;
+  private final SmartPsiElementPointer<DroolsRuleBlock> rulePointer;
 
-  public RenameDuplicateRuleFix(@NotNull String suggestedName) {
-    this.suggestedName = suggestedName;
+  /** The new name, picked on first use so the text shown and the rename agree. */
+  private volatile String suggestedName;
+
+  public RenameDuplicateRuleFix(@NotNull DroolsRuleBlock rule) {
+    this.rulePointer = SmartPointerManager.createPointer(rule);
+  }
+
+  /**
+   * Returns the rule's name with the smallest numeric suffix ({@code _2}, {@code _3}, ...) that no
+   * other rule of the same package uses, in this file or in another file that shares a KieBase
+   * with it. The other files are found as {@link DroolsDuplicateRuleInspection} finds them, so the
+   * new name is never reported as a duplicate, while names used only in disjoint KieBases stay
+   * available.
+   */
+  @NotNull
+  public static String suggestUniqueName(@NotNull DroolsRuleBlock rule) {
+    String name = rule.getNameString();
+    if (!(rule.getContainingFile() instanceof DroolsPsiFile file)) {
+      return name + "_2";
+    }
+    String packageName = file.getPackageName();
+
+    // Names in this file are checked directly: the file may not be indexed, or not yet reindexed
+    Set<String> namesInFile = new HashSet<>();
+    for (DroolsRuleBlock other : file.getRules()) {
+      namesInFile.add(other.getNameString());
+    }
+
+    for (int suffix = 2; ; suffix++) {
+      String candidate = name + "_" + suffix;
+      if (!namesInFile.contains(candidate)
+          && DroolsDuplicateRuleInspection.findOtherFileDefining(file, packageName, candidate)
+              == null) {
+        return candidate;
+      }
+    }
   }
 
   @NotNull
   @Override
   public String getText() {
-    return "Rename rule to '" + suggestedName + "'";
+    String name = getSuggestedName();
+    return name != null ? "Rename rule to '" + name + "'" : "Rename duplicate rule";
   }
 
   @NotNull
@@ -47,70 +88,46 @@ public class RenameDuplicateRuleFix implements IntentionAction, LocalQuickFix {
 
   @Override
   public boolean isAvailable(@NotNull Project project, Editor editor, PsiFile file) {
-    return file instanceof DroolsPsiFile;
+    return file instanceof DroolsPsiFile && rulePointer.getElement() != null;
   }
 
   @Override
   public void invoke(@NotNull Project project, Editor editor, PsiFile file) {
-    if (editor == null || !(file instanceof DroolsPsiFile)) {
-      return;
-    }
-
-    int offset = editor.getCaretModel().getOffset();
-    PsiElement elementAtCaret = file.findElementAt(offset);
-    if (elementAtCaret == null) {
-      return;
-    }
-
-    DroolsRuleName ruleName =
-        PsiTreeUtil.getParentOfType(elementAtCaret, DroolsRuleName.class, false);
-    if (ruleName == null) {
-      // Try to find the rule block and get its name
-      DroolsRuleBlock ruleBlock =
-          PsiTreeUtil.getParentOfType(elementAtCaret, DroolsRuleBlock.class, false);
-      if (ruleBlock != null) {
-        ruleName = ruleBlock.getRuleName();
-      }
-    }
-
-    if (ruleName != null) {
-      replaceRuleName(project, file, ruleName);
-    }
+    renameRule(project);
   }
 
   @Override
   public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
-    PsiElement element = descriptor.getPsiElement();
-    if (element == null) {
-      return;
-    }
+    renameRule(project);
+  }
 
-    // The descriptor element might be the rule name itself or a child of it
-    DroolsRuleName ruleName;
-    if (element instanceof DroolsRuleName droolsRuleName) {
-      ruleName = droolsRuleName;
-    } else {
-      ruleName = PsiTreeUtil.getParentOfType(element, DroolsRuleName.class, false);
-      if (ruleName == null) {
-        // Try to find via rule block
-        DroolsRuleBlock ruleBlock =
-            PsiTreeUtil.getParentOfType(element, DroolsRuleBlock.class, false);
-        if (ruleBlock != null) {
-          ruleName = ruleBlock.getRuleName();
-        }
+  /** Returns the new name of the rule, picking it on first call, or null if the rule is gone. */
+  @Nullable
+  private String getSuggestedName() {
+    if (suggestedName == null) {
+      DroolsRuleBlock rule = rulePointer.getElement();
+      if (rule != null) {
+        suggestedName = suggestUniqueName(rule);
       }
     }
+    return suggestedName;
+  }
 
-    if (ruleName == null) {
+  private void renameRule(@NotNull Project project) {
+    DroolsRuleBlock rule = rulePointer.getElement();
+    DroolsRuleName ruleName = rule != null ? rule.getRuleName() : null;
+    String name = getSuggestedName();
+    if (ruleName == null || name == null) {
       return;
     }
-
-    PsiFile file = element.getContainingFile();
-    replaceRuleName(project, file, ruleName);
+    replaceRuleName(project, rule.getContainingFile(), ruleName, name);
   }
 
-  private void replaceRuleName(
-      @NotNull Project project, @NotNull PsiFile file, @NotNull DroolsRuleName ruleName) {
+  private static void replaceRuleName(
+      @NotNull Project project,
+      @NotNull PsiFile file,
+      @NotNull DroolsRuleName ruleName,
+      @NotNull String suggestedName) {
     Document document = PsiDocumentManager.getInstance(project).getDocument(file);
     if (document == null) {
       return;
@@ -0,0 +1,51 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.intellij.util.containers.ContainerUtil;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stub index of types declared with {@code declare}, by fully qualified name (the package of the
+ * declaring file plus the declared name).
+ *
+ * <p>A declared type is visible to every rule file of its package and to files that import it, so
+ * resolving one is a single lookup instead of a scan over every declare block of the project.
+ */
+public class DroolsDeclaredTypeIndex extends StringStubIndexExtension<DroolsDeclareBlock> {
+
+  public static final StubIndexKey<String, DroolsDeclareBlock> KEY =
+      StubIndexKey.createIndexKey("drools.declared.type");
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public StubIndexKey<String, DroolsDeclareBlock> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return super.getVersion() + VERSION;
+  }
+
+  /** Returns the index key of a declared type: its package (may be empty) and name. */
+  @NotNull
+  public static String fqn(@NotNull String packageName, @NotNull String name) {
+    return packageName.isEmpty() ? name : packageName + "." + name;
+  }
+
+  /** Returns the first declare block in the scope declaring {@code fqn}, or null. */
+  @Nullable
+  public static DroolsDeclareBlock findDeclare(
+      @NotNull Project project, @NotNull String fqn, @NotNull GlobalSearchScope scope) {
+    return ContainerUtil.getFirstItem(
+        StubIndex.getElements(KEY, fqn, project, scope, DroolsDeclareBlock.class));
+  }
+}
@@ -0,0 +1,237 @@
+package com.plugin.drool.index;
+
+import com.intellij.lang.LighterAST;
+import com.intellij.lang.LighterASTNode;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.impl.source.tree.LightTreeUtil;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.PsiDependentFileContent;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.plugin.drool.DroolsFileType;
+import com.plugin.drool.DroolsImportTable;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.stubs.DroolsFileElementType;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of fact pattern class references: fully qualified class name to the rules whose when
+ * clause pattern-matches that class, with the offset of each pattern.
+ *
+ * <p>Names are qualified with the file's imports only ({@link
+ * DroolsImportTable#getCandidateFqns(String)}), since the classpath is not available while
+ * indexing. A name that is not imported explicitly is indexed under each candidate FQN (itself, the
+ * file's package, each wildcard package, {@code java.lang}), so a lookup by the real FQN always
+ * finds it; the other candidates are keys no class will ask for.
+ *
+ * <p>The indexer reads the file's light tree and builds its import table with {@link
+ * DroolsImportTable#fromHeader}. It does not touch PSI or cached values, so its result depends on
+ * the file content alone.
+ */
+public class DroolsFactUsageIndex
+    extends FileBasedIndexExtension<String, List<DroolsFactUsageIndex.FactUsage>> {
+
+  public static final ID<String, List<FactUsage>> NAME = ID.create("drools.fact.usage");
+
+  /**
+   * The indexer reads the parser's light tree, so a grammar change that bumps the stub version
+   * rebuilds this index as well. The low bits are this index's own format version.
+   */
+  private static final int VERSION = DroolsFileElementType.STUB_VERSION * 16 + 3;
+
+  @NotNull
+  @Override
+  public ID<String, List<FactUsage>> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<FactUsage>, FileContent> getIndexer() {
+    return inputData -> {
+      if (!(inputData instanceof PsiDependentFileContent content)) {
+        return Collections.emptyMap();
+      }
+      return indexFile(content.getLighterAST());
+    };
+  }
+
+  /**
+   * Collects the fact patterns of a file from its light tree. Only top-level items and when
+   * clauses are visited, so then clauses and function bodies stay unparsed.
+   */
+  @NotNull
+  private static Map<String, List<FactUsage>> indexFile(@NotNull LighterAST tree) {
+    List<LighterASTNode> items = tree.getChildren(tree.getRoot());
+    String packageName = "";
+    List<String> importPaths = new ArrayList<>();
+    List<String> declaredNames = new ArrayList<>();
+    for (LighterASTNode item : items) {
+      IElementType type = item.getTokenType();
+      if (type == DroolsTypes.PACKAGE_DECL) {
+        LighterASTNode name =
+            LightTreeUtil.firstChildOfType(tree, item, DroolsTypes.QUALIFIED_NAME);
+        packageName = name != null ? text(tree, name) : "";
+      } else if (type == DroolsTypes.IMPORT_STATEMENT) {
+        LighterASTNode path = LightTreeUtil.firstChildOfType(tree, item, DroolsTypes.IMPORT_PATH);
+        if (path != null) {
+          importPaths.add(text(tree, path));
+        }
+      } else if (type == DroolsTypes.DECLARE_BLOCK) {
+        LighterASTNode name = LightTreeUtil.firstChildOfType(tree, item, DroolsTypes.IDENTIFIER);
+        if (name != null) {
+          declaredNames.add(text(tree, name));
+        }
+      }
+    }
+    DroolsImportTable imports =
+        DroolsImportTable.fromHeader(packageName, importPaths, declaredNames);
+
+    Map<String, List<FactUsage>> usages = new HashMap<>();
+    for (LighterASTNode rule : items) {
+      if (rule.getTokenType() != DroolsTypes.RULE_BLOCK) continue;
+      LighterASTNode whenClause =
+          LightTreeUtil.firstChildOfType(tree, rule, DroolsTypes.WHEN_CLAUSE);
+      if (whenClause == null) continue;
+      String ruleName = ruleName(tree, rule);
+      List<LighterASTNode> patterns = new ArrayList<>();
+      collectFactPatterns(tree, whenClause, patterns);
+      for (LighterASTNode pattern : patterns) {
+        LighterASTNode className =
+            LightTreeUtil.firstChildOfType(tree, pattern, DroolsTypes.CLASS_NAME);
+        String name = className != null ? text(tree, className) : "";
+        if (name.isEmpty()) continue;
+        FactUsage usage = new FactUsage(ruleName, pattern.getStartOffset());
+        for (String fqn : imports.getCandidateFqns(name)) {
+          usages.computeIfAbsent(fqn, key -> new ArrayList<>()).add(usage);
+        }
+      }
+    }
+    return usages;
+  }
+
+  /** Adds the fact patterns below {@code node}, nested ones included, in document order. */
+  private static void collectFactPatterns(
+      @NotNull LighterAST tree, @NotNull LighterASTNode node, @NotNull List<LighterASTNode> out) {
+    for (LighterASTNode child : tree.getChildren(node)) {
+      if (child.getTokenType() == DroolsTypes.FACT_PATTERN) {
+        out.add(child);
+      }
+      collectFactPatterns(tree, child, out);
+    }
+  }
+
+  /** Returns the rule name as {@code DroolsRuleBlock#getNameString} does: without quotes. */
+  @NotNull
+  private static String ruleName(@NotNull LighterAST tree, @NotNull LighterASTNode rule) {
+    LighterASTNode nameNode = LightTreeUtil.firstChildOfType(tree, rule, DroolsTypes.RULE_NAME);
+    String name = nameNode != null ? LightTreeUtil.toFilteredString(tree, nameNode, null) : "";
+    if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+      return name.substring(1, name.length() - 1);
+    }
+    return name;
+  }
+
+  @NotNull
+  private static String text(@NotNull LighterAST tree, @NotNull LighterASTNode node) {
+    return LightTreeUtil.toFilteredString(tree, node, null).trim();
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<FactUsage>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<FactUsage> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (FactUsage usage : value) {
+          IOUtil.writeUTF(out, usage.ruleName());
+          DataInputOutputUtil.writeINT(out, usage.patternOffset());
+        }
+      }
+
+      @Override
+      public List<FactUsage> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<FactUsage> usages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          usages.add(new FactUsage(IOUtil.readUTF(in), DataInputOutputUtil.readINT(in)));
+        }
+        return usages;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(DroolsFileType.getInstance());
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /** Returns whether any rule in the scope pattern-matches the class {@code fqn}. */
+  public static boolean hasUsages(@NotNull String fqn, @NotNull GlobalSearchScope scope) {
+    return !FileBasedIndex.getInstance()
+        .processValues(NAME, fqn, null, (file, usages) -> false, scope);
+  }
+
+  /** Returns every pattern in the scope that matches the class {@code fqn}, with its file. */
+  @NotNull
+  public static List<RuleUsage> findUsages(
+      @NotNull Project project, @NotNull String fqn, @NotNull GlobalSearchScope scope) {
+    List<RuleUsage> result = new ArrayList<>();
+    FileBasedIndex.getInstance()
+        .processValues(
+            NAME,
+            fqn,
+            null,
+            (file, usages) -> {
+              for (FactUsage usage : usages) {
+                result.add(new RuleUsage(file, usage.ruleName(), usage.patternOffset()));
+              }
+              return true;
+            },
+            scope);
+    return result;
+  }
+
+  /** One fact pattern: the rule it belongs to and its offset in the file. */
+  public record FactUsage(@NotNull String ruleName, int patternOffset) {}
+
+  /** A {@link FactUsage} together with the file that contains it. */
+  public record RuleUsage(@NotNull VirtualFile file, @NotNull String ruleName, int patternOffset) {}
+}
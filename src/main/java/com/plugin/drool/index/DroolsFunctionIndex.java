@@ -0,0 +1,43 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub index of DRL functions by the package of the declaring file ("" for the default package).
+ *
+ * <p>A function can be called from any rule file of its package. Keyed like {@link
+ * DroolsGlobalIndex}; the name, return type and parameters come from the stubs of the returned
+ * elements.
+ */
+public class DroolsFunctionIndex extends StringStubIndexExtension<DroolsFunctionDef> {
+
+  public static final StubIndexKey<String, DroolsFunctionDef> KEY =
+      StubIndexKey.createIndexKey("drools.function");
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public StubIndexKey<String, DroolsFunctionDef> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return super.getVersion() + VERSION;
+  }
+
+  /** Returns the functions declared by files of {@code packageName} in the scope. */
+  @NotNull
+  public static Collection<DroolsFunctionDef> getFunctions(
+      @NotNull Project project, @NotNull String packageName, @NotNull GlobalSearchScope scope) {
+    return StubIndex.getElements(KEY, packageName, project, scope, DroolsFunctionDef.class);
+  }
+}
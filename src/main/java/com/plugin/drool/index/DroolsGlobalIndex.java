@@ -0,0 +1,43 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub index of globals by the package of the declaring file ("" for the default package).
+ *
+ * <p>Drools shares globals between all rule files of a package, and a package rarely declares more
+ * than a handful, so one key per package serves both listing them for completion and looking one
+ * up by name. Names and types are read from the stubs of the returned elements.
+ */
+public class DroolsGlobalIndex extends StringStubIndexExtension<DroolsGlobalDecl> {
+
+  public static final StubIndexKey<String, DroolsGlobalDecl> KEY =
+      StubIndexKey.createIndexKey("drools.global");
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public StubIndexKey<String, DroolsGlobalDecl> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return super.getVersion() + VERSION;
+  }
+
+  /** Returns the globals declared by files of {@code packageName} in the scope. */
+  @NotNull
+  public static Collection<DroolsGlobalDecl> getGlobals(
+      @NotNull Project project, @NotNull String packageName, @NotNull GlobalSearchScope scope) {
+    return StubIndex.getElements(KEY, packageName, project, scope, DroolsGlobalDecl.class);
+  }
+}
@@ -0,0 +1,33 @@
+package com.plugin.drool.index;
+
+import com.intellij.lang.cacheBuilder.DefaultWordsScanner;
+import com.intellij.lang.cacheBuilder.WordsScanner;
+import com.intellij.psi.impl.cache.impl.id.ScanningIdIndexer;
+import com.intellij.psi.tree.TokenSet;
+import com.plugin.drool.DroolsLexerAdapter;
+import com.plugin.drool.psi.DroolsTypes;
+
+/**
+ * Word index for .drl files. Without it the platform indexes no words of rule files, so every
+ * text-based reference search (Find Usages, rename, safe delete of a Java member) skips them.
+ *
+ * <p>Identifiers are indexed as code, strings and comments as text, straight from the lexer.
+ */
+public class DroolsIdIndexer extends ScanningIdIndexer {
+
+  private static final int VERSION = 1;
+
+  @Override
+  protected WordsScanner createScanner() {
+    return new DefaultWordsScanner(
+        new DroolsLexerAdapter(),
+        TokenSet.create(DroolsTypes.IDENTIFIER),
+        TokenSet.create(DroolsTypes.COMMENT),
+        TokenSet.create(DroolsTypes.STRING));
+  }
+
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+}
@@ -0,0 +1,220 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.JDOMUtil;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jdom.Element;
+import org.jdom.JDOMException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of the KieBases declared in {@code META-INF/kmodule.xml} files: KieBase name to its
+ * packages, included KieBases, equality behavior and event processing mode.
+ *
+ * <p>A kmodule.xml that is not well-formed contributes no KieBases, so rule files of its module
+ * fall back to package-wide visibility until it is fixed.
+ */
+public class DroolsKModuleIndex
+    extends FileBasedIndexExtension<String, DroolsKModuleIndex.KieBase> {
+
+  public static final ID<String, KieBase> NAME = ID.create("drools.kmodule");
+
+  public static final String KMODULE_FILE_NAME = "kmodule.xml";
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public ID<String, KieBase> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, KieBase, FileContent> getIndexer() {
+    return inputData -> parse(inputData.getContentAsText());
+  }
+
+  /** Parses the {@code kbase} elements of a kmodule.xml, by name; empty if it is malformed. */
+  @NotNull
+  public static Map<String, KieBase> parse(@NotNull CharSequence text) {
+    Element root;
+    try {
+      root = JDOMUtil.load(text);
+    } catch (IOException | JDOMException e) {
+      return Collections.emptyMap();
+    }
+    Map<String, KieBase> kieBases = new LinkedHashMap<>();
+    for (Element kbase : root.getChildren()) {
+      if (!"kbase".equals(kbase.getName())) continue;
+      String name = kbase.getAttributeValue("name");
+      if (StringUtil.isEmptyOrSpaces(name)) continue;
+      kieBases.putIfAbsent(
+          name.trim(),
+          new KieBase(
+              name.trim(),
+              splitList(kbase.getAttributeValue("packages")),
+              splitList(kbase.getAttributeValue("includes")),
+              StringUtil.notNullize(kbase.getAttributeValue("equalsBehavior")).trim(),
+              StringUtil.notNullize(kbase.getAttributeValue("eventProcessingMode")).trim(),
+              "true".equals(kbase.getAttributeValue("default"))));
+    }
+    return kieBases;
+  }
+
+  @NotNull
+  private static List<String> splitList(@Nullable String value) {
+    if (value == null) {
+      return Collections.emptyList();
+    }
+    List<String> items = new ArrayList<>();
+    for (String item : StringUtil.split(value, ",")) {
+      if (!item.isBlank()) {
+        items.add(item.trim());
+      }
+    }
+    return Collections.unmodifiableList(items);
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<KieBase> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, KieBase value) throws IOException {
+        IOUtil.writeUTF(out, value.name());
+        writeList(out, value.packages());
+        writeList(out, value.includes());
+        IOUtil.writeUTF(out, value.equalsBehavior());
+        IOUtil.writeUTF(out, value.eventProcessingMode());
+        out.writeBoolean(value.isDefault());
+      }
+
+      @Override
+      public KieBase read(@NotNull DataInput in) throws IOException {
+        return new KieBase(
+            IOUtil.readUTF(in),
+            readList(in),
+            readList(in),
+            IOUtil.readUTF(in),
+            IOUtil.readUTF(in),
+            in.readBoolean());
+      }
+
+      private void writeList(@NotNull DataOutput out, @NotNull List<String> list)
+          throws IOException {
+        DataInputOutputUtil.writeINT(out, list.size());
+        for (String item : list) {
+          IOUtil.writeUTF(out, item);
+        }
+      }
+
+      @NotNull
+      private List<String> readList(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<String> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(IOUtil.readUTF(in));
+        }
+        return Collections.unmodifiableList(list);
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return DroolsKModuleIndex::isKModuleFile;
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /** Returns whether {@code file} is a {@code META-INF/kmodule.xml}. */
+  public static boolean isKModuleFile(@NotNull VirtualFile file) {
+    VirtualFile parent = file.getParent();
+    return KMODULE_FILE_NAME.equals(file.getName())
+        && parent != null
+        && "META-INF".equals(parent.getName());
+  }
+
+  /** Returns the KieBases declared by one kmodule.xml, by name. */
+  @NotNull
+  public static Map<String, KieBase> getKieBases(
+      @NotNull Project project, @NotNull VirtualFile kmoduleFile) {
+    return FileBasedIndex.getInstance().getFileData(NAME, kmoduleFile, project);
+  }
+
+  /**
+   * One {@code kbase} element of a kmodule.xml.
+   *
+   * @param packages the {@code packages} attribute; empty means all packages
+   * @param includes names of the KieBases whose rules this one also contains
+   * @param equalsBehavior {@code identity}, {@code equality}, or empty if not set
+   * @param eventProcessingMode {@code cloud}, {@code stream}, or empty if not set
+   */
+  public record KieBase(
+      @NotNull String name,
+      @NotNull List<String> packages,
+      @NotNull List<String> includes,
+      @NotNull String equalsBehavior,
+      @NotNull String eventProcessingMode,
+      boolean isDefault) {
+
+    /**
+     * Returns whether rule files in the resource folder {@code packageName} (dot-separated) belong
+     * to this KieBase: it lists no packages, lists {@code *}, lists the folder itself, or lists
+     * {@code parent.*} for one of its enclosing folders.
+     */
+    public boolean containsPackage(@NotNull String packageName) {
+      if (packages.isEmpty()) {
+        return true;
+      }
+      for (String pattern : packages) {
+        if (pattern.equals("*") || pattern.equals(packageName)) {
+          return true;
+        }
+        if (pattern.endsWith(".*")) {
+          String prefix = pattern.substring(0, pattern.length() - 2);
+          if (packageName.equals(prefix) || packageName.startsWith(prefix + ".")) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,271 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import com.plugin.drool.DroolsFileType;
+import com.plugin.drool.DroolsPsiFile;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsRuleName;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of rules by agenda group and ruleflow group: {@code agenda-group:NAME} and {@code
+ * ruleflow-group:NAME} to the rules of that group, each with its name, offset, salience and
+ * auto-focus flag.
+ *
+ * <p>The values carry everything a group listing shows, so listing the rules of a group reads the
+ * index only and loads neither stubs nor ASTs. Rules without an {@code agenda-group} attribute are
+ * indexed under {@value #MAIN_AGENDA_GROUP}, the agenda group Drools puts them in.
+ */
+public class DroolsRuleGroupIndex
+    extends FileBasedIndexExtension<String, List<DroolsRuleGroupIndex.GroupedRule>> {
+
+  public static final ID<String, List<GroupedRule>> NAME = ID.create("drools.rule.group");
+
+  /** The agenda group of rules that do not declare one. */
+  public static final String MAIN_AGENDA_GROUP = "MAIN";
+
+  private static final int VERSION = 1;
+
+  /** The rule attributes a rule can be grouped by. */
+  public enum GroupKind {
+    AGENDA_GROUP("agenda-group", "Agenda groups"),
+    RULEFLOW_GROUP("ruleflow-group", "Ruleflow groups");
+
+    private final String attribute;
+    private final String title;
+
+    GroupKind(@NotNull String attribute, @NotNull String title) {
+      this.attribute = attribute;
+      this.title = title;
+    }
+
+    /** Returns the rule attribute keyword, such as {@code agenda-group}. */
+    @NotNull
+    public String getAttribute() {
+      return attribute;
+    }
+
+    /** Returns the plural title shown for this kind of group. */
+    @NotNull
+    public String getTitle() {
+      return title;
+    }
+
+    @NotNull
+    String key(@NotNull String groupName) {
+      return attribute + ":" + groupName;
+    }
+
+    /** Returns the group name of an index key of this kind, or null for keys of other kinds. */
+    @Nullable
+    String groupName(@NotNull String key) {
+      return key.startsWith(attribute + ":") ? key.substring(attribute.length() + 1) : null;
+    }
+  }
+
+  @NotNull
+  @Override
+  public ID<String, List<GroupedRule>> getName() {
+    return NAME;
+  }
+
+  @NotNull
+  @Override
+  public DataIndexer<String, List<GroupedRule>, FileContent> getIndexer() {
+    return inputData -> {
+      PsiFile file = inputData.getPsiFile();
+      if (!(file instanceof DroolsPsiFile droolsFile)) {
+        return Collections.emptyMap();
+      }
+      Map<String, List<GroupedRule>> groups = new HashMap<>();
+      for (DroolsRuleBlock rule : droolsFile.getRules()) {
+        String ruleName = rule.getNameString();
+        if (ruleName.isEmpty()) continue;
+        Map<String, String> attributes = rule.getAttributeValues();
+        String autoFocus = attributes.get("auto-focus");
+        DroolsRuleName nameElement = rule.getRuleName();
+        GroupedRule groupedRule =
+            new GroupedRule(
+                ruleName,
+                nameElement != null ? nameElement.getTextOffset() : rule.getTextOffset(),
+                attributes.get("salience"),
+                autoFocus != null && (autoFocus.isEmpty() || autoFocus.equals("true")));
+
+        String agendaGroup = attributes.get(GroupKind.AGENDA_GROUP.getAttribute());
+        if (agendaGroup == null || agendaGroup.isEmpty()) {
+          agendaGroup = MAIN_AGENDA_GROUP;
+        }
+        String agendaKey = GroupKind.AGENDA_GROUP.key(agendaGroup);
+        groups.computeIfAbsent(agendaKey, unused -> new ArrayList<>()).add(groupedRule);
+
+        String ruleflowGroup = attributes.get(GroupKind.RULEFLOW_GROUP.getAttribute());
+        if (ruleflowGroup != null && !ruleflowGroup.isEmpty()) {
+          String ruleflowKey = GroupKind.RULEFLOW_GROUP.key(ruleflowGroup);
+          groups.computeIfAbsent(ruleflowKey, unused -> new ArrayList<>()).add(groupedRule);
+        }
+      }
+      return groups;
+    };
+  }
+
+  @NotNull
+  @Override
+  public KeyDescriptor<String> getKeyDescriptor() {
+    return EnumeratorStringDescriptor.INSTANCE;
+  }
+
+  @NotNull
+  @Override
+  public DataExternalizer<List<GroupedRule>> getValueExternalizer() {
+    return new DataExternalizer<>() {
+      @Override
+      public void save(@NotNull DataOutput out, List<GroupedRule> value) throws IOException {
+        DataInputOutputUtil.writeINT(out, value.size());
+        for (GroupedRule rule : value) {
+          IOUtil.writeUTF(out, rule.ruleName());
+          DataInputOutputUtil.writeINT(out, rule.ruleOffset());
+          IOUtil.writeUTF(out, rule.salience() != null ? rule.salience() : "");
+          out.writeBoolean(rule.autoFocus());
+        }
+      }
+
+      @Override
+      public List<GroupedRule> read(@NotNull DataInput in) throws IOException {
+        int size = DataInputOutputUtil.readINT(in);
+        List<GroupedRule> rules = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          String ruleName = IOUtil.readUTF(in);
+          int ruleOffset = DataInputOutputUtil.readINT(in);
+          String salience = IOUtil.readUTF(in);
+          rules.add(
+              new GroupedRule(
+                  ruleName, ruleOffset, salience.isEmpty() ? null : salience, in.readBoolean()));
+        }
+        return rules;
+      }
+    };
+  }
+
+  @Override
+  public int getVersion() {
+    return VERSION;
+  }
+
+  @NotNull
+  @Override
+  public FileBasedIndex.InputFilter getInputFilter() {
+    return new DefaultFileTypeSpecificInputFilter(DroolsFileType.getInstance());
+  }
+
+  @Override
+  public boolean dependsOnFileContent() {
+    return true;
+  }
+
+  /**
+   * Returns the names of the groups of the given kind that have at least one rule in the scope,
+   * sorted by name.
+   */
+  @NotNull
+  public static List<String> getGroupNames(
+      @NotNull Project project, @NotNull GroupKind kind, @NotNull GlobalSearchScope scope) {
+    FileBasedIndex index = FileBasedIndex.getInstance();
+    TreeSet<String> names = new TreeSet<>();
+    for (String key : index.getAllKeys(NAME, project)) {
+      String groupName = kind.groupName(key);
+      // getAllKeys may still report keys of deleted or out-of-scope files
+      if (groupName != null && !index.processValues(NAME, key, null, (f, v) -> false, scope)) {
+        names.add(groupName);
+      }
+    }
+    return new ArrayList<>(names);
+  }
+
+  /** Returns the number of rules in a group within the scope. */
+  public static int countRules(
+      @NotNull GroupKind kind, @NotNull String groupName, @NotNull GlobalSearchScope scope) {
+    int[] count = {0};
+    FileBasedIndex.getInstance()
+        .processValues(
+            NAME,
+            kind.key(groupName),
+            null,
+            (file, rules) -> {
+              count[0] += rules.size();
+              return true;
+            },
+            scope);
+    return count[0];
+  }
+
+  /** Returns the rules of a group within the scope, with their files, in index order. */
+  @NotNull
+  public static List<RuleEntry> findRules(
+      @NotNull GroupKind kind, @NotNull String groupName, @NotNull GlobalSearchScope scope) {
+    List<RuleEntry> result = new ArrayList<>();
+    FileBasedIndex.getInstance()
+        .processValues(
+            NAME,
+            kind.key(groupName),
+            null,
+            (file, rules) -> {
+              for (GroupedRule rule : rules) {
+                result.add(new RuleEntry(file, rule));
+              }
+              return true;
+            },
+            scope);
+    return result;
+  }
+
+  /**
+   * One rule of a group.
+   *
+   * @param ruleOffset the offset of the rule name in its file
+   * @param salience the salience as written, or null if the rule does not declare one
+   */
+  public record GroupedRule(
+      @NotNull String ruleName, int ruleOffset, @Nullable String salience, boolean autoFocus) {
+
+    /**
+     * Returns the numeric salience, or 0 (the Drools default) if it is missing or an expression.
+     */
+    public int getSalienceValue() {
+      if (salience == null) {
+        return 0;
+      }
+      try {
+        return Integer.parseInt(salience.trim());
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+  }
+
+  /** A {@link GroupedRule} together with the file that contains it. */
+  public record RuleEntry(@NotNull VirtualFile file, @NotNull GroupedRule rule) {}
+}
@@ -0,0 +1,69 @@
+package com.plugin.drool.index;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import java.util.Collection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub index of rules by package and rule name ({@code package:name}).
+ *
+ * <p>Drools rejects two rules with the same name in the same package anywhere in a KieBase, so the
+ * key is exactly what a duplicate check needs: one lookup per rule instead of a scan over every
+ * rule of every file.
+ */
+public class DroolsRuleNameIndex extends StringStubIndexExtension<DroolsRuleBlock> {
+
+  public static final StubIndexKey<String, DroolsRuleBlock> KEY =
+      StubIndexKey.createIndexKey("drools.rule.name");
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public StubIndexKey<String, DroolsRuleBlock> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return super.getVersion() + VERSION;
+  }
+
+  /** Returns the index key of a rule: its package (empty for the default package) and name. */
+  @NotNull
+  public static String key(@NotNull String packageName, @NotNull String ruleName) {
+    return packageName + ":" + ruleName;
+  }
+
+  /** Returns all rules named {@code ruleName} in package {@code packageName} within the scope. */
+  @NotNull
+  public static Collection<DroolsRuleBlock> getRules(
+      @NotNull Project project,
+      @NotNull String packageName,
+      @NotNull String ruleName,
+      @NotNull GlobalSearchScope scope) {
+    return StubIndex.getElements(
+        KEY, key(packageName, ruleName), project, scope, DroolsRuleBlock.class);
+  }
+
+  /** Returns whether any rule named {@code ruleName} exists in the package within the scope. */
+  public static boolean exists(
+      @NotNull Project project,
+      @NotNull String packageName,
+      @NotNull String ruleName,
+      @NotNull GlobalSearchScope scope) {
+    return !StubIndex.getInstance()
+        .processElements(
+            KEY,
+            key(packageName, ruleName),
+            project,
+            scope,
+            DroolsRuleBlock.class,
+            rule -> false);
+  }
+}
@@ -0,0 +1,60 @@
+package com.plugin.drool.index;
+
+import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.NavigatablePsiElement;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.stubs.StringStubIndexExtension;
+import com.intellij.psi.stubs.StubIndex;
+import com.intellij.psi.stubs.StubIndexKey;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.IdFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Stub index of the named top-level symbols of rule files, by simple name: rules, queries,
+ * functions and declared types.
+ *
+ * <p>Backs Go to Symbol and the Symbols tab of Search Everywhere. Matching a pattern runs over the
+ * keys only, and the elements of a matching key are created from stubs, so files without a
+ * matching symbol are never loaded.
+ */
+public class DroolsSymbolNameIndex extends StringStubIndexExtension<NavigatablePsiElement> {
+
+  public static final StubIndexKey<String, NavigatablePsiElement> KEY =
+      StubIndexKey.createIndexKey("drools.symbol.name");
+
+  private static final int VERSION = 1;
+
+  @NotNull
+  @Override
+  public StubIndexKey<String, NavigatablePsiElement> getKey() {
+    return KEY;
+  }
+
+  @Override
+  public int getVersion() {
+    return super.getVersion() + VERSION;
+  }
+
+  /** Passes every symbol name with an element in the scope to {@code processor}. */
+  public static boolean processNames(
+      @NotNull Processor<? super String> processor,
+      @NotNull GlobalSearchScope scope,
+      @Nullable IdFilter filter) {
+    return StubIndex.getInstance().processAllKeys(KEY, processor, scope, filter);
+  }
+
+  /** Passes every symbol named {@code name} in the scope to {@code processor}. */
+  public static boolean processSymbols(
+      @NotNull Project project,
+      @NotNull String name,
+      @NotNull GlobalSearchScope scope,
+      @Nullable IdFilter filter,
+      @NotNull Processor<? super NavigationItem> processor) {
+    return StubIndex.getInstance()
+        .processElements(
+            KEY, name, project, scope, filter, NavigatablePsiElement.class, processor::process);
+  }
+}
@@ -0,0 +1,47 @@
+package com.plugin.drool.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiElementVisitor;
+import com.plugin.drool.DroolsImportTable;
+import com.plugin.drool.fixes.RemoveUnusedImportFix;
+import com.plugin.drool.psi.DroolsImportPath;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.DroolsVisitor;
+import com.plugin.drool.util.DroolsChars;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports import statements that repeat an earlier import of the same file, each duplicate after
+ * the first, as recorded by the file's {@link DroolsImportTable}.
+ */
+public class DroolsDuplicateImportInspection extends LocalInspectionTool {
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    return new DroolsVisitor() {
+      @Override
+      public void visitImportStatement(@NotNull DroolsImportStatement importStmt) {
+        DroolsImportPath importPath = importStmt.getImportPath();
+        if (importPath == null) {
+          return;
+        }
+
+        String pathText = DroolsChars.trimmedText(importPath.getNode());
+        if (pathText.isEmpty()) {
+          return;
+        }
+
+        if (DroolsImportTable.forElement(importStmt).isDuplicate(importStmt, pathText)) {
+          holder.registerProblem(
+              importStmt,
+              "Duplicate import '" + pathText + "'",
+              ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+              new RemoveUnusedImportFix());
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,105 @@
+package com.plugin.drool.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.plugin.drool.DroolsFileAnalysis;
+import com.plugin.drool.DroolsKieBaseModel;
+import com.plugin.drool.DroolsPsiFile;
+import com.plugin.drool.fixes.RenameDuplicateRuleFix;
+import com.plugin.drool.index.DroolsRuleNameIndex;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsRuleName;
+import com.plugin.drool.psi.DroolsVisitor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reports duplicate rule names in a rule's package. Within one file, each occurrence after the
+ * first is reported; a name also defined in another file of the project is reported on every
+ * occurrence, since Drools rejects it when both files end up in the same KieBase. Files that
+ * kmodule.xml puts in disjoint KieBases never meet, so their rules do not clash (see {@link
+ * DroolsKieBaseModel}). Occurrences in the same file come from {@link DroolsFileAnalysis}, those in
+ * other files from a {@link DroolsRuleNameIndex} lookup that excludes this file.
+ */
+public class DroolsDuplicateRuleInspection extends LocalInspectionTool {
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    return new DroolsVisitor() {
+      @Override
+      public void visitRuleBlock(@NotNull DroolsRuleBlock rule) {
+        checkRule(rule, holder);
+      }
+    };
+  }
+
+  private static void checkRule(@NotNull DroolsRuleBlock rule, @NotNull ProblemsHolder holder) {
+    DroolsRuleName ruleName = rule.getRuleName();
+    String nameStr = rule.getNameString();
+    if (ruleName == null || nameStr.isEmpty()) {
+      return;
+    }
+
+    if (!(rule.getContainingFile() instanceof DroolsPsiFile droolsFile)) {
+      return;
+    }
+
+    String packageName = droolsFile.getPackageName();
+    String message;
+    if (DroolsFileAnalysis.forFile(droolsFile).isDuplicateInFile(rule)) {
+      message = "Duplicate rule name '" + nameStr + "'";
+    } else {
+      PsiFile otherFile = findOtherFileDefining(droolsFile, packageName, nameStr);
+      if (otherFile == null) {
+        return;
+      }
+      message =
+          "Duplicate rule name '"
+              + nameStr
+              + "' in package '"
+              + packageName
+              + "' (also defined in "
+              + otherFile.getName()
+              + ")";
+    }
+    holder.registerProblem(
+        ruleName,
+        message,
+        ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+        new RenameDuplicateRuleFix(rule));
+  }
+
+  /**
+   * Returns another project file, sharing a KieBase with {@code file}, that defines a rule named
+   * {@code ruleName} in {@code packageName}, or null. Files outside the project content (e.g.
+   * scratch files) are not indexed and only clash within themselves. {@link
+   * RenameDuplicateRuleFix} uses the same check to pick a name that does not clash.
+   */
+  @Nullable
+  public static PsiFile findOtherFileDefining(
+      @NotNull DroolsPsiFile file, @NotNull String packageName, @NotNull String ruleName) {
+    GlobalSearchScope projectScope = GlobalSearchScope.projectScope(file.getProject());
+    VirtualFile virtualFile = file.getVirtualFile();
+    if (virtualFile == null || !projectScope.contains(virtualFile)) {
+      return null;
+    }
+    // Rules of this file are answered by DroolsFileAnalysis; the index only covers the others
+    GlobalSearchScope otherFiles =
+        projectScope.intersectWith(GlobalSearchScope.notScope(GlobalSearchScope.fileScope(file)));
+    DroolsKieBaseModel kieBases = DroolsKieBaseModel.forProject(file.getProject());
+    for (DroolsRuleBlock otherRule :
+        DroolsRuleNameIndex.getRules(file.getProject(), packageName, ruleName, otherFiles)) {
+      PsiFile otherFile = otherRule.getContainingFile();
+      if (kieBases.shareKieBase(file, otherFile)) {
+        return otherFile;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,157 @@
+package com.plugin.drool.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.progress.ProcessCanceledException;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.plugin.drool.DroolsImportTable;
+import com.plugin.drool.DroolsResolutionCache;
+import com.plugin.drool.DroolsResolutionSnapshot;
+import com.plugin.drool.DroolsRuleFindings;
+import com.plugin.drool.fixes.AddImportFix;
+import com.plugin.drool.psi.DroolsClassName;
+import com.plugin.drool.psi.DroolsFactPattern;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import com.plugin.drool.psi.DroolsImportPath;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypeName;
+import com.plugin.drool.psi.DroolsVisitor;
+import com.plugin.drool.util.DroolsChars;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+import static com.plugin.drool.util.DroolsConstants.isJavaLangClass;
+
+/**
+ * Reports class names that do not resolve: the types of fact patterns and globals, through the
+ * file's {@link DroolsImportTable}, and the classes of single-class imports, through the {@link
+ * DroolsResolutionCache}. Types declared in rule files and {@code java.lang} classes always
+ * resolve. Resolution failures during indexing are not reported.
+ *
+ * <p>The fact patterns of rules are checked through {@link DroolsRuleFindings}, which remembers
+ * per rule text which types resolved, so an edit only resolves the types of the changed rule.
+ */
+public class DroolsUnresolvedClassInspection extends LocalInspectionTool {
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    return new DroolsVisitor() {
+      @Override
+      public void visitRuleBlock(@NotNull DroolsRuleBlock rule) {
+        for (DroolsRuleFindings.Finding finding :
+            DroolsRuleFindings.forRule(rule).getUnresolvedClasses(rule)) {
+          DroolsClassName className = finding.findIn(rule, DroolsClassName.class);
+          if (className != null) {
+            holder.registerProblem(
+                className,
+                "Cannot resolve class '" + finding.name() + "'",
+                ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                new AddImportFix(finding.name()));
+          }
+        }
+      }
+
+      @Override
+      public void visitFactPattern(@NotNull DroolsFactPattern pattern) {
+        // Patterns of rules are reported from the rule's memoized findings
+        if (PsiTreeUtil.getParentOfType(pattern, DroolsRuleBlock.class) == null) {
+          checkTypeName(pattern.getClassName(), pattern, "Cannot resolve class '", holder);
+        }
+      }
+
+      @Override
+      public void visitGlobalDecl(@NotNull DroolsGlobalDecl global) {
+        DroolsTypeName typeName = global.getTypeName();
+        if (typeName != null) {
+          checkTypeName(typeName.getClassName(), global, "Cannot resolve type '", holder);
+        }
+      }
+
+      @Override
+      public void visitImportStatement(@NotNull DroolsImportStatement importStmt) {
+        checkImport(importStmt, holder);
+      }
+    };
+  }
+
+  private static void checkTypeName(
+      @NotNull DroolsClassName className,
+      @NotNull PsiElement context,
+      @NotNull String messagePrefix,
+      @NotNull ProblemsHolder holder) {
+    String name = DroolsChars.trimmedText(className.getNode());
+    // Skip validation for java.lang classes and Drools built-ins
+    if (name.isEmpty() || isJavaLangClass(name)) {
+      return;
+    }
+
+    try {
+      DroolsImportTable imports = DroolsImportTable.forElement(context);
+      if (imports.isDeclaredType(name)) {
+        return;
+      }
+
+      if (!isResolvable(name, context, () -> imports.resolveClass(name, context))) {
+        holder.registerProblem(
+            className,
+            messagePrefix + name + "'",
+            ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+            new AddImportFix(name));
+      }
+    } catch (ProcessCanceledException e) {
+      // The pass is being cancelled; let the platform restart it
+      throw e;
+    } catch (Exception e) {
+      // Fail-open: if resolution fails due to indexing, don't report false positives
+    }
+  }
+
+  private static void checkImport(
+      @NotNull DroolsImportStatement importStmt, @NotNull ProblemsHolder holder) {
+    DroolsImportPath importPath = importStmt.getImportPath();
+    if (importPath == null) {
+      return;
+    }
+
+    String pathText = DroolsChars.trimmedText(importPath.getNode());
+    // Empty paths are a syntax error reported by the annotator; wildcard imports name a package
+    PsiElement operator = importPath.getOperator();
+    if (pathText.isEmpty() || (operator != null && operator.textMatches("*"))) {
+      return;
+    }
+
+    try {
+      DroolsResolutionCache cache = DroolsResolutionCache.getInstance(importStmt.getProject());
+      if (!isResolvable(pathText, importStmt, () -> cache.resolveClass(pathText, importStmt))) {
+        holder.registerProblem(
+            importPath,
+            "Cannot resolve class '" + pathText + "'",
+            ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+            new AddImportFix(pathText));
+      }
+    } catch (ProcessCanceledException e) {
+      // The pass is being cancelled; let the platform restart it
+      throw e;
+    } catch (Exception e) {
+      // Fail-open during indexing
+    }
+  }
+
+  /**
+   * Returns whether a class name resolves, answering from the persisted resolution snapshot when
+   * it holds a valid entry for the file, and through {@code resolver} otherwise.
+   */
+  private static boolean isResolvable(
+      @NotNull String name,
+      @NotNull PsiElement context,
+      @NotNull Supplier<PsiClass> resolver) {
+    return DroolsResolutionSnapshot.getInstance(context.getProject())
+        .isResolvable(name, context, resolver);
+  }
+}
@@ -0,0 +1,42 @@
+package com.plugin.drool.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiElementVisitor;
+import com.plugin.drool.DroolsRuleBindings;
+import com.plugin.drool.DroolsRuleFindings;
+import com.plugin.drool.fixes.RemoveBindingFix;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsVisitor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports binding variables that their rule declares but never references, as counted by the
+ * rule's {@link DroolsRuleBindings} table. Findings are read per rule from {@link
+ * DroolsRuleFindings}, so rules that did not change since the last pass are not counted again.
+ */
+public class DroolsUnusedBindingInspection extends LocalInspectionTool {
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    return new DroolsVisitor() {
+      @Override
+      public void visitRuleBlock(@NotNull DroolsRuleBlock rule) {
+        for (DroolsRuleFindings.Finding finding :
+            DroolsRuleFindings.forRule(rule).getUnusedBindings()) {
+          DroolsBindingVariable binding = finding.findIn(rule, DroolsBindingVariable.class);
+          if (binding != null) {
+            holder.registerProblem(
+                binding,
+                "Binding variable '$" + finding.name() + "' is never used",
+                ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                new RemoveBindingFix(finding.name()));
+          }
+        }
+      }
+    };
+  }
+}
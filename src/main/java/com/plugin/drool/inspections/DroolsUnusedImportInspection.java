@@ -0,0 +1,57 @@
+package com.plugin.drool.inspections;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.plugin.drool.DroolsFileAnalysis;
+import com.plugin.drool.fixes.RemoveUnusedImportFix;
+import com.plugin.drool.psi.DroolsImportPath;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.DroolsVisitor;
+import com.plugin.drool.util.DroolsChars;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports single-class imports whose simple name the file never uses outside its package and
+ * import statements, as collected by {@link DroolsFileAnalysis}. Wildcard imports always count as
+ * used.
+ */
+public class DroolsUnusedImportInspection extends LocalInspectionTool {
+
+  @NotNull
+  @Override
+  public PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+    return new DroolsVisitor() {
+      @Override
+      public void visitImportStatement(@NotNull DroolsImportStatement importStmt) {
+        DroolsImportPath importPath = importStmt.getImportPath();
+        if (importPath == null) {
+          return;
+        }
+
+        String pathText = DroolsChars.trimmedText(importPath.getNode());
+        if (pathText.isEmpty()) {
+          return;
+        }
+
+        // Wildcard imports are always considered "used"
+        PsiElement operator = importPath.getOperator();
+        if (operator != null && operator.textMatches("*")) {
+          return;
+        }
+
+        String simpleClassName = pathText.substring(pathText.lastIndexOf('.') + 1);
+        if (!DroolsFileAnalysis.forFile(importStmt.getContainingFile())
+            .isIdentifierUsed(simpleClassName)) {
+          holder.registerProblem(
+              importStmt,
+              "Unused import '" + pathText + "'",
+              ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+              new RemoveUnusedImportFix());
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,128 @@
+package com.plugin.drool.parser;
+
+import static com.plugin.drool.psi.DroolsTypes.*;
+
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.parser.GeneratedParserUtilBase;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.TokenSet;
+import com.plugin.drool.psi.DroolsLazyElementType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parser helpers referenced by {@code parserUtilClass} in Drools.bnf.
+ *
+ * <p>{@link #lazyThenContent} and {@link #lazyFunctionBody} parse then clause content and function
+ * bodies as single {@link DroolsLazyElementType} leaves instead of full subtrees. They first scan
+ * ahead with the same token sets and bracket rules as the grammar; only if the scan ends where the
+ * grammar rule would end cleanly is the range collapsed, otherwise the grammar rule runs as before
+ * so malformed code gets the same tree and errors.
+ */
+public class DroolsParserUtil extends GeneratedParserUtilBase {
+
+  /** Leaf tokens of {@code blockContentToken} and {@code expressionContentToken}. */
+  private static final TokenSet BODY_TOKENS =
+      TokenSet.create(
+          IDENTIFIER, NUMBER, STRING, OPERATOR, DOT, COMMA, COLON, DOLLAR, SEMICOLON,
+          NEW_KEYWORD, NULL_KEYWORD, TRUE_KEYWORD, FALSE_KEYWORD, THIS_KEYWORD,
+          NOT_KEYWORD, AND_KEYWORD, OR_KEYWORD, FROM_KEYWORD,
+          IF_KEYWORD, ELSE_KEYWORD, RETURN_KEYWORD,
+          INSERT_KEYWORD, INSERT_LOGICAL_KEYWORD, UPDATE_KEYWORD,
+          MODIFY_KEYWORD, RETRACT_KEYWORD, DELETE_KEYWORD,
+          MATCHES_KEYWORD, CONTAINS_KEYWORD, MEMBER_OF_KEYWORD,
+          IN_KEYWORD, EVAL_KEYWORD, COLLECT_KEYWORD, ACCUMULATE_KEYWORD);
+
+  /** Leaf tokens of {@code thenToken}. */
+  private static final TokenSet THEN_TOKENS =
+      TokenSet.orSet(
+          BODY_TOKENS,
+          TokenSet.create(
+              IMPORT_KEYWORD, GLOBAL_KEYWORD, FUNCTION_KEYWORD,
+              EXTENDS_KEYWORD, FORALL_KEYWORD, EXISTS_KEYWORD));
+
+  private static final TokenSet OPENING = TokenSet.create(LEFT_PAREN, LEFT_BRACE, LEFT_BRACKET);
+  private static final TokenSet CLOSING = TokenSet.create(RIGHT_PAREN, RIGHT_BRACE, RIGHT_BRACKET);
+
+  /** {@code thenContent}, as a lazy leaf when its extent is clear from the tokens. */
+  public static boolean lazyThenContent(
+      @NotNull PsiBuilder builder, int level, @NotNull Parser thenContent) {
+    int length = scanBalanced(builder, THEN_TOKENS, false);
+    if (length == 0) {
+      return false;
+    }
+    if (length < 0) {
+      return thenContent.parse(builder, level);
+    }
+    return collapse(builder, length, THEN_CONTENT);
+  }
+
+  /** {@code functionBody}, as a lazy leaf when its braces balance. */
+  public static boolean lazyFunctionBody(
+      @NotNull PsiBuilder builder, int level, @NotNull Parser functionBody) {
+    if (!nextTokenIs(builder, LEFT_BRACE)) return false;
+    int length = scanBalanced(builder, BODY_TOKENS, true);
+    if (length <= 0) {
+      return functionBody.parse(builder, level);
+    }
+    return collapse(builder, length, FUNCTION_BODY);
+  }
+
+  /**
+   * Scans the tokens {@code content+} would match, where content is a token of {@code allowed} or
+   * a bracket pair around more content, without moving the builder.
+   *
+   * @param singleGroup whether to stop after the first complete bracket pair
+   * @return the number of tokens, 0 if none match, or -1 if a bracket pair is left unclosed or
+   *     closed by the wrong bracket, where the grammar rule backtracks and reports errors
+   */
+  private static int scanBalanced(
+      @NotNull PsiBuilder builder, @NotNull TokenSet allowed, boolean singleGroup) {
+    PsiBuilder.Marker scan = builder.mark();
+    Deque<IElementType> closers = new ArrayDeque<>();
+    int count = 0;
+    boolean clean = false;
+    for (IElementType type; (type = builder.getTokenType()) != null; ) {
+      if (OPENING.contains(type)) {
+        closers.push(closerOf(type));
+      } else if (CLOSING.contains(type)) {
+        if (closers.isEmpty()) {
+          clean = true;
+          break;
+        }
+        if (closers.pop() != type) break;
+      } else if (!allowed.contains(type)) {
+        clean = closers.isEmpty();
+        break;
+      }
+      builder.advanceLexer();
+      count++;
+      if (singleGroup && closers.isEmpty()) {
+        clean = true;
+        break;
+      }
+    }
+    if (builder.eof()) {
+      clean = closers.isEmpty();
+    }
+    scan.rollbackTo();
+    return clean ? count : -1;
+  }
+
+  @NotNull
+  private static IElementType closerOf(@NotNull IElementType opening) {
+    if (opening == LEFT_PAREN) return RIGHT_PAREN;
+    if (opening == LEFT_BRACE) return RIGHT_BRACE;
+    return RIGHT_BRACKET;
+  }
+
+  private static boolean collapse(@NotNull PsiBuilder builder, int length, IElementType type) {
+    PsiBuilder.Marker marker = builder.mark();
+    for (int i = 0; i < length; i++) {
+      builder.advanceLexer();
+    }
+    marker.collapse(type);
+    return true;
+  }
+}
@@ -0,0 +1,26 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsDeclareBlockStub;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessors of {@link DroolsDeclareBlock} that are implemented by {@code DroolsDeclareBlockMixin}.
+ * Named in the grammar's {@code implements} attribute, so the generated interface inherits them.
+ */
+public interface DroolsDeclareBlockElement extends StubBasedPsiElement<DroolsDeclareBlockStub> {
+
+  /** Returns the simple name of the declared type, or null if it is missing. */
+  @Nullable
+  String getDeclaredName();
+
+  /** Returns the {@code extends} type as written, or null if there is none. */
+  @Nullable
+  String getSuperTypeName();
+
+  /** Returns the declared fields with their types as written, in declaration order. */
+  @NotNull
+  List<DroolsDeclareBlockStub.DeclaredField> getDeclaredFields();
+}
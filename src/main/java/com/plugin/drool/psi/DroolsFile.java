@@ -17,6 +17,12 @@ public interface DroolsFile extends PsiFile {
     @Nullable
     DroolsPackageDecl getPackageDecl();
 
+    /**
+     * Returns the declared package name, or an empty string if the file has none.
+     */
+    @NotNull
+    String getPackageName();
+
     /**
      * Returns all import statements in the file.
      */
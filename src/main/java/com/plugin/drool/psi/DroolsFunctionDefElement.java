@@ -0,0 +1,26 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsFunctionDefStub;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessors of {@link DroolsFunctionDef} that are implemented by {@code DroolsFunctionDefMixin}.
+ * Named in the grammar's {@code implements} attribute, so the generated interface inherits them.
+ */
+public interface DroolsFunctionDefElement extends StubBasedPsiElement<DroolsFunctionDefStub> {
+
+  /** Returns the function name, or null if it is missing. */
+  @Nullable
+  String getFunctionName();
+
+  /** Returns the return type as written, or null if the function declares none. */
+  @Nullable
+  String getReturnTypeText();
+
+  /** Returns the parameters as {@code Type name}, in declaration order. */
+  @NotNull
+  List<String> getParameterTexts();
+}
@@ -0,0 +1,20 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsGlobalDeclStub;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessors of {@link DroolsGlobalDecl} that are implemented by {@code DroolsGlobalDeclMixin}.
+ * Named in the grammar's {@code implements} attribute, so the generated interface inherits them.
+ */
+public interface DroolsGlobalDeclElement extends StubBasedPsiElement<DroolsGlobalDeclStub> {
+
+  /** Returns the name of the global, or null if it is missing. */
+  @Nullable
+  String getGlobalName();
+
+  /** Returns the declared type as written, or null if it is missing. */
+  @Nullable
+  String getTypeText();
+}
@@ -0,0 +1,21 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsImportStatementStub;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accessors of {@link DroolsImportStatement} that are implemented by {@code
+ * DroolsImportStatementMixin}. Named in the grammar's {@code implements} attribute, so the
+ * generated interface inherits them.
+ */
+public interface DroolsImportStatementElement
+    extends StubBasedPsiElement<DroolsImportStatementStub> {
+
+  /** Returns the import path as written, or an empty string if it is missing. */
+  @NotNull
+  String getImportPathString();
+
+  /** Returns whether this is a wildcard import (ends with .*). */
+  boolean isWildcard();
+}
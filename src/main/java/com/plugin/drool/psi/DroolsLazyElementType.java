@@ -0,0 +1,29 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.ILazyParseableElementType;
+import com.plugin.drool.DroolsLanguage;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Element type of the Java-like bodies of Drools files: the content of a then clause and the body
+ * of a function.
+ *
+ * <p>A file parse collapses each body into a single chameleon leaf (see {@code
+ * DroolsParserUtil}), so the tokens of consequences and function bodies cost one node until
+ * something walks into them. The first access to the children parses the text with this type as
+ * the root ({@code extraRoot} in Drools.bnf) and swaps the tree in.
+ */
+public class DroolsLazyElementType extends ILazyParseableElementType {
+
+  public DroolsLazyElementType(@NotNull @NonNls String debugName) {
+    super(debugName, DroolsLanguage.INSTANCE);
+  }
+
+  /** Element type factory referenced by {@code elementTypeFactory} in Drools.bnf. */
+  @NotNull
+  public static IElementType factory(@NotNull String name) {
+    return new DroolsLazyElementType(name);
+  }
+}
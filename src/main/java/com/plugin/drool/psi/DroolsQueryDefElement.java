@@ -0,0 +1,16 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsQueryDefStub;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Accessors of {@link DroolsQueryDef} that are implemented by {@code DroolsQueryDefMixin}. Named in
+ * the grammar's {@code implements} attribute, so the generated interface inherits them.
+ */
+public interface DroolsQueryDefElement extends StubBasedPsiElement<DroolsQueryDefStub> {
+
+  /** Returns the query name without quotes, or an empty string if the name is missing. */
+  @NotNull
+  String getNameString();
+}
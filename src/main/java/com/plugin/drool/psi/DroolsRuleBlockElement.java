@@ -0,0 +1,31 @@
+package com.plugin.drool.psi;
+
+import com.intellij.psi.StubBasedPsiElement;
+import com.plugin.drool.psi.stubs.DroolsRuleBlockStub;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Accessors of {@link DroolsRuleBlock} that are implemented by {@code DroolsRuleBlockMixin}. Named
+ * in the grammar's {@code implements} attribute, so the generated interface inherits them.
+ */
+public interface DroolsRuleBlockElement extends StubBasedPsiElement<DroolsRuleBlockStub> {
+
+  /** Returns the rule name without quotes, or an empty string if the name is missing. */
+  @NotNull
+  String getNameString();
+
+  /** Returns the attribute values by attribute keyword, with quotes stripped. */
+  @NotNull
+  Map<String, String> getAttributeValues();
+
+  /** Returns the value of the given attribute, or null if the rule does not declare it. */
+  @Nullable
+  String getAttributeValue(@NotNull String attributeName);
+
+  /** Returns the class names of the fact patterns in the when clause, as written. */
+  @NotNull
+  List<String> getFactTypeNames();
+}
@@ -5,6 +5,7 @@ import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
 import com.plugin.drool.psi.DroolsConstraintExpr;
 import com.plugin.drool.psi.DroolsConstraintOperator;
+import com.plugin.drool.util.DroolsChars;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -76,18 +77,11 @@ public abstract class DroolsConstraintExprMixin extends ASTWrapperPsiElement
       return null;
     }
     // Everything after the first operator is the value expression
-    PsiElement operator = operators.get(0);
-    PsiElement next = operator.getNextSibling();
+    ASTNode next = operators.get(0).getNode().getTreeNext();
     if (next == null) {
       return null;
     }
-    // Collect all text after the operator
-    StringBuilder sb = new StringBuilder();
-    while (next != null) {
-      sb.append(next.getText());
-      next = next.getNextSibling();
-    }
-    String result = sb.toString().trim();
+    String result = DroolsChars.trimmedText(next, getNode().getLastChildNode());
     return result.isEmpty() ? null : result;
   }
 }
@@ -0,0 +1,95 @@
+package com.plugin.drool.psi.mixin;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.PlatformIcons;
+import com.plugin.drool.psi.DroolsClassName;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.DroolsDeclareExtends;
+import com.plugin.drool.psi.DroolsDeclareField;
+import com.plugin.drool.psi.DroolsTypeName;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.stubs.DroolsDeclareBlockStub;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mixin implementation for DroolsDeclareBlock. The declared name, super type and fields are read
+ * from the stub when one is available.
+ */
+public abstract class DroolsDeclareBlockMixin
+    extends StubBasedPsiElementBase<DroolsDeclareBlockStub> implements DroolsDeclareBlock {
+
+  protected DroolsDeclareBlockMixin(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  protected DroolsDeclareBlockMixin(
+      @NotNull DroolsDeclareBlockStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  /** Returns the simple name of the declared type, or null if it is missing. */
+  @Nullable
+  public String getDeclaredName() {
+    DroolsDeclareBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getName();
+    }
+    PsiElement identifier = getIdentifier();
+    return identifier != null ? identifier.getText() : null;
+  }
+
+  /** Returns the {@code extends} type as written, or null if there is none. */
+  @Nullable
+  public String getSuperTypeName() {
+    DroolsDeclareBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getSuperTypeName();
+    }
+    DroolsDeclareExtends declareExtends = getDeclareExtends();
+    DroolsClassName className =
+        declareExtends != null
+            ? PsiTreeUtil.getChildOfType(declareExtends, DroolsClassName.class)
+            : null;
+    return className != null ? className.getText().trim() : null;
+  }
+
+  /** Returns the declared fields with their types as written, in declaration order. */
+  @NotNull
+  public List<DroolsDeclareBlockStub.DeclaredField> getDeclaredFields() {
+    DroolsDeclareBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getFields();
+    }
+    List<DroolsDeclareBlockStub.DeclaredField> fields = new ArrayList<>();
+    for (DroolsDeclareField field : getDeclareFieldList()) {
+      // Looked up leniently: stubs are also built for files with syntax errors
+      DroolsTypeName typeName = PsiTreeUtil.getChildOfType(field, DroolsTypeName.class);
+      PsiElement identifier = field.getFirstChild();
+      if (typeName == null
+          || identifier == null
+          || identifier.getNode().getElementType() != DroolsTypes.IDENTIFIER) {
+        continue;
+      }
+      String typeText = typeName.getText().trim();
+      fields.add(new DroolsDeclareBlockStub.DeclaredField(identifier.getText(), typeText));
+    }
+    return Collections.unmodifiableList(fields);
+  }
+
+  /** Presents the declared type by name and file; reads the stub like {@link #getDeclaredName}. */
+  @NotNull
+  @Override
+  public ItemPresentation getPresentation() {
+    return new DroolsSymbolPresentation(
+        this, this::getDeclaredName, "<unnamed type>", PlatformIcons.CLASS_ICON);
+  }
+}
@@ -0,0 +1,94 @@
+package com.plugin.drool.psi.mixin;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.PlatformIcons;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsParameter;
+import com.plugin.drool.psi.DroolsParameterList;
+import com.plugin.drool.psi.DroolsTypeName;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.stubs.DroolsFunctionDefStub;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mixin implementation for DroolsFunctionDef. The name, return type and parameters are read from
+ * the stub when one is available.
+ */
+public abstract class DroolsFunctionDefMixin extends StubBasedPsiElementBase<DroolsFunctionDefStub>
+    implements DroolsFunctionDef {
+
+  protected DroolsFunctionDefMixin(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  protected DroolsFunctionDefMixin(
+      @NotNull DroolsFunctionDefStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  /** Returns the function name, or null if it is missing. */
+  @Nullable
+  public String getFunctionName() {
+    DroolsFunctionDefStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getName();
+    }
+    PsiElement identifier = getIdentifier();
+    return identifier != null ? identifier.getText() : null;
+  }
+
+  /** Returns the return type as written, or null if the function declares none. */
+  @Nullable
+  public String getReturnTypeText() {
+    DroolsFunctionDefStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getReturnTypeText();
+    }
+    DroolsTypeName typeName = getTypeName();
+    return typeName != null ? typeName.getText().trim() : null;
+  }
+
+  /** Returns the parameters as {@code Type name}, in declaration order. */
+  @NotNull
+  public List<String> getParameterTexts() {
+    DroolsFunctionDefStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getParameterTexts();
+    }
+    DroolsParameterList parameterList = getParameterList();
+    if (parameterList == null) {
+      return Collections.emptyList();
+    }
+    List<String> parameters = new ArrayList<>();
+    for (DroolsParameter parameter :
+        PsiTreeUtil.getChildrenOfTypeAsList(parameterList, DroolsParameter.class)) {
+      // Looked up leniently: stubs are also built for files with syntax errors
+      DroolsTypeName typeName = PsiTreeUtil.getChildOfType(parameter, DroolsTypeName.class);
+      PsiElement identifier = parameter.getLastChild();
+      if (typeName == null
+          || identifier == null
+          || identifier.getNode().getElementType() != DroolsTypes.IDENTIFIER) {
+        continue;
+      }
+      parameters.add(typeName.getText().trim() + " " + identifier.getText());
+    }
+    return Collections.unmodifiableList(parameters);
+  }
+
+  /** Presents the function by name and file; reads the stub, like {@link #getFunctionName()}. */
+  @NotNull
+  @Override
+  public ItemPresentation getPresentation() {
+    return new DroolsSymbolPresentation(
+        this, this::getFunctionName, "<unnamed function>", PlatformIcons.FUNCTION_ICON);
+  }
+}
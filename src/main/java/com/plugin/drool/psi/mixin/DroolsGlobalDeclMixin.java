@@ -0,0 +1,50 @@
+package com.plugin.drool.psi.mixin;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import com.plugin.drool.psi.DroolsTypeName;
+import com.plugin.drool.psi.stubs.DroolsGlobalDeclStub;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Mixin implementation for DroolsGlobalDecl. The name and type are read from the stub when one is
+ * available.
+ */
+public abstract class DroolsGlobalDeclMixin extends StubBasedPsiElementBase<DroolsGlobalDeclStub>
+    implements DroolsGlobalDecl {
+
+  protected DroolsGlobalDeclMixin(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  protected DroolsGlobalDeclMixin(
+      @NotNull DroolsGlobalDeclStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  /** Returns the name of the global, or null if it is missing. */
+  @Nullable
+  public String getGlobalName() {
+    DroolsGlobalDeclStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getName();
+    }
+    PsiElement identifier = getIdentifier();
+    return identifier != null ? identifier.getText() : null;
+  }
+
+  /** Returns the declared type as written, or null if it is missing. */
+  @Nullable
+  public String getTypeText() {
+    DroolsGlobalDeclStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getTypeText();
+    }
+    DroolsTypeName typeName = getTypeName();
+    return typeName != null ? typeName.getText().trim() : null;
+  }
+}
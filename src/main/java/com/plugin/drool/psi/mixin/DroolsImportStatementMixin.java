@@ -1,26 +1,40 @@
 package com.plugin.drool.psi.mixin;
 
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.lang.ASTNode;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
 import com.plugin.drool.psi.DroolsImportPath;
 import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.stubs.DroolsImportStatementStub;
 import org.jetbrains.annotations.NotNull;
 
-/** Mixin implementation for DroolsImportStatement providing typed navigation methods. */
-public abstract class DroolsImportStatementMixin extends ASTWrapperPsiElement
-    implements DroolsImportStatement {
+/**
+ * Mixin implementation for DroolsImportStatement providing typed navigation methods. The import
+ * path is read from the stub when one is available.
+ */
+public abstract class DroolsImportStatementMixin
+    extends StubBasedPsiElementBase<DroolsImportStatementStub> implements DroolsImportStatement {
 
   protected DroolsImportStatementMixin(@NotNull ASTNode node) {
     super(node);
   }
 
+  protected DroolsImportStatementMixin(
+      @NotNull DroolsImportStatementStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
   /**
    * Returns the full import path as a string (e.g., "com.example.MyClass" or "com.example.*").
    * Returns empty string if the import path element is missing.
    */
   @NotNull
   public String getImportPathString() {
+    DroolsImportStatementStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getImportPath();
+    }
     DroolsImportPath importPath = getImportPath();
     if (importPath == null) {
       return "";
@@ -30,6 +44,10 @@ public abstract class DroolsImportStatementMixin extends ASTWrapperPsiElement
 
   /** Returns whether this is a wildcard import (ends with .*). */
   public boolean isWildcard() {
+    DroolsImportStatementStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.isWildcard();
+    }
     DroolsImportPath importPath = getImportPath();
     if (importPath == null) {
       return false;
@@ -0,0 +1,44 @@
+package com.plugin.drool.psi.mixin;
+
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
+import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.util.PlatformIcons;
+import com.plugin.drool.psi.DroolsQueryDef;
+import com.plugin.drool.psi.DroolsQueryName;
+import com.plugin.drool.psi.stubs.DroolsQueryDefStub;
+import org.jetbrains.annotations.NotNull;
+
+/** Mixin implementation for DroolsQueryDef. The name is read from the stub when available. */
+public abstract class DroolsQueryDefMixin extends StubBasedPsiElementBase<DroolsQueryDefStub>
+    implements DroolsQueryDef {
+
+  protected DroolsQueryDefMixin(@NotNull ASTNode node) {
+    super(node);
+  }
+
+  protected DroolsQueryDefMixin(
+      @NotNull DroolsQueryDefStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
+  /** Returns the query name without quotes, or an empty string if the name is missing. */
+  @NotNull
+  public String getNameString() {
+    DroolsQueryDefStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getName();
+    }
+    DroolsQueryName queryName = getQueryName();
+    return queryName != null ? DroolsRuleBlockMixin.stripQuotes(queryName.getText()) : "";
+  }
+
+  /** Presents the query by name and file; reads the stub, like {@link #getNameString()}. */
+  @NotNull
+  @Override
+  public ItemPresentation getPresentation() {
+    return new DroolsSymbolPresentation(
+        this, this::getNameString, "<unnamed query>", PlatformIcons.ABSTRACT_METHOD_ICON);
+  }
+}
@@ -1,26 +1,49 @@
 package com.plugin.drool.psi.mixin;
 
-import com.intellij.extapi.psi.ASTWrapperPsiElement;
+import com.intellij.extapi.psi.StubBasedPsiElementBase;
 import com.intellij.lang.ASTNode;
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.PlatformIcons;
+import com.plugin.drool.psi.DroolsAttributeValue;
+import com.plugin.drool.psi.DroolsClassName;
+import com.plugin.drool.psi.DroolsFactPattern;
+import com.plugin.drool.psi.DroolsRuleAttribute;
 import com.plugin.drool.psi.DroolsRuleAttributes;
 import com.plugin.drool.psi.DroolsRuleBlock;
 import com.plugin.drool.psi.DroolsRuleName;
 import com.plugin.drool.psi.DroolsThenClause;
 import com.plugin.drool.psi.DroolsWhenClause;
+import com.plugin.drool.psi.stubs.DroolsRuleBlockStub;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Mixin implementation for DroolsRuleBlock providing typed navigation methods. Generated Impl class
  * will extend this instead of ASTWrapperPsiElement directly.
+ *
+ * <p>The name, attributes and fact type names are read from the stub when one is available, so
+ * listing rules does not load the AST.
  */
-public abstract class DroolsRuleBlockMixin extends ASTWrapperPsiElement implements DroolsRuleBlock {
+public abstract class DroolsRuleBlockMixin extends StubBasedPsiElementBase<DroolsRuleBlockStub>
+    implements DroolsRuleBlock {
 
   protected DroolsRuleBlockMixin(@NotNull ASTNode node) {
     super(node);
   }
 
+  protected DroolsRuleBlockMixin(
+      @NotNull DroolsRuleBlockStub stub, @NotNull IStubElementType<?, ?> nodeType) {
+    super(stub, nodeType);
+  }
+
   /** Returns the rule name PSI element. */
   @Nullable
   public DroolsRuleName getRuleName() {
@@ -51,15 +74,89 @@ public abstract class DroolsRuleBlockMixin extends ASTWrapperPsiElement implemen
    */
   @NotNull
   public String getNameString() {
+    DroolsRuleBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getName();
+    }
     DroolsRuleName ruleName = getRuleName();
     if (ruleName == null) {
       return "";
     }
-    String text = ruleName.getText();
-    if (text == null) {
-      return "";
+    return stripQuotes(ruleName.getText());
+  }
+
+  /**
+   * Returns the attribute values by attribute keyword (e.g. {@code salience} to {@code 10}), with
+   * quotes stripped. Attributes written without a value, such as a bare {@code no-loop}, map to an
+   * empty string.
+   */
+  @NotNull
+  public Map<String, String> getAttributeValues() {
+    DroolsRuleBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getAttributes();
+    }
+    DroolsRuleAttributes attributes = getAttributes();
+    if (attributes == null) {
+      return Collections.emptyMap();
+    }
+    Map<String, String> values = new LinkedHashMap<>();
+    for (DroolsRuleAttribute attribute : attributes.getRuleAttributeList()) {
+      // ruleAttribute wraps exactly one xxxAttribute element: keyword followed by an optional value
+      PsiElement specific = attribute.getFirstChild();
+      PsiElement keyword = specific != null ? specific.getFirstChild() : null;
+      if (keyword == null) {
+        continue;
+      }
+      DroolsAttributeValue value = PsiTreeUtil.getChildOfType(specific, DroolsAttributeValue.class);
+      values.putIfAbsent(keyword.getText(), value != null ? stripQuotes(value.getText()) : "");
+    }
+    return Collections.unmodifiableMap(values);
+  }
+
+  /** Returns the value of the given attribute, or null if the rule does not declare it. */
+  @Nullable
+  public String getAttributeValue(@NotNull String attributeName) {
+    return getAttributeValues().get(attributeName);
+  }
+
+  /** Returns the class names of the fact patterns in the when clause, as written. */
+  @NotNull
+  public List<String> getFactTypeNames() {
+    DroolsRuleBlockStub stub = getGreenStub();
+    if (stub != null) {
+      return stub.getFactTypeNames();
     }
-    // Strip surrounding quotes if present
+    DroolsWhenClause whenClause = getWhenClause();
+    if (whenClause == null) {
+      return Collections.emptyList();
+    }
+    List<String> names = new ArrayList<>();
+    for (DroolsFactPattern pattern :
+        PsiTreeUtil.findChildrenOfType(whenClause, DroolsFactPattern.class)) {
+      // Looked up leniently: stubs are also built for files with syntax errors
+      DroolsClassName className = PsiTreeUtil.getChildOfType(pattern, DroolsClassName.class);
+      String name = className != null ? className.getText().trim() : "";
+      if (!name.isEmpty()) {
+        names.add(name);
+      }
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * Presents the rule by name and file, as shown in navigation popups. Reads the stub, so listing
+   * rules from an index does not load their files.
+   */
+  @NotNull
+  @Override
+  public ItemPresentation getPresentation() {
+    return new DroolsSymbolPresentation(
+        this, this::getNameString, "<unnamed rule>", PlatformIcons.METHOD_ICON);
+  }
+
+  @NotNull
+  static String stripQuotes(@NotNull String text) {
     if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
       return text.substring(1, text.length() - 1);
     }
@@ -0,0 +1,54 @@
+package com.plugin.drool.psi.mixin;
+
+import com.intellij.navigation.ItemPresentation;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import java.util.function.Supplier;
+import javax.swing.Icon;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Presentation of a top-level rule file symbol in navigation popups and Go to Symbol: its name,
+ * the file it is declared in and an icon matching the structure view.
+ *
+ * <p>The name supplier reads the stub, so presenting symbols from an index does not load files.
+ */
+final class DroolsSymbolPresentation implements ItemPresentation {
+
+  private final PsiElement element;
+  private final Supplier<String> name;
+  private final String unnamedText;
+  private final Icon icon;
+
+  DroolsSymbolPresentation(
+      @NotNull PsiElement element,
+      @NotNull Supplier<String> name,
+      @NotNull String unnamedText,
+      @NotNull Icon icon) {
+    this.element = element;
+    this.name = name;
+    this.unnamedText = unnamedText;
+    this.icon = icon;
+  }
+
+  @NotNull
+  @Override
+  public String getPresentableText() {
+    String text = name.get();
+    return text != null && !text.isEmpty() ? text : unnamedText;
+  }
+
+  @Nullable
+  @Override
+  public String getLocationString() {
+    PsiFile file = element.getContainingFile();
+    return file != null ? file.getName() : null;
+  }
+
+  @NotNull
+  @Override
+  public Icon getIcon(boolean unused) {
+    return icon;
+  }
+}
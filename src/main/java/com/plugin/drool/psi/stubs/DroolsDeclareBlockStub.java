@@ -0,0 +1,49 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** Stub of a declare block: the declared type name, its super type and its fields. */
+public class DroolsDeclareBlockStub extends StubBase<DroolsDeclareBlock> {
+
+  @Nullable private final String name;
+  @Nullable private final String superTypeName;
+  @NotNull private final List<DeclaredField> fields;
+
+  public DroolsDeclareBlockStub(
+      StubElement<?> parent,
+      @NotNull IStubElementType<?, ?> elementType,
+      @Nullable String name,
+      @Nullable String superTypeName,
+      @NotNull List<DeclaredField> fields) {
+    super(parent, elementType);
+    this.name = name;
+    this.superTypeName = superTypeName;
+    this.fields = fields;
+  }
+
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  /** Returns the {@code extends} type as written, or null if there is none. */
+  @Nullable
+  public String getSuperTypeName() {
+    return superTypeName;
+  }
+
+  /** Returns the declared fields in declaration order. */
+  @NotNull
+  public List<DeclaredField> getFields() {
+    return fields;
+  }
+
+  /** A field of a declared type: its name and its type as written. */
+  public record DeclaredField(@NotNull String name, @NotNull String typeText) {}
+}
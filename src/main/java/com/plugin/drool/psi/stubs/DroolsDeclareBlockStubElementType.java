@@ -0,0 +1,92 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import com.plugin.drool.index.DroolsDeclaredTypeIndex;
+import com.plugin.drool.index.DroolsSymbolNameIndex;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.impl.DroolsDeclareBlockImpl;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsDeclareBlockStubElementType
+    extends DroolsReparseableStubElementType<DroolsDeclareBlockStub, DroolsDeclareBlock> {
+
+  public DroolsDeclareBlockStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getOpeningToken() {
+    return DroolsTypes.DECLARE_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getClosingToken() {
+    return DroolsTypes.END_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  public DroolsDeclareBlock createPsi(@NotNull DroolsDeclareBlockStub stub) {
+    return new DroolsDeclareBlockImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsDeclareBlockStub createStub(
+      @NotNull DroolsDeclareBlock psi, StubElement parentStub) {
+    return new DroolsDeclareBlockStub(
+        parentStub, this, psi.getDeclaredName(), psi.getSuperTypeName(), psi.getDeclaredFields());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsDeclareBlockStub stub, @NotNull IndexSink sink) {
+    if (stub.getName() != null) {
+      sink.occurrence(
+          DroolsDeclaredTypeIndex.KEY,
+          DroolsDeclaredTypeIndex.fqn(getPackageName(stub), stub.getName()));
+      sink.occurrence(DroolsSymbolNameIndex.KEY, stub.getName());
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsDeclareBlockStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getName());
+    dataStream.writeName(stub.getSuperTypeName());
+    dataStream.writeVarInt(stub.getFields().size());
+    for (DroolsDeclareBlockStub.DeclaredField field : stub.getFields()) {
+      dataStream.writeName(field.name());
+      dataStream.writeName(field.typeText());
+    }
+  }
+
+  @NotNull
+  @Override
+  public DroolsDeclareBlockStub deserialize(
+      @NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String name = dataStream.readNameString();
+    String superTypeName = dataStream.readNameString();
+    int fieldCount = dataStream.readVarInt();
+    List<DroolsDeclareBlockStub.DeclaredField> fields = new ArrayList<>(fieldCount);
+    for (int i = 0; i < fieldCount; i++) {
+      String fieldName = dataStream.readNameString();
+      String typeText = dataStream.readNameString();
+      fields.add(
+          new DroolsDeclareBlockStub.DeclaredField(
+              fieldName != null ? fieldName : "", typeText != null ? typeText : ""));
+    }
+    return new DroolsDeclareBlockStub(
+        parentStub, this, name, superTypeName, Collections.unmodifiableList(fields));
+  }
+}
@@ -0,0 +1,78 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.StubBuilder;
+import com.intellij.psi.stubs.DefaultStubBuilder;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IStubFileElementType;
+import com.plugin.drool.DroolsLanguage;
+import com.plugin.drool.DroolsPsiFile;
+import com.plugin.drool.psi.DroolsLazyElementType;
+import com.plugin.drool.psi.DroolsPackageDecl;
+import com.plugin.drool.psi.DroolsQualifiedName;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * File element type of .drl files. Builds a stub tree holding the imports, globals, rules,
+ * functions, declares and queries of a file, so cross-file features can list them without parsing.
+ */
+public class DroolsFileElementType extends IStubFileElementType<DroolsFileStub> {
+
+  /** Bump whenever the shape or the serialized form of any Drools stub changes. */
+  public static final int STUB_VERSION = 4;
+
+  public DroolsFileElementType() {
+    super("DROOLS_FILE", DroolsLanguage.INSTANCE);
+  }
+
+  @Override
+  public int getStubVersion() {
+    return STUB_VERSION;
+  }
+
+  @NotNull
+  @Override
+  public String getExternalId() {
+    return DroolsStubElementType.EXTERNAL_ID_PREFIX + "FILE";
+  }
+
+  @Override
+  public StubBuilder getBuilder() {
+    return new DefaultStubBuilder() {
+      @NotNull
+      @Override
+      protected StubElement<?> createStubForFile(@NotNull PsiFile file) {
+        if (!(file instanceof DroolsPsiFile droolsFile)) {
+          return super.createStubForFile(file);
+        }
+        DroolsPackageDecl packageDecl = droolsFile.getPackageDecl();
+        DroolsQualifiedName name = packageDecl != null ? packageDecl.getQualifiedName() : null;
+        return new DroolsFileStub(droolsFile, name != null ? name.getText() : null);
+      }
+
+      @Override
+      protected boolean skipChildProcessingWhenBuildingStubs(
+          @NotNull ASTNode parent, @NotNull ASTNode node) {
+        // No stubs live in then clauses or function bodies; walking them would parse them
+        return node.getElementType() instanceof DroolsLazyElementType;
+      }
+    };
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsFileStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getPackageName());
+  }
+
+  @NotNull
+  @Override
+  public DroolsFileStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub)
+      throws IOException {
+    return new DroolsFileStub(null, dataStream.readNameString());
+  }
+}
@@ -0,0 +1,22 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.PsiFileStubImpl;
+import com.plugin.drool.DroolsPsiFile;
+import org.jetbrains.annotations.Nullable;
+
+/** Stub of a .drl file. Holds the package name; top-level constructs are its child stubs. */
+public class DroolsFileStub extends PsiFileStubImpl<DroolsPsiFile> {
+
+  @Nullable private final String packageName;
+
+  public DroolsFileStub(@Nullable DroolsPsiFile file, @Nullable String packageName) {
+    super(file);
+    this.packageName = packageName;
+  }
+
+  /** Returns the declared package, or null if the file has no package declaration. */
+  @Nullable
+  public String getPackageName() {
+    return packageName;
+  }
+}
@@ -0,0 +1,46 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** Stub of a function definition: the function name, its return type and its parameters. */
+public class DroolsFunctionDefStub extends StubBase<DroolsFunctionDef> {
+
+  @Nullable private final String name;
+  @Nullable private final String returnTypeText;
+  @NotNull private final List<String> parameterTexts;
+
+  public DroolsFunctionDefStub(
+      StubElement<?> parent,
+      @NotNull IStubElementType<?, ?> elementType,
+      @Nullable String name,
+      @Nullable String returnTypeText,
+      @NotNull List<String> parameterTexts) {
+    super(parent, elementType);
+    this.name = name;
+    this.returnTypeText = returnTypeText;
+    this.parameterTexts = parameterTexts;
+  }
+
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  /** Returns the return type as written, or null if the function declares none. */
+  @Nullable
+  public String getReturnTypeText() {
+    return returnTypeText;
+  }
+
+  /** Returns the parameters as {@code Type name}, in declaration order. */
+  @NotNull
+  public List<String> getParameterTexts() {
+    return parameterTexts;
+  }
+}
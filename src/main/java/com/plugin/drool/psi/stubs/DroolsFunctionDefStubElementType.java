@@ -0,0 +1,84 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import com.plugin.drool.index.DroolsFunctionIndex;
+import com.plugin.drool.index.DroolsSymbolNameIndex;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.impl.DroolsFunctionDefImpl;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsFunctionDefStubElementType
+    extends DroolsReparseableStubElementType<DroolsFunctionDefStub, DroolsFunctionDef> {
+
+  public DroolsFunctionDefStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getOpeningToken() {
+    return DroolsTypes.FUNCTION_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getClosingToken() {
+    return DroolsTypes.RIGHT_BRACE;
+  }
+
+  @NotNull
+  @Override
+  public DroolsFunctionDef createPsi(@NotNull DroolsFunctionDefStub stub) {
+    return new DroolsFunctionDefImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsFunctionDefStub createStub(@NotNull DroolsFunctionDef psi, StubElement parentStub) {
+    return new DroolsFunctionDefStub(
+        parentStub, this, psi.getFunctionName(), psi.getReturnTypeText(), psi.getParameterTexts());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsFunctionDefStub stub, @NotNull IndexSink sink) {
+    if (stub.getName() != null) {
+      sink.occurrence(DroolsFunctionIndex.KEY, getPackageName(stub));
+      sink.occurrence(DroolsSymbolNameIndex.KEY, stub.getName());
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsFunctionDefStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getName());
+    dataStream.writeName(stub.getReturnTypeText());
+    dataStream.writeVarInt(stub.getParameterTexts().size());
+    for (String parameterText : stub.getParameterTexts()) {
+      dataStream.writeUTFFast(parameterText);
+    }
+  }
+
+  @NotNull
+  @Override
+  public DroolsFunctionDefStub deserialize(
+      @NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String name = dataStream.readNameString();
+    String returnTypeText = dataStream.readNameString();
+    int parameterCount = dataStream.readVarInt();
+    List<String> parameterTexts = new ArrayList<>(parameterCount);
+    for (int i = 0; i < parameterCount; i++) {
+      parameterTexts.add(dataStream.readUTFFast());
+    }
+    return new DroolsFunctionDefStub(
+        parentStub, this, name, returnTypeText, Collections.unmodifiableList(parameterTexts));
+  }
+}
@@ -0,0 +1,36 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/** Stub of a global declaration: the global's name and declared type. */
+public class DroolsGlobalDeclStub extends StubBase<DroolsGlobalDecl> {
+
+  @Nullable private final String name;
+  @Nullable private final String typeText;
+
+  public DroolsGlobalDeclStub(
+      StubElement<?> parent,
+      @NotNull IStubElementType<?, ?> elementType,
+      @Nullable String name,
+      @Nullable String typeText) {
+    super(parent, elementType);
+    this.name = name;
+    this.typeText = typeText;
+  }
+
+  @Nullable
+  public String getName() {
+    return name;
+  }
+
+  /** Returns the declared type as written, or null if it is missing. */
+  @Nullable
+  public String getTypeText() {
+    return typeText;
+  }
+}
@@ -0,0 +1,53 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.plugin.drool.index.DroolsGlobalIndex;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import com.plugin.drool.psi.impl.DroolsGlobalDeclImpl;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsGlobalDeclStubElementType
+    extends DroolsStubElementType<DroolsGlobalDeclStub, DroolsGlobalDecl> {
+
+  public DroolsGlobalDeclStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  public DroolsGlobalDecl createPsi(@NotNull DroolsGlobalDeclStub stub) {
+    return new DroolsGlobalDeclImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsGlobalDeclStub createStub(@NotNull DroolsGlobalDecl psi, StubElement parentStub) {
+    return new DroolsGlobalDeclStub(parentStub, this, psi.getGlobalName(), psi.getTypeText());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsGlobalDeclStub stub, @NotNull IndexSink sink) {
+    if (stub.getName() != null) {
+      sink.occurrence(DroolsGlobalIndex.KEY, getPackageName(stub));
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsGlobalDeclStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getName());
+    dataStream.writeName(stub.getTypeText());
+  }
+
+  @NotNull
+  @Override
+  public DroolsGlobalDeclStub deserialize(
+      @NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    return new DroolsGlobalDeclStub(
+        parentStub, this, dataStream.readNameString(), dataStream.readNameString());
+  }
+}
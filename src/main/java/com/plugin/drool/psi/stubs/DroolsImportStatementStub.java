@@ -0,0 +1,34 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsImportStatement;
+import org.jetbrains.annotations.NotNull;
+
+/** Stub of an import statement: the imported path and whether it is a wildcard import. */
+public class DroolsImportStatementStub extends StubBase<DroolsImportStatement> {
+
+  @NotNull private final String importPath;
+  private final boolean wildcard;
+
+  public DroolsImportStatementStub(
+      StubElement<?> parent,
+      @NotNull IStubElementType<?, ?> elementType,
+      @NotNull String importPath,
+      boolean wildcard) {
+    super(parent, elementType);
+    this.importPath = importPath;
+    this.wildcard = wildcard;
+  }
+
+  /** Returns the import path as written (e.g. {@code com.example.Foo} or {@code com.example.*}). */
+  @NotNull
+  public String getImportPath() {
+    return importPath;
+  }
+
+  public boolean isWildcard() {
+    return wildcard;
+  }
+}
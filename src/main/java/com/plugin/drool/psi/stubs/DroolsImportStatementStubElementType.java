@@ -0,0 +1,49 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.impl.DroolsImportStatementImpl;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsImportStatementStubElementType
+    extends DroolsStubElementType<DroolsImportStatementStub, DroolsImportStatement> {
+
+  public DroolsImportStatementStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  public DroolsImportStatement createPsi(@NotNull DroolsImportStatementStub stub) {
+    return new DroolsImportStatementImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsImportStatementStub createStub(
+      @NotNull DroolsImportStatement psi, StubElement parentStub) {
+    return new DroolsImportStatementStub(
+        parentStub, this, psi.getImportPathString(), psi.isWildcard());
+  }
+
+  @Override
+  public void serialize(
+      @NotNull DroolsImportStatementStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getImportPath());
+    dataStream.writeBoolean(stub.isWildcard());
+  }
+
+  @NotNull
+  @Override
+  public DroolsImportStatementStub deserialize(
+      @NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String importPath = dataStream.readNameString();
+    boolean wildcard = dataStream.readBoolean();
+    return new DroolsImportStatementStub(
+        parentStub, this, importPath != null ? importPath : "", wildcard);
+  }
+}
@@ -0,0 +1,25 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsQueryDef;
+import org.jetbrains.annotations.NotNull;
+
+/** Stub of a query definition: the query name. */
+public class DroolsQueryDefStub extends StubBase<DroolsQueryDef> {
+
+  @NotNull private final String name;
+
+  public DroolsQueryDefStub(
+      StubElement<?> parent, @NotNull IStubElementType<?, ?> elementType, @NotNull String name) {
+    super(parent, elementType);
+    this.name = name;
+  }
+
+  /** Returns the query name without quotes, or an empty string if the name is missing. */
+  @NotNull
+  public String getName() {
+    return name;
+  }
+}
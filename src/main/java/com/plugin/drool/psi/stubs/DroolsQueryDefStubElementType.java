@@ -0,0 +1,66 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import com.plugin.drool.index.DroolsSymbolNameIndex;
+import com.plugin.drool.psi.DroolsQueryDef;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.impl.DroolsQueryDefImpl;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsQueryDefStubElementType
+    extends DroolsReparseableStubElementType<DroolsQueryDefStub, DroolsQueryDef> {
+
+  public DroolsQueryDefStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getOpeningToken() {
+    return DroolsTypes.QUERY_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getClosingToken() {
+    return DroolsTypes.END_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  public DroolsQueryDef createPsi(@NotNull DroolsQueryDefStub stub) {
+    return new DroolsQueryDefImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsQueryDefStub createStub(@NotNull DroolsQueryDef psi, StubElement parentStub) {
+    return new DroolsQueryDefStub(parentStub, this, psi.getNameString());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsQueryDefStub stub, @NotNull IndexSink sink) {
+    if (!stub.getName().isEmpty()) {
+      sink.occurrence(DroolsSymbolNameIndex.KEY, stub.getName());
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsQueryDefStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getName());
+  }
+
+  @NotNull
+  @Override
+  public DroolsQueryDefStub deserialize(@NotNull StubInputStream dataStream, StubElement parentStub)
+      throws IOException {
+    String name = dataStream.readNameString();
+    return new DroolsQueryDefStub(parentStub, this, name != null ? name : "");
+  }
+}
@@ -0,0 +1,145 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.lang.Language;
+import com.intellij.lang.PsiBuilder;
+import com.intellij.lang.PsiBuilderFactory;
+import com.intellij.lexer.Lexer;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.tree.ICustomParsingType;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.psi.tree.ILazyParseableElementTypeBase;
+import com.intellij.psi.tree.IReparseableElementTypeBase;
+import com.intellij.psi.tree.TokenSet;
+import com.intellij.util.CharTable;
+import com.plugin.drool.DroolsLanguage;
+import com.plugin.drool.DroolsLexerAdapter;
+import com.plugin.drool.parser.DroolsParser;
+import com.plugin.drool.psi.DroolsTypes;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub element type of a top-level block (rule, function, declare, query) that can be reparsed on
+ * its own.
+ *
+ * <p>When an edit falls inside such a block, the platform asks {@link #isReparseable} whether the
+ * block's new text still forms exactly one block. If it does, only that text is parsed, with the
+ * block's grammar rule as the parse root ({@code extraRoot} in Drools.bnf), and the result is
+ * merged into the existing tree; the rest of the file keeps its PSI. Otherwise the platform falls
+ * back to the enclosing node and, eventually, the whole file.
+ *
+ * <p>The check is lexer-level: the text must start with the block's keyword, end with its closing
+ * token, close nowhere earlier, have balanced brackets and contain no token that would start
+ * another top-level item. Those are the cases where a whole-file parse would place the block's
+ * boundaries differently.
+ */
+public abstract class DroolsReparseableStubElementType<
+        S extends StubElement<P>, P extends PsiElement>
+    extends DroolsStubElementType<S, P>
+    implements ICustomParsingType, ILazyParseableElementTypeBase, IReparseableElementTypeBase {
+
+  /** Tokens that start a top-level item, and so end the block in a whole-file parse. */
+  private static final TokenSet TOP_LEVEL_KEYWORDS =
+      TokenSet.create(
+          DroolsTypes.PACKAGE_KEYWORD,
+          DroolsTypes.IMPORT_KEYWORD,
+          DroolsTypes.GLOBAL_KEYWORD,
+          DroolsTypes.RULE_KEYWORD,
+          DroolsTypes.FUNCTION_KEYWORD,
+          DroolsTypes.DECLARE_KEYWORD,
+          DroolsTypes.QUERY_KEYWORD);
+
+  protected DroolsReparseableStubElementType(@NotNull @NonNls String debugName) {
+    super(debugName);
+  }
+
+  /**
+   * Returns the keyword the block starts with. Token types are looked up on use rather than passed
+   * in, since element types are created before the token types in {@link DroolsTypes}.
+   */
+  @NotNull
+  protected abstract IElementType getOpeningToken();
+
+  /** Returns the token that closes the block: {@code end} or the body's closing brace. */
+  @NotNull
+  protected abstract IElementType getClosingToken();
+
+  @Override
+  public boolean isReparseable(
+      @NotNull ASTNode currentNode,
+      @NotNull CharSequence newText,
+      @NotNull Language fileLanguage,
+      @NotNull Project project) {
+    return isSingleBlock(newText);
+  }
+
+  /** Returns whether {@code text} lexes as exactly one block of this type, and nothing else. */
+  boolean isSingleBlock(@NotNull CharSequence text) {
+    IElementType opening = getOpeningToken();
+    IElementType closing = getClosingToken();
+    Lexer lexer = new DroolsLexerAdapter();
+    lexer.start(text);
+
+    boolean started = false;
+    boolean closed = false;
+    int braces = 0;
+    int parens = 0;
+    int brackets = 0;
+    for (IElementType type; (type = lexer.getTokenType()) != null; lexer.advance()) {
+      if (type == TokenType.WHITE_SPACE || type == DroolsTypes.COMMENT) continue;
+      if (type == TokenType.BAD_CHARACTER || closed) {
+        return false;
+      }
+      if (!started) {
+        if (type != opening) {
+          return false;
+        }
+        started = true;
+        continue;
+      }
+      if (TOP_LEVEL_KEYWORDS.contains(type)) {
+        return false;
+      }
+      if (type == DroolsTypes.LEFT_BRACE) braces++;
+      else if (type == DroolsTypes.RIGHT_BRACE) braces--;
+      else if (type == DroolsTypes.LEFT_PAREN) parens++;
+      else if (type == DroolsTypes.RIGHT_PAREN) parens--;
+      else if (type == DroolsTypes.LEFT_BRACKET) brackets++;
+      else if (type == DroolsTypes.RIGHT_BRACKET) brackets--;
+      if (braces < 0 || parens < 0 || brackets < 0) {
+        return false;
+      }
+      // A brace-closed block ends at the brace that balances its body, an end-closed one at 'end'
+      closed = type == closing && (closing != DroolsTypes.RIGHT_BRACE || braces == 0);
+    }
+    return closed && braces == 0 && parens == 0 && brackets == 0;
+  }
+
+  @NotNull
+  @Override
+  public ASTNode parse(@NotNull CharSequence text, @NotNull CharTable table) {
+    return new LazyParseableElement(this, text);
+  }
+
+  @NotNull
+  @Override
+  public ASTNode parseContents(@NotNull ASTNode chameleon) {
+    ASTNode parent = chameleon.getTreeParent();
+    Project project = (parent != null ? parent : chameleon).getPsi().getProject();
+    PsiBuilder builder =
+        PsiBuilderFactory.getInstance()
+            .createBuilder(
+                project,
+                chameleon,
+                new DroolsLexerAdapter(),
+                DroolsLanguage.INSTANCE,
+                chameleon.getChars());
+    // The parser collapses the root marker onto the block's own marker, so no node is doubled
+    return new DroolsParser().parse(this, builder).getFirstChildNode();
+  }
+}
@@ -0,0 +1,50 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.StubBase;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Stub of a rule: its name, its attributes and the type names of the fact patterns in its when
+ * clause.
+ */
+public class DroolsRuleBlockStub extends StubBase<DroolsRuleBlock> {
+
+  @NotNull private final String name;
+  @NotNull private final Map<String, String> attributes;
+  @NotNull private final List<String> factTypeNames;
+
+  public DroolsRuleBlockStub(
+      StubElement<?> parent,
+      @NotNull IStubElementType<?, ?> elementType,
+      @NotNull String name,
+      @NotNull Map<String, String> attributes,
+      @NotNull List<String> factTypeNames) {
+    super(parent, elementType);
+    this.name = name;
+    this.attributes = attributes;
+    this.factTypeNames = factTypeNames;
+  }
+
+  /** Returns the rule name without quotes, or an empty string if the name is missing. */
+  @NotNull
+  public String getName() {
+    return name;
+  }
+
+  /** Returns the attribute values by attribute keyword (e.g. {@code salience}), in source order. */
+  @NotNull
+  public Map<String, String> getAttributes() {
+    return attributes;
+  }
+
+  /** Returns the class names of the rule's fact patterns, as written. */
+  @NotNull
+  public List<String> getFactTypeNames() {
+    return factTypeNames;
+  }
+}
@@ -0,0 +1,103 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.intellij.psi.stubs.StubInputStream;
+import com.intellij.psi.stubs.StubOutputStream;
+import com.intellij.psi.tree.IElementType;
+import com.plugin.drool.index.DroolsRuleNameIndex;
+import com.plugin.drool.index.DroolsSymbolNameIndex;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.impl.DroolsRuleBlockImpl;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+public class DroolsRuleBlockStubElementType
+    extends DroolsReparseableStubElementType<DroolsRuleBlockStub, DroolsRuleBlock> {
+
+  public DroolsRuleBlockStubElementType(@NotNull String debugName) {
+    super(debugName);
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getOpeningToken() {
+    return DroolsTypes.RULE_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  protected IElementType getClosingToken() {
+    return DroolsTypes.END_KEYWORD;
+  }
+
+  @NotNull
+  @Override
+  public DroolsRuleBlock createPsi(@NotNull DroolsRuleBlockStub stub) {
+    return new DroolsRuleBlockImpl(stub, this);
+  }
+
+  @NotNull
+  @Override
+  public DroolsRuleBlockStub createStub(@NotNull DroolsRuleBlock psi, StubElement parentStub) {
+    return new DroolsRuleBlockStub(
+        parentStub,
+        this,
+        psi.getNameString(),
+        psi.getAttributeValues(),
+        psi.getFactTypeNames());
+  }
+
+  @Override
+  public void indexStub(@NotNull DroolsRuleBlockStub stub, @NotNull IndexSink sink) {
+    if (!stub.getName().isEmpty()) {
+      sink.occurrence(
+          DroolsRuleNameIndex.KEY, DroolsRuleNameIndex.key(getPackageName(stub), stub.getName()));
+      sink.occurrence(DroolsSymbolNameIndex.KEY, stub.getName());
+    }
+  }
+
+  @Override
+  public void serialize(@NotNull DroolsRuleBlockStub stub, @NotNull StubOutputStream dataStream)
+      throws IOException {
+    dataStream.writeName(stub.getName());
+    dataStream.writeVarInt(stub.getAttributes().size());
+    for (Map.Entry<String, String> attribute : stub.getAttributes().entrySet()) {
+      dataStream.writeName(attribute.getKey());
+      dataStream.writeUTFFast(attribute.getValue());
+    }
+    dataStream.writeVarInt(stub.getFactTypeNames().size());
+    for (String factTypeName : stub.getFactTypeNames()) {
+      dataStream.writeName(factTypeName);
+    }
+  }
+
+  @NotNull
+  @Override
+  public DroolsRuleBlockStub deserialize(
+      @NotNull StubInputStream dataStream, StubElement parentStub) throws IOException {
+    String name = dataStream.readNameString();
+    int attributeCount = dataStream.readVarInt();
+    Map<String, String> attributes = new LinkedHashMap<>(attributeCount);
+    for (int i = 0; i < attributeCount; i++) {
+      attributes.put(dataStream.readNameString(), dataStream.readUTFFast());
+    }
+    int factTypeCount = dataStream.readVarInt();
+    List<String> factTypeNames = new ArrayList<>(factTypeCount);
+    for (int i = 0; i < factTypeCount; i++) {
+      factTypeNames.add(dataStream.readNameString());
+    }
+    return new DroolsRuleBlockStub(
+        parentStub,
+        this,
+        name != null ? name : "",
+        Collections.unmodifiableMap(attributes),
+        Collections.unmodifiableList(factTypeNames));
+  }
+}
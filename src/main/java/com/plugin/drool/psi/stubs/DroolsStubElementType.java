@@ -0,0 +1,43 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.stubs.IStubElementType;
+import com.intellij.psi.stubs.IndexSink;
+import com.intellij.psi.stubs.StubElement;
+import com.plugin.drool.DroolsLanguage;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for Drools stub element types. The external id is the debug name with a {@code
+ * drools.} prefix, matching the {@code stubElementTypeHolder} registration in plugin.xml.
+ */
+public abstract class DroolsStubElementType<S extends StubElement<P>, P extends PsiElement>
+    extends IStubElementType<S, P> {
+
+  static final String EXTERNAL_ID_PREFIX = "drools.";
+
+  protected DroolsStubElementType(@NotNull @NonNls String debugName) {
+    super(debugName, DroolsLanguage.INSTANCE);
+  }
+
+  @NotNull
+  @Override
+  public String getExternalId() {
+    return EXTERNAL_ID_PREFIX + super.toString();
+  }
+
+  @Override
+  public void indexStub(@NotNull S stub, @NotNull IndexSink sink) {}
+
+  /** Returns the package of the file that contains {@code stub}, or "" for the default package. */
+  @NotNull
+  protected static String getPackageName(@NotNull StubElement<?> stub) {
+    StubElement<?> parent = stub.getParentStub();
+    while (parent != null && !(parent instanceof DroolsFileStub)) {
+      parent = parent.getParentStub();
+    }
+    String packageName = parent != null ? ((DroolsFileStub) parent).getPackageName() : null;
+    return packageName != null ? packageName : "";
+  }
+}
@@ -0,0 +1,26 @@
+package com.plugin.drool.psi.stubs;
+
+import com.intellij.psi.tree.IElementType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Element type factory referenced by {@code elementTypeFactory} in Drools.bnf. Creates the stub
+ * element types for the top-level constructs kept in the stub tree.
+ */
+public final class DroolsStubElementTypes {
+
+  private DroolsStubElementTypes() {}
+
+  @NotNull
+  public static IElementType factory(@NotNull String name) {
+    return switch (name) {
+      case "IMPORT_STATEMENT" -> new DroolsImportStatementStubElementType(name);
+      case "GLOBAL_DECL" -> new DroolsGlobalDeclStubElementType(name);
+      case "RULE_BLOCK" -> new DroolsRuleBlockStubElementType(name);
+      case "FUNCTION_DEF" -> new DroolsFunctionDefStubElementType(name);
+      case "DECLARE_BLOCK" -> new DroolsDeclareBlockStubElementType(name);
+      case "QUERY_DEF" -> new DroolsQueryDefStubElementType(name);
+      default -> throw new IllegalArgumentException("Unknown Drools stub element type: " + name);
+    };
+  }
+}
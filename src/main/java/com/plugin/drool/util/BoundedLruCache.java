@@ -0,0 +1,155 @@
+package com.plugin.drool.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.ToIntBiFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Concurrent, weight-bounded cache with least-recently-used eviction.
+ *
+ * <p>Entries are spread over a fixed number of segments, each an access-ordered {@link
+ * LinkedHashMap} guarded by its own lock, so readers of different keys rarely contend. Every
+ * segment holds at most its share of the total weight; inserting into a full segment evicts that
+ * segment's least recently used entries. Evictions are reported to the supplied {@link
+ * CacheStats}.
+ *
+ * @param <K> key type; must have stable {@code equals}/{@code hashCode}
+ * @param <V> value type
+ */
+public final class BoundedLruCache<K, V> {
+
+  private static final int SEGMENT_COUNT = 16;
+
+  private final List<Segment> segments;
+  private final ToIntBiFunction<? super K, ? super V> weigher;
+  private final CacheStats stats;
+
+  /**
+   * @param maxWeight total weight the cache may hold
+   * @param weigher computes the weight of an entry when it is inserted; must be non-negative
+   * @param stats receives eviction counts
+   */
+  public BoundedLruCache(
+      long maxWeight,
+      @NotNull ToIntBiFunction<? super K, ? super V> weigher,
+      @NotNull CacheStats stats) {
+    this.weigher = weigher;
+    this.stats = stats;
+    long segmentWeight = Math.max(1, maxWeight / SEGMENT_COUNT);
+    this.segments = new ArrayList<>(SEGMENT_COUNT);
+    for (int i = 0; i < SEGMENT_COUNT; i++) {
+      segments.add(new Segment(segmentWeight));
+    }
+  }
+
+  /** Returns the value for {@code key} and marks it as recently used, or null if absent. */
+  @Nullable
+  public V get(@NotNull K key) {
+    return segmentFor(key).get(key);
+  }
+
+  /** Inserts or replaces the value for {@code key}, evicting old entries if over the bound. */
+  public void put(@NotNull K key, @NotNull V value) {
+    segmentFor(key).put(key, value, weigher.applyAsInt(key, value));
+  }
+
+  /** Removes the entry for {@code key} only if it is currently mapped to {@code value}. */
+  public boolean remove(@NotNull K key, @NotNull V value) {
+    return segmentFor(key).remove(key, value);
+  }
+
+  public void clear() {
+    for (Segment segment : segments) {
+      segment.clear();
+    }
+  }
+
+  /** Returns the number of entries currently held. */
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  /** Returns the total weight of the entries currently held. */
+  public long weight() {
+    long weight = 0;
+    for (Segment segment : segments) {
+      weight += segment.weight();
+    }
+    return weight;
+  }
+
+  @NotNull
+  private Segment segmentFor(@NotNull K key) {
+    int hash = key.hashCode();
+    hash ^= hash >>> 16;
+    return segments.get(hash & (SEGMENT_COUNT - 1));
+  }
+
+  private final class Segment {
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private long weight;
+
+    Segment(long maxWeight) {
+      this.maxWeight = maxWeight;
+    }
+
+    synchronized V get(K key) {
+      Entry<V> entry = map.get(key);
+      return entry != null ? entry.value() : null;
+    }
+
+    synchronized void put(K key, V value, int entryWeight) {
+      Entry<V> previous = map.put(key, new Entry<>(value, entryWeight));
+      if (previous != null) {
+        weight -= previous.weight();
+      }
+      weight += entryWeight;
+      evictIfNeeded();
+    }
+
+    synchronized boolean remove(K key, V value) {
+      Entry<V> entry = map.get(key);
+      if (entry == null || !entry.value().equals(value)) {
+        return false;
+      }
+      map.remove(key);
+      weight -= entry.weight();
+      return true;
+    }
+
+    synchronized void clear() {
+      map.clear();
+      weight = 0;
+    }
+
+    synchronized int size() {
+      return map.size();
+    }
+
+    synchronized long weight() {
+      return weight;
+    }
+
+    /** Drops least recently used entries (iteration order of an access-ordered map) until fit. */
+    private void evictIfNeeded() {
+      Iterator<Entry<V>> iterator = map.values().iterator();
+      while (weight > maxWeight && iterator.hasNext()) {
+        Entry<V> eldest = iterator.next();
+        iterator.remove();
+        weight -= eldest.weight();
+        stats.recordEviction();
+      }
+    }
+  }
+
+  private record Entry<V>(V value, int weight) {}
+}
@@ -0,0 +1,62 @@
+package com.plugin.drool.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Thread-safe hit, miss, eviction and load-time counters for a cache. Lookups are recorded by the
+ * owner of the cache, evictions by {@link BoundedLruCache} itself.
+ */
+public final class CacheStats {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  public void recordEviction() {
+    evictions.increment();
+  }
+
+  /** Records one load (a computation after a miss) that took {@code nanos} nanoseconds. */
+  public void recordLoad(long nanos) {
+    loads.increment();
+    loadTimeNanos.add(nanos);
+  }
+
+  /** Returns a point-in-time copy of the counters. */
+  @NotNull
+  public Snapshot snapshot() {
+    return new Snapshot(
+        hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadTimeNanos.sum());
+  }
+
+  /** Immutable view of the counters at the time {@link #snapshot()} was called. */
+  public record Snapshot(
+      long hitCount,
+      long missCount,
+      long evictionCount,
+      long loadCount,
+      long totalLoadTimeNanos) {
+
+    /** Returns the fraction of lookups that were hits, or 1.0 if there were no lookups. */
+    public double hitRate() {
+      long requests = hitCount + missCount;
+      return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /** Returns the average time spent per load, in nanoseconds. */
+    public double averageLoadPenaltyNanos() {
+      return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+  }
+}
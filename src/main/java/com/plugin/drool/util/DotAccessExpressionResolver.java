@@ -4,9 +4,6 @@ import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiWhiteSpace;
 import com.intellij.psi.tree.IElementType;
 import com.plugin.drool.psi.DroolsTypes;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -21,8 +18,9 @@ import org.jetbrains.annotations.Nullable;
  * </pre>
  *
  * <p>The walk starts from the DOT leaf (the parameter), goes backward (getPrevSibling), skipping
- * PsiWhiteSpace, collecting leaves that match the alternation. Returns the concatenation of leaf
- * texts in source order. Returns {@code null} if no expression is recoverable.
+ * PsiWhiteSpace, over leaves that match the alternation. Returns the leaf texts of the matched
+ * range in source order, read through {@link DroolsChars}. Returns {@code null} if no expression
+ * is recoverable.
  *
  * <p>Used by both {@code DroolsCompletionContributor.MethodFieldProvider} and {@code
  * DroolsReferenceContributor.DroolsMethodReferenceProvider} to avoid duplicated logic for
@@ -58,8 +56,7 @@ public final class DotAccessExpressionResolver {
       return null;
     }
 
-    // Collect leaves in reverse order (walking backward from the dot)
-    List<PsiElement> collectedLeaves = new ArrayList<>();
+    // Walk backward from the dot, moving the start of the matched range
     PsiElement current = dotLeaf.getPrevSibling();
 
     // Skip whitespace to find the first meaningful leaf
@@ -86,7 +83,8 @@ public final class DotAccessExpressionResolver {
       return null;
     }
 
-    collectedLeaves.add(current);
+    PsiElement last = current;
+    PsiElement first = current;
     current = skipWhitespace(current.getPrevSibling());
 
     // Now loop: expect DOT or DOLLAR or end
@@ -95,7 +93,6 @@ public final class DotAccessExpressionResolver {
 
       if (currentType == DroolsTypes.DOT) {
         // Got a DOT — expect an IDENTIFIER before it
-        PsiElement dotElement = current;
         PsiElement beforeDot = skipWhitespace(current.getPrevSibling());
 
         if (beforeDot == null) {
@@ -106,9 +103,8 @@ public final class DotAccessExpressionResolver {
         IElementType beforeDotType = getElementType(beforeDot);
 
         if (beforeDotType == DroolsTypes.IDENTIFIER) {
-          // Valid: IDENTIFIER DOT — collect both and continue
-          collectedLeaves.add(dotElement);
-          collectedLeaves.add(beforeDot);
+          // Valid: IDENTIFIER DOT — extend the range over both and continue
+          first = beforeDot;
           current = skipWhitespace(beforeDot.getPrevSibling());
         } else if (beforeDotType == DroolsTypes.DOLLAR) {
           // DOLLAR DOT — invalid pattern ($. is not valid), stop before this DOT
@@ -118,8 +114,8 @@ public final class DotAccessExpressionResolver {
           break;
         }
       } else if (currentType == DroolsTypes.DOLLAR) {
-        // Got a DOLLAR — this is the start of a $-binding, collect and done
-        collectedLeaves.add(current);
+        // Got a DOLLAR — this is the start of a $-binding, extend and done
+        first = current;
         break;
       } else {
         // Not a DOT or DOLLAR — stop
@@ -127,20 +123,8 @@ public final class DotAccessExpressionResolver {
       }
     }
 
-    if (collectedLeaves.isEmpty()) {
-      return null;
-    }
-
-    // Reverse to get source order (we collected right-to-left)
-    Collections.reverse(collectedLeaves);
-
-    // Concatenate leaf texts
-    StringBuilder sb = new StringBuilder();
-    for (PsiElement leaf : collectedLeaves) {
-      sb.append(leaf.getText());
-    }
-
-    String result = sb.toString();
+    // Leaf texts of the range, leaving out the whitespace the walk skipped
+    String result = DroolsChars.tokenText(first.getNode(), last.getNode());
     return result.isEmpty() ? null : result;
   }
 
@@ -0,0 +1,237 @@
+package com.plugin.drool.util;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.TokenType;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.tree.IElementType;
+import com.plugin.drool.psi.DroolsLazyElementType;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Text access for validators and PSI helpers that reads leaf {@link ASTNode#getChars()} and token
+ * types instead of {@code getText()}.
+ *
+ * <p>{@code getText()} on a composite node copies its whole subtree into a new string, and the
+ * usual {@code trim()}, {@code toCharArray()} or concatenation of child texts copies it again.
+ * Leaves hand out the character sequence they already hold, so checks that only look at tokens
+ * allocate nothing, and text that callers need as a string is built once from the leaves.
+ *
+ * <p>A then clause or function body that nothing has parsed yet is treated as one leaf: its text
+ * is kept without expanding it, and its brackets are balanced by construction (see {@code
+ * DroolsParserUtil}).
+ */
+public final class DroolsChars {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private DroolsChars() {
+    // Utility class — no instantiation
+  }
+
+  /**
+   * Returns whether the brackets of the given type pair are balanced in {@code node}: no closing
+   * bracket before its opening one, and none left open. Counts tokens, so brackets in string
+   * literals and comments are ignored.
+   */
+  public static boolean isBalanced(
+      @NotNull ASTNode node, @NotNull IElementType open, @NotNull IElementType close) {
+    return bracketDepth(node, open, close, 0) == 0;
+  }
+
+  /** Returns the bracket depth after the leaves of {@code node}, or -1 once it goes negative. */
+  private static int bracketDepth(
+      @NotNull ASTNode node, @NotNull IElementType open, @NotNull IElementType close, int depth) {
+    for (ASTNode child = node.getFirstChildNode();
+        child != null && depth >= 0;
+        child = child.getTreeNext()) {
+      IElementType type = child.getElementType();
+      if (type == open) {
+        depth++;
+      } else if (type == close) {
+        depth--;
+      } else if (!isLeaf(child)) {
+        depth = bracketDepth(child, open, close, depth);
+      }
+    }
+    return depth;
+  }
+
+  /**
+   * Returns whether the text of {@code node}, ignoring trailing whitespace, ends with {@code
+   * suffix}. Only the last non-whitespace leaf is looked at.
+   */
+  public static boolean endsWith(@NotNull ASTNode node, @NotNull String suffix) {
+    ASTNode leaf = lastNonWhitespaceLeaf(node);
+    if (leaf == null) {
+      return suffix.isEmpty();
+    }
+    CharSequence chars = leaf.getChars();
+    int end = trimEnd(chars, 0, chars.length());
+    int start = end - suffix.length();
+    if (start < 0) {
+      return false;
+    }
+    for (int i = 0; i < suffix.length(); i++) {
+      if (chars.charAt(start + i) != suffix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable
+  private static ASTNode lastNonWhitespaceLeaf(@NotNull ASTNode node) {
+    if (isLeaf(node)) {
+      return node.getElementType() == TokenType.WHITE_SPACE || node.getTextLength() == 0
+          ? null
+          : node;
+    }
+    for (ASTNode child = node.getLastChildNode(); child != null; child = child.getTreePrev()) {
+      ASTNode leaf = lastNonWhitespaceLeaf(child);
+      if (leaf != null) {
+        return leaf;
+      }
+    }
+    return null;
+  }
+
+  /** Returns the text of {@code node} without leading and trailing whitespace. */
+  @NotNull
+  public static String trimmedText(@NotNull ASTNode node) {
+    return trimmedText(node, node);
+  }
+
+  /**
+   * Returns the text from {@code first} through its sibling {@code last} without leading and
+   * trailing whitespace. A range of one leaf, or of a node with a single leaf, is not copied
+   * before the result string is made.
+   */
+  @NotNull
+  public static String trimmedText(@NotNull ASTNode first, @NotNull ASTNode last) {
+    CharSequence chars;
+    if (first == last) {
+      ASTNode leaf = soleLeaf(first);
+      chars = leaf != null ? leaf.getChars() : appendLeaves(new StringBuilder(), first, true);
+    } else {
+      StringBuilder builder = new StringBuilder();
+      for (ASTNode node = first; node != null; node = node.getTreeNext()) {
+        appendLeaves(builder, node, true);
+        if (node == last) break;
+      }
+      chars = builder;
+    }
+    int start = trimStart(chars, 0, chars.length());
+    int end = trimEnd(chars, start, chars.length());
+    return chars.subSequence(start, end).toString();
+  }
+
+  /**
+   * Returns the text from {@code first} through its sibling {@code last} with whitespace leaves
+   * left out, e.g. {@code $x.name} for {@code $x . name}.
+   */
+  @NotNull
+  public static String tokenText(@NotNull ASTNode first, @NotNull ASTNode last) {
+    if (first == last && isLeaf(first)) {
+      return first.getChars().toString();
+    }
+    StringBuilder builder = new StringBuilder();
+    for (ASTNode node = first; node != null; node = node.getTreeNext()) {
+      appendLeaves(builder, node, false);
+      if (node == last) break;
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Returns a 64-bit FNV-1a hash of the text of {@code node}, read leaf by leaf without copying
+   * it. The hash depends on the text only, not on how it is split into leaves, so it is the same
+   * before and after a lazy body is parsed.
+   */
+  public static long hash(@NotNull ASTNode node) {
+    return hashLeaves(node, FNV_OFFSET_BASIS);
+  }
+
+  private static long hashLeaves(@NotNull ASTNode node, long hash) {
+    if (isLeaf(node)) {
+      CharSequence chars = node.getChars();
+      for (int i = 0; i < chars.length(); i++) {
+        hash = (hash ^ chars.charAt(i)) * FNV_PRIME;
+      }
+      return hash;
+    }
+    for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+      hash = hashLeaves(child, hash);
+    }
+    return hash;
+  }
+
+  /**
+   * Calls {@code action} with each leaf of {@code node} in text order. A lazy body that nothing has
+   * parsed yet is passed as one leaf, without parsing it.
+   */
+  public static void forEachLeaf(@NotNull ASTNode node, @NotNull Consumer<ASTNode> action) {
+    if (isLeaf(node)) {
+      action.accept(node);
+      return;
+    }
+    for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+      forEachLeaf(child, action);
+    }
+  }
+
+  @NotNull
+  private static StringBuilder appendLeaves(
+      @NotNull StringBuilder builder, @NotNull ASTNode node, boolean whitespace) {
+    if (isLeaf(node)) {
+      if (whitespace || node.getElementType() != TokenType.WHITE_SPACE) {
+        builder.append(node.getChars());
+      }
+      return builder;
+    }
+    for (ASTNode child = node.getFirstChildNode(); child != null; child = child.getTreeNext()) {
+      appendLeaves(builder, child, whitespace);
+    }
+    return builder;
+  }
+
+  /** Returns the only leaf below {@code node}, or null if it has several. */
+  @Nullable
+  private static ASTNode soleLeaf(@NotNull ASTNode node) {
+    while (!isLeaf(node)) {
+      ASTNode child = node.getFirstChildNode();
+      if (child == null || child != node.getLastChildNode()) {
+        return null;
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  /**
+   * Returns whether {@code node} is read as a whole: a real leaf, or a lazy body that is not parsed
+   * and must not be parsed just to read its text.
+   */
+  private static boolean isLeaf(@NotNull ASTNode node) {
+    if (node.getElementType() instanceof DroolsLazyElementType) {
+      return node instanceof LazyParseableElement lazy && !lazy.isParsed();
+    }
+    return node.getFirstChildNode() == null;
+  }
+
+  private static int trimStart(@NotNull CharSequence chars, int start, int end) {
+    while (start < end && chars.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimEnd(@NotNull CharSequence chars, int start, int end) {
+    while (end > start && chars.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+}
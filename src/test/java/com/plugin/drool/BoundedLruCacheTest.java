@@ -0,0 +1,74 @@
+package com.plugin.drool;
+
+import com.plugin.drool.util.BoundedLruCache;
+import com.plugin.drool.util.CacheStats;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoundedLruCache}: weight bound, LRU order and eviction counting.
+ */
+class BoundedLruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesWhenOverWeight() {
+        CacheStats stats = new CacheStats();
+        // 16 segments of weight 1 each: a second key in the same segment evicts the first
+        BoundedLruCache<Integer, String> cache = new BoundedLruCache<>(16, (k, v) -> 1, stats);
+
+        cache.put(0, "a");
+        cache.put(16, "b");
+
+        assertNull(cache.get(0));
+        assertEquals("b", cache.get(16));
+        assertEquals(1, stats.snapshot().evictionCount());
+    }
+
+    @Test
+    void accessRefreshesRecency() {
+        CacheStats stats = new CacheStats();
+        // 16 segments of weight 2 each
+        BoundedLruCache<Integer, String> cache = new BoundedLruCache<>(32, (k, v) -> 1, stats);
+
+        cache.put(0, "a");
+        cache.put(16, "b");
+        assertEquals("a", cache.get(0));
+        cache.put(32, "c");
+
+        assertEquals("a", cache.get(0));
+        assertNull(cache.get(16));
+        assertEquals("c", cache.get(32));
+    }
+
+    @Test
+    void weightIsTrackedAcrossReplaceAndRemove() {
+        BoundedLruCache<String, String> cache =
+                new BoundedLruCache<>(1_000, (k, v) -> v.length(), new CacheStats());
+
+        cache.put("key", "abc");
+        cache.put("key", "abcdef");
+        assertEquals(6, cache.weight());
+        assertEquals(1, cache.size());
+
+        assertFalse(cache.remove("key", "abc"));
+        assertTrue(cache.remove("key", "abcdef"));
+        assertEquals(0, cache.weight());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void snapshotReportsHitRateAndLoadPenalty() {
+        CacheStats stats = new CacheStats();
+        stats.recordHit();
+        stats.recordHit();
+        stats.recordHit();
+        stats.recordMiss();
+        stats.recordLoad(100);
+        stats.recordLoad(300);
+
+        CacheStats.Snapshot snapshot = stats.snapshot();
+        assertEquals(0.75, snapshot.hitRate(), 1e-9);
+        assertEquals(200.0, snapshot.averageLoadPenaltyNanos(), 1e-9);
+    }
+}
@@ -0,0 +1,167 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.testFramework.fixtures.impl.CodeInsightTestFixtureImpl;
+import com.intellij.util.ArrayUtilRt;
+import com.plugin.drool.psi.DroolsConstraintExpr;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsThenClause;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.mixin.DroolsConstraintExprMixin;
+import com.plugin.drool.util.DotAccessExpressionResolver;
+import com.plugin.drool.util.DroolsChars;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Allocation profile of the text access behind the annotator's checks. Token-only checks must not
+ * allocate at all, and a highlighting pass, measured on the thread that runs it, must stay within
+ * a per-rule budget so a regression to per-element {@code getText()} copies shows up.
+ */
+public class DroolsAllocationTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final int ITERATIONS = 10_000;
+
+    /** Rules in the file of the highlighting pass test. */
+    private static final int RULES = 1000;
+
+    /** Upper bound on what one highlighting pass may allocate per rule of that file. */
+    private static final long MAX_HIGHLIGHTING_BYTES_PER_RULE = 64 * 1024;
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "\n" +
+            "rule \"Allocation\"\n" +
+            "when\n" +
+            "    $c : Customer(name matches \"a(b\", status == \"}\")\n" +
+            "then\n" +
+            "    // a stray } in a comment\n" +
+            "    if ($c != null) { System.out.println($c.name.trim()); }\n" +
+            "end\n";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public void testTokenChecksDoNotAllocate() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("allocation.drl", DRL);
+        DroolsRuleBlock rule = file.getRules().get(0);
+        ASTNode ruleNode = rule.getNode();
+        ASTNode thenNode = rule.getThenClause().getNode();
+        ASTNode constraintNode = PsiTreeUtil.findChildOfType(rule, DroolsConstraintExpr.class)
+                .getNode();
+
+        assertTrue(DroolsChars.endsWith(ruleNode, "end"));
+        assertTrue(DroolsChars.isBalanced(constraintNode, DroolsTypes.LEFT_PAREN, DroolsTypes.RIGHT_PAREN));
+        assertTrue(DroolsChars.isBalanced(thenNode, DroolsTypes.LEFT_BRACE, DroolsTypes.RIGHT_BRACE));
+
+        long bytes = allocatedBytes(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                DroolsChars.endsWith(ruleNode, "end");
+                DroolsChars.isBalanced(constraintNode, DroolsTypes.LEFT_PAREN, DroolsTypes.RIGHT_PAREN);
+                DroolsChars.isBalanced(thenNode, DroolsTypes.LEFT_BRACE, DroolsTypes.RIGHT_BRACE);
+            }
+        });
+        // Allow for the measurement itself, not for anything per iteration
+        assertTrue("Token checks allocated " + bytes + " bytes", bytes < 4 * 1024);
+    }
+
+    public void testBalanceChecksLeaveThenClauseUnparsed() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("allocation.drl", DRL);
+        DroolsThenClause thenClause = file.getRules().get(0).getThenClause();
+        assertTrue(DroolsChars.isBalanced(
+                thenClause.getNode(), DroolsTypes.LEFT_BRACE, DroolsTypes.RIGHT_BRACE));
+        LazyParseableElement thenContent = (LazyParseableElement) thenClause.getNode()
+                .findChildByType(DroolsTypes.THEN_CONTENT);
+        assertFalse(thenContent.isParsed());
+    }
+
+    public void testStringResultsAreBuiltOnce() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("allocation.drl", DRL);
+        DroolsRuleBlock rule = file.getRules().get(0);
+        List<DroolsConstraintExpr> constraints =
+                new ArrayList<>(PsiTreeUtil.findChildrenOfType(rule, DroolsConstraintExpr.class));
+        DroolsConstraintExprMixin constraint = (DroolsConstraintExprMixin) constraints.get(1);
+        assertEquals("\"}\"", constraint.getValueExpr());
+
+        PsiElement dot = findLastDot(rule.getThenClause());
+        assertEquals("$c.name", DotAccessExpressionResolver.reconstructExpressionBeforeDot(dot));
+
+        long valueBytes = allocatedBytes(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                constraint.getValueExpr();
+            }
+        });
+        long dotBytes = allocatedBytes(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                DotAccessExpressionResolver.reconstructExpressionBeforeDot(dot);
+            }
+        });
+        // One builder and one result string per call, not a copy per leaf
+        assertTrue("getValueExpr allocated " + valueBytes / ITERATIONS + " bytes per call",
+                valueBytes / ITERATIONS < 256);
+        assertTrue("reconstructExpressionBeforeDot allocated " + dotBytes / ITERATIONS + " bytes per call",
+                dotBytes / ITERATIONS < 256);
+    }
+
+    /**
+     * Bounds the bytes one highlighting pass over a 1,000-rule file allocates per rule. The passes
+     * run on the test thread ({@code instantiateAndRun}), and only that thread is measured; a
+     * per-element {@code getText()} copy of each rule would exceed the budget. Runs only with
+     * benchmarks enabled ({@link DroolsBenchmarks}).
+     */
+    public void testHighlightingPassAllocation() {
+        if (!DroolsBenchmarks.isEnabled()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(
+                "package com.test.rules;\nimport com.test.model.Customer;\n\n");
+        for (int i = 0; i < RULES; i++) {
+            text.append("rule \"Rule ").append(i).append("\"\n")
+                    .append("    salience ").append(i).append("\n")
+                    .append("when\n")
+                    .append("    $c : Customer(age > ").append(i).append(", (age + 1) < 200)\n")
+                    .append("then\n")
+                    .append("    if ($c != null) { System.out.println($c); }\n")
+                    .append("end\n\n");
+        }
+        myFixture.configureByText("large.drl", text.toString());
+        myFixture.doHighlighting();
+
+        myFixture.type(' ');
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        long bytes = allocatedBytesOnce(() -> CodeInsightTestFixtureImpl.instantiateAndRun(
+                myFixture.getFile(), myFixture.getEditor(), ArrayUtilRt.EMPTY_INT_ARRAY, false));
+        long bytesPerRule = bytes / RULES;
+        assertTrue("Highlighting allocated " + bytesPerRule + " bytes per rule",
+                bytesPerRule > 0 && bytesPerRule < MAX_HIGHLIGHTING_BYTES_PER_RULE);
+    }
+
+    private static PsiElement findLastDot(PsiElement root) {
+        PsiElement last = null;
+        for (PsiElement leaf : PsiTreeUtil.collectElements(root,
+                element -> element.getNode().getElementType() == DroolsTypes.DOT)) {
+            last = leaf;
+        }
+        return last;
+    }
+
+    private static long allocatedBytes(Runnable action) {
+        action.run();
+        return allocatedBytesOnce(action);
+    }
+
+    /** Returns the bytes the calling thread allocates in one run of {@code action}. */
+    private static long allocatedBytesOnce(Runnable action) {
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        action.run();
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+}
@@ -0,0 +1,16 @@
+package com.plugin.drool;
+
+/**
+ * Switch for the benchmark tests, which build files of thousands of rules. They are skipped by a
+ * plain {@code ./gradlew test} and run with {@code ./gradlew test -Pperformance}.
+ */
+final class DroolsBenchmarks {
+
+    private DroolsBenchmarks() {
+    }
+
+    /** Returns whether benchmark tests should run in this test JVM. */
+    static boolean isEnabled() {
+        return Boolean.getBoolean("drools.performance");
+    }
+}
@@ -0,0 +1,114 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.index.DroolsDeclaredTypeIndex;
+import com.plugin.drool.inspections.DroolsUnresolvedClassInspection;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsDeclaredTypeIndex} and the light classes synthesized for {@code declare}
+ * blocks.
+ */
+public class DroolsDeclaredClassTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String TYPES =
+            "package com.test.rules;\n" +
+            "\n" +
+            "declare BaseDiscount\n" +
+            "    code : String\n" +
+            "end\n" +
+            "\n" +
+            "declare Discount extends BaseDiscount\n" +
+            "    rate : double\n" +
+            "    active : boolean\n" +
+            "    base : BaseDiscount\n" +
+            "end\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new DroolsUnresolvedClassInspection());
+    }
+
+    public void testDeclaredTypeResolvesToLightClass() {
+        PsiFile file = myFixture.addFileToProject("types.drl", TYPES);
+
+        PsiClass discount = DroolsImportTable.forFile(file).resolveClass("Discount", file);
+        assertNotNull(discount);
+        assertEquals("com.test.rules.Discount", discount.getQualifiedName());
+        assertEquals(1, discount.findMethodsByName("getRate", false).length);
+        assertEquals(1, discount.findMethodsByName("isActive", false).length);
+        assertEquals(1, discount.findMethodsByName("setRate", false).length);
+        assertNotNull(discount.findFieldByName("rate", false));
+
+        PsiClass base = discount.getSuperClass();
+        assertNotNull(base);
+        assertEquals("com.test.rules.BaseDiscount", base.getQualifiedName());
+        assertEquals(1, discount.findMethodsByName("getCode", true).length);
+
+        assertSame(discount, DroolsImportTable.forFile(file).resolveClass("Discount", file));
+    }
+
+    public void testDeclaredTypeOfSamePackageResolvesInOtherFile() {
+        myFixture.addFileToProject("types.drl", TYPES);
+        myFixture.configureByText("rules.drl",
+                "package com.test.rules;\n" +
+                "\n" +
+                "rule \"Uses declared type\"\n" +
+                "when\n" +
+                "    $d : Discount(rate > 0.1)\n" +
+                "then\n" +
+                "end\n");
+
+        assertNull(findError(myFixture.doHighlighting(), "Cannot resolve class 'Discount'"));
+        PsiFile file = myFixture.getFile();
+        PsiClass discount = DroolsImportTable.forFile(file).resolveClass("Discount", file);
+        assertNotNull(discount);
+        PsiClass base = DroolsMemberTable.forClass(discount).getMemberType("base");
+        assertNotNull(base);
+        assertEquals("com.test.rules.BaseDiscount", base.getQualifiedName());
+    }
+
+    public void testDeclaredTypeOfOtherPackageNeedsImport() {
+        myFixture.addFileToProject("types.drl", TYPES);
+        myFixture.configureByText("rules.drl",
+                "package com.test.other;\n" +
+                "\n" +
+                "rule \"Uses declared type\"\n" +
+                "when\n" +
+                "    $d : Discount()\n" +
+                "then\n" +
+                "end\n");
+
+        assertNotNull(findError(myFixture.doHighlighting(), "Cannot resolve class 'Discount'"));
+    }
+
+    public void testEditingDeclareRebuildsClass() {
+        PsiFile file = myFixture.configureByText("types.drl", TYPES);
+        PsiClass before = DroolsImportTable.forFile(file).resolveClass("Discount", file);
+        assertNotNull(before);
+
+        myFixture.getEditor().getCaretModel().moveToOffset(TYPES.indexOf("    active"));
+        myFixture.type("    limit : int\n");
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        PsiClass after = DroolsImportTable.forFile(file).resolveClass("Discount", file);
+        assertNotNull(after);
+        assertNotSame(before, after);
+        assertEquals(1, after.findMethodsByName("getLimit", false).length);
+    }
+
+    private static HighlightInfo findError(List<HighlightInfo> highlights, String message) {
+        return highlights.stream()
+                .filter(info -> info.getSeverity() == HighlightSeverity.ERROR
+                        && message.equals(info.getDescription()))
+                .findFirst()
+                .orElse(null);
+    }
+}
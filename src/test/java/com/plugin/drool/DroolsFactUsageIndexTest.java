@@ -0,0 +1,110 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.GutterMark;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.index.DroolsFactUsageIndex;
+import com.plugin.drool.psi.DroolsRuleBlock;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsFactUsageIndex} and the "Rules matching this fact" gutter icon built on it.
+ */
+public class DroolsFactUsageIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.fixture.Customer;\n" +
+            "import com.test.model.*;\n" +
+            "\n" +
+            "rule \"Explicit\"\n" +
+            "when\n" +
+            "    $c : Customer()\n" +
+            "then\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Wildcard\"\n" +
+            "when\n" +
+            "    $o : Order()\n" +
+            "then\n" +
+            "end\n";
+
+    public void testPatternsAreIndexedByQualifiedName() {
+        myFixture.addFileToProject("facts.drl", DRL);
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+        List<DroolsFactUsageIndex.RuleUsage> customers =
+                DroolsFactUsageIndex.findUsages(getProject(), "com.test.fixture.Customer", scope);
+        assertEquals(1, customers.size());
+        assertEquals("Explicit", customers.get(0).ruleName());
+        assertEquals(DRL.indexOf("Customer()"), customers.get(0).patternOffset());
+
+        assertTrue(DroolsFactUsageIndex.hasUsages("com.test.model.Order", scope));
+        assertFalse(DroolsFactUsageIndex.hasUsages("com.test.model.Customer", scope));
+        assertFalse(DroolsFactUsageIndex.hasUsages("com.test.fixture.Order", scope));
+    }
+
+    public void testDeclaredTypesAndNestedPatternsAreIndexed() {
+        String drl = "package com.test.rules;\n" +
+                "import com.test.fixture.Customer;\n" +
+                "declare Local\n" +
+                "end\n" +
+                "rule \"Nested\"\n" +
+                "when\n" +
+                "    Local()\n" +
+                "    not ( Customer() )\n" +
+                "then\n" +
+                "    Customer c = new Customer();\n" +
+                "end\n";
+        myFixture.addFileToProject("nested.drl", drl);
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+
+        assertTrue(DroolsFactUsageIndex.hasUsages("com.test.rules.Local", scope));
+        assertFalse(DroolsFactUsageIndex.hasUsages("Local", scope));
+        List<DroolsFactUsageIndex.RuleUsage> customers =
+                DroolsFactUsageIndex.findUsages(getProject(), "com.test.fixture.Customer", scope);
+        assertEquals(1, customers.size());
+        assertEquals(drl.indexOf("Customer()"), customers.get(0).patternOffset());
+    }
+
+    public void testMatchingRulesComeFromAllFiles() {
+        myFixture.addFileToProject("facts.drl", DRL);
+        myFixture.addFileToProject("more.drl",
+                "package com.test.other;\n" +
+                "import com.test.fixture.Customer;\n" +
+                "rule \"Other\"\n" +
+                "when\n" +
+                "    Customer()\n" +
+                "    Customer()\n" +
+                "then\n" +
+                "end\n");
+
+        List<String> names = DroolsFactLineMarkerProvider.findMatchingRules(getProject(),
+                        "com.test.fixture.Customer", GlobalSearchScope.projectScope(getProject()))
+                .stream()
+                .map(DroolsRuleBlock::getNameString)
+                .sorted()
+                .toList();
+        assertEquals(List.of("Explicit", "Other"), names);
+    }
+
+    public void testGutterIconOnMatchedClass() {
+        myFixture.addFileToProject("facts.drl", DRL);
+        myFixture.configureByText("Customer.java",
+                "package com.test.fixture;\npublic class Cust<caret>omer {}\n");
+
+        List<GutterMark> gutters = myFixture.findGuttersAtCaret();
+        assertTrue(gutters.stream().anyMatch(mark -> mark.getTooltipText() != null
+                && mark.getTooltipText().contains("rules matching Customer")));
+    }
+
+    public void testNoGutterIconOnUnmatchedClass() {
+        myFixture.addFileToProject("facts.drl", DRL);
+        myFixture.configureByText("Unused.java",
+                "package com.test.fixture;\npublic class Un<caret>used {}\n");
+
+        assertTrue(myFixture.findGuttersAtCaret().stream().noneMatch(mark -> mark.getTooltipText() != null
+                && mark.getTooltipText().contains("rules matching")));
+    }
+}
@@ -0,0 +1,144 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
+import com.plugin.drool.inspections.DroolsUnusedBindingInspection;
+import com.plugin.drool.inspections.DroolsUnusedImportInspection;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsFileAnalysis}: the single-pass file model behind the annotator's
+ * duplicate-rule, unused-import and string checks.
+ */
+public class DroolsFileAnalysisTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.model.Customer;\n" +
+            "import com.test.model.Status;\n" +
+            "import com.test.model.Order;\n" +
+            "\n" +
+            "rule \"Same\"\n" +
+            "when\n" +
+            "    $c : Customer(status == Status.ACTIVE)\n" +
+            "    $unused : Customer()\n" +
+            "then\n" +
+            "    // $unused is only mentioned in a comment\n" +
+            "    System.out.println(\"$unused Order\" + $c);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Same\"\n" +
+            "when\n" +
+            "then\n" +
+            "    String s = \"open;\n" +
+            "end\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(
+                new DroolsDuplicateRuleInspection(),
+                new DroolsUnusedBindingInspection(),
+                new DroolsUnusedImportInspection());
+    }
+
+    public void testModelCollectsFileFacts() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("analysis.drl", DRL);
+        DroolsFileAnalysis analysis = DroolsFileAnalysis.forFile(file);
+        List<DroolsRuleBlock> rules = file.getRules();
+
+        assertFalse(analysis.isDuplicateInFile(rules.get(0)));
+        assertTrue(analysis.isDuplicateInFile(rules.get(1)));
+
+        assertTrue(analysis.isIdentifierUsed("Customer"));
+        // Used in a constraint only, which the old text scan did not look at
+        assertTrue(analysis.isIdentifierUsed("Status"));
+        // Mentioned in a string literal only
+        assertFalse(analysis.isIdentifierUsed("Order"));
+        // Package and import paths do not count as uses
+        assertFalse(analysis.isIdentifierUsed("model"));
+
+        List<TextRange> strings = analysis.getUnterminatedStrings();
+        assertEquals(1, strings.size());
+        assertEquals("\"open;", strings.get(0).substring(file.getText()));
+    }
+
+    public void testModelIsCachedUntilTheFileChanges() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("analysis.drl", DRL);
+        DroolsFileAnalysis analysis = DroolsFileAnalysis.forFile(file);
+        assertSame(analysis, DroolsFileAnalysis.forFile(file));
+
+        Document document = myFixture.getEditor().getDocument();
+        WriteCommandAction.runWriteCommandAction(getProject(),
+                () -> document.insertString(document.getTextLength(), "\n// changed\n"));
+        PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        assertNotSame(analysis, DroolsFileAnalysis.forFile(file));
+    }
+
+    public void testModelDoesNotParseThenClauses() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("analysis.drl", DRL);
+        DroolsFileAnalysis.forFile(file);
+        LazyParseableElement thenContent = (LazyParseableElement) file.getRules().get(0)
+                .getThenClause().getNode().findChildByType(DroolsTypes.THEN_CONTENT);
+        assertFalse(thenContent.isParsed());
+    }
+
+    public void testAnnotatorReportsFromModel() {
+        myFixture.configureByText("analysis.drl", DRL);
+        List<HighlightInfo> highlights = myFixture.doHighlighting();
+
+        assertTrue(hasHighlight(highlights, HighlightSeverity.WARNING, "Duplicate rule name 'Same'"));
+        assertTrue(hasHighlight(highlights, HighlightSeverity.WEAK_WARNING,
+                "Unused import 'com.test.model.Order'"));
+        assertFalse(hasHighlight(highlights, HighlightSeverity.WEAK_WARNING,
+                "Unused import 'com.test.model.Status'"));
+        assertTrue(hasHighlight(highlights, HighlightSeverity.WARNING,
+                "Binding variable '$unused' is never used"));
+        assertFalse(hasHighlight(highlights, HighlightSeverity.WARNING,
+                "Binding variable '$c' is never used"));
+        assertTrue(hasHighlight(highlights, HighlightSeverity.ERROR, "Unterminated string literal"));
+    }
+
+    /**
+     * Highlights a file of 5,000 rules, so a regression to per-element rescans shows up. Runs only
+     * with benchmarks enabled ({@link DroolsBenchmarks}).
+     */
+    public void testLargeFileHighlighting() {
+        if (!DroolsBenchmarks.isEnabled()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(
+                "package com.test.rules;\nimport com.test.model.Customer;\n\n");
+        for (int i = 0; i < 5000; i++) {
+            text.append("rule \"Rule ").append(i).append("\"\n")
+                    .append("when\n")
+                    .append("    $c : Customer(age > ").append(i).append(")\n")
+                    .append("then\n")
+                    .append("    System.out.println($c);\n")
+                    .append("end\n\n");
+        }
+        myFixture.configureByText("large.drl", text.toString());
+
+        List<HighlightInfo> highlights = myFixture.doHighlighting();
+
+        assertFalse(hasHighlight(highlights, HighlightSeverity.WARNING, "Duplicate rule name"));
+        assertFalse(hasHighlight(highlights, HighlightSeverity.WARNING, "is never used"));
+    }
+
+    private static boolean hasHighlight(
+            List<HighlightInfo> highlights, HighlightSeverity severity, String text) {
+        return highlights.stream().anyMatch(info -> info.getSeverity() == severity
+                && info.getDescription() != null
+                && info.getDescription().contains(text));
+    }
+}
@@ -0,0 +1,73 @@
+package com.plugin.drool;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.searches.MethodReferencesSearch;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import java.util.Collection;
+
+/**
+ * Tests that Java Find Usages and rename see getter usages in rule files, through the Drools word
+ * index and {@link DroolsMethodReferencesSearcher}.
+ */
+public class DroolsFindUsagesTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.fixture.Customer;\n" +
+            "\n" +
+            "rule \"Usages\"\n" +
+            "when\n" +
+            "    $c : Customer(address != null)\n" +
+            "then\n" +
+            "    System.out.println($c.getAddress());\n" +
+            "end\n";
+
+    private PsiMethod getter;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        PsiClass customer = myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class Customer {\n" +
+                "    public String getAddress() { return null; }\n" +
+                "    public String getName() { return null; }\n" +
+                "}\n"
+        );
+        getter = customer.findMethodsByName("getAddress", false)[0];
+    }
+
+    public void testGetterUsagesIncludePropertyAndCallInRules() {
+        myFixture.addFileToProject("usages.drl", DRL);
+
+        Collection<PsiReference> references = MethodReferencesSearch.search(
+                getter, GlobalSearchScope.projectScope(getProject()), true).findAll();
+
+        assertEquals(2, references.size());
+        for (PsiReference reference : references) {
+            assertEquals("usages.drl", reference.getElement().getContainingFile().getName());
+        }
+    }
+
+    public void testUnrelatedGetterHasNoRuleUsages() {
+        myFixture.addFileToProject("usages.drl", DRL);
+        PsiMethod other = getter.getContainingClass().findMethodsByName("getName", false)[0];
+
+        assertEmpty(MethodReferencesSearch.search(
+                other, GlobalSearchScope.projectScope(getProject()), true).findAll());
+    }
+
+    public void testRenameGetterUpdatesRules() {
+        myFixture.configureByText("usages.drl", DRL);
+
+        myFixture.renameElement(getter, "getLocation");
+
+        String text = myFixture.getEditor().getDocument().getText();
+        assertTrue(text.contains("Customer(location != null)"));
+        assertTrue(text.contains("$c.getLocation()"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.plugin.drool;
+
+import com.intellij.navigation.NavigationItem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.intellij.util.indexing.FindSymbolParameters;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsQueryDef;
+import com.plugin.drool.psi.DroolsRuleBlock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsGotoSymbolContributor}: rules, queries, functions and declared types are
+ * found by name from the index, without loading the files that declare them.
+ */
+public class DroolsGotoSymbolContributorTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "\n" +
+            "declare CustomerDiscount\n" +
+            "    rate : double\n" +
+            "end\n" +
+            "\n" +
+            "function String describeCustomer(String name) {\n" +
+            "    return name;\n" +
+            "}\n" +
+            "\n" +
+            "query \"Find customers\"\n" +
+            "    $c : CustomerDiscount()\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Apply discount\"\n" +
+            "when\n" +
+            "    $d : CustomerDiscount()\n" +
+            "then\n" +
+            "end\n";
+
+    private final DroolsGotoSymbolContributor contributor = new DroolsGotoSymbolContributor();
+
+    private DroolsPsiFile file;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        VirtualFile vFile = myFixture.getTempDirFixture().createFile("symbols.drl", DRL);
+        file = (DroolsPsiFile) PsiManager.getInstance(getProject()).findFile(vFile);
+    }
+
+    public void testNamesOfAllSymbolKinds() {
+        List<String> names = new ArrayList<>();
+        contributor.processNames(names::add, GlobalSearchScope.allScope(getProject()), null);
+
+        assertTrue(names.contains("CustomerDiscount"));
+        assertTrue(names.contains("describeCustomer"));
+        assertTrue(names.contains("Find customers"));
+        assertTrue(names.contains("Apply discount"));
+        assertFalse(file.isContentsLoaded());
+    }
+
+    public void testElementsArePresentedFromStubs() {
+        assertInstanceOf(findSingle("CustomerDiscount"), DroolsDeclareBlock.class);
+        assertInstanceOf(findSingle("describeCustomer"), DroolsFunctionDef.class);
+        assertInstanceOf(findSingle("Find customers"), DroolsQueryDef.class);
+
+        NavigationItem rule = findSingle("Apply discount");
+        assertInstanceOf(rule, DroolsRuleBlock.class);
+        assertEquals("Apply discount", rule.getPresentation().getPresentableText());
+        assertEquals("symbols.drl", rule.getPresentation().getLocationString());
+        assertFalse(file.isContentsLoaded());
+    }
+
+    public void testUnknownNameFindsNothing() {
+        List<NavigationItem> items = new ArrayList<>();
+        contributor.processElementsWithName("Missing", items::add,
+                FindSymbolParameters.wrap("Missing", getProject(), true));
+        assertEmpty(items);
+    }
+
+    private NavigationItem findSingle(String name) {
+        List<NavigationItem> items = new ArrayList<>();
+        contributor.processElementsWithName(name, items::add,
+                FindSymbolParameters.wrap(name, getProject(), true));
+        assertEquals(1, items.size());
+        return items.get(0);
+    }
+}
@@ -0,0 +1,126 @@
+package com.plugin.drool;
+
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.inspections.DroolsDuplicateImportInspection;
+import com.plugin.drool.psi.DroolsImportStatement;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsImportTable}, the per-file name table shared by the annotator, completion
+ * and reference resolution.
+ */
+public class DroolsImportTableTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new DroolsDuplicateImportInspection());
+        myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class TestFactType {\n" +
+                "    public String getName() { return null; }\n" +
+                "}\n"
+        );
+    }
+
+    public void testResolvesExplicitWildcardAndJavaLangNames() {
+        PsiFile file = myFixture.configureByText("table.drl",
+                "package com.test.rules;\n" +
+                "import com.test.fixture.*;\n" +
+                "import java.util.List;\n" +
+                "\n" +
+                "declare Order\n" +
+                "    id : String\n" +
+                "end\n");
+
+        DroolsImportTable table = DroolsImportTable.forFile(file);
+        assertEquals("com.test.rules", table.getPackageName());
+        assertEquals("java.util.List", table.getImportedFqn("List"));
+        assertEquals(List.of("com.test.fixture"), table.getWildcardPackages());
+        assertEquals("com.test.rules.Order", table.getDeclaredTypeFqn("Order"));
+
+        PsiClass fromWildcard = table.resolveClass("TestFactType", file);
+        assertNotNull(fromWildcard);
+        assertEquals("com.test.fixture.TestFactType", fromWildcard.getQualifiedName());
+
+        PsiClass fromJavaLang = table.resolveClass("String", file);
+        assertNotNull(fromJavaLang);
+        assertEquals("java.lang.String", fromJavaLang.getQualifiedName());
+
+        assertNull(table.resolveClass("Missing", file));
+    }
+
+    /** The table is cached on the file and rebuilt once the file changes. */
+    public void testTableIsCachedUntilFileChanges() {
+        PsiFile file = myFixture.configureByText("cached.drl",
+                "package com.test.rules;\n" +
+                "import java.util.List;\n");
+
+        DroolsImportTable table = DroolsImportTable.forFile(file);
+        assertSame(table, DroolsImportTable.forFile(file));
+
+        Document document = myFixture.getEditor().getDocument();
+        WriteCommandAction.runWriteCommandAction(getProject(), () ->
+                document.insertString(document.getTextLength(), "import java.util.Map;\n"));
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+
+        DroolsImportTable rebuilt = DroolsImportTable.forFile(file);
+        assertNotSame(table, rebuilt);
+        assertTrue(rebuilt.isImported("java.util.Map"));
+    }
+
+    /**
+     * resolveClass tries exactly the candidates the fact usage index is keyed on: an explicit
+     * import is final even when it does not resolve, and qualified names get no package prefixes.
+     */
+    public void testResolutionFollowsCandidateFqns() {
+        PsiFile file = myFixture.configureByText("candidates.drl",
+                "package com.test.fixture;\n" +
+                "import com.test.other.TestFactType;\n" +
+                "import java.util.*;\n");
+
+        DroolsImportTable table = DroolsImportTable.forFile(file);
+        assertEquals(List.of("com.test.other.TestFactType"), table.getCandidateFqns("TestFactType"));
+        // The file's package has a TestFactType, but the broken import shadows it
+        assertNull(table.resolveClass("TestFactType", file));
+
+        assertEquals(List.of("java.util.Map.Entry"), table.getCandidateFqns("java.util.Map.Entry"));
+        assertEquals(List.of("Entry", "com.test.fixture.Entry", "java.util.Entry", "java.lang.Entry"),
+                table.getCandidateFqns("Entry"));
+        PsiClass list = table.resolveClass("List", file);
+        assertNotNull(list);
+        assertEquals("java.util.List", list.getQualifiedName());
+    }
+
+    /** Only the second and later occurrences of an import path count as duplicates. */
+    public void testDuplicateImportsAreReportedOnce() {
+        PsiFile file = myFixture.configureByText("duplicates.drl",
+                "package com.test.rules;\n" +
+                "import java.util.List;\n" +
+                "import java.util.List;\n");
+
+        List<DroolsImportStatement> imports = ((DroolsPsiFile) file).getImports();
+        DroolsImportTable table = DroolsImportTable.forFile(file);
+        assertFalse(table.isDuplicate(imports.get(0), "java.util.List"));
+        assertTrue(table.isDuplicate(imports.get(1), "java.util.List"));
+
+        long duplicateWarnings = myFixture.doHighlighting().stream()
+                .filter(info -> info.getSeverity() == HighlightSeverity.WARNING
+                        && info.getDescription() != null
+                        && info.getDescription().startsWith("Duplicate import"))
+                .count();
+        assertEquals(1, duplicateWarnings);
+    }
+}
@@ -0,0 +1,220 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.impl.DebugUtil;
+import com.intellij.psi.impl.source.CharTableImpl;
+import com.intellij.psi.impl.source.DummyHolderFactory;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.impl.source.tree.TreeElement;
+import com.intellij.psi.text.BlockSupport;
+import com.intellij.psi.tree.IElementType;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+import com.plugin.drool.psi.stubs.DroolsReparseableStubElementType;
+
+import java.util.List;
+
+/**
+ * Tests for the incremental reparse of top-level blocks: an edit inside a rule, function, declare
+ * or query reparses that block only, and gives the same tree as parsing the whole file again.
+ */
+public class DroolsIncrementalReparseTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "\n" +
+            "declare Discount\n" +
+            "    rate : double\n" +
+            "end\n" +
+            "\n" +
+            "function String label(String s) {\n" +
+            "    if (s != null) { return s; }\n" +
+            "    return \"\";\n" +
+            "}\n" +
+            "\n" +
+            "rule \"First\"\n" +
+            "when\n" +
+            "    $d : Discount()\n" +
+            "then\n" +
+            "    System.out.println($d);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Second\"\n" +
+            "when\n" +
+            "    Discount()\n" +
+            "then\n" +
+            "    System.out.println(\"second\");\n" +
+            "end\n" +
+            "\n" +
+            "query \"discounts\"\n" +
+            "    Discount()\n" +
+            "end\n";
+
+    public void testBlockParsesToSameTreeAsWholeFile() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("blocks.drl", DRL);
+        for (ASTNode block : file.getNode().getChildren(null)) {
+            if (!(block.getElementType() instanceof DroolsReparseableStubElementType<?, ?> type)) {
+                continue;
+            }
+            ASTNode reparsed = type.parse(block.getText(), new CharTableImpl());
+            // Lazy bodies inside the block take their project from an enclosing PSI element
+            DummyHolderFactory.createHolder(getPsiManager(), null, file)
+                    .getTreeElement().rawAddChildren((TreeElement) reparsed);
+            assertInstanceOf(reparsed, LazyParseableElement.class);
+            assertEquals(block.getElementType(), reparsed.getElementType());
+            assertEquals(DebugUtil.nodeTreeToString(block, true),
+                    DebugUtil.nodeTreeToString(reparsed, true));
+        }
+    }
+
+    public void testOnlyWholeBlocksAreReparseable() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("blocks.drl", DRL);
+        assertTrue(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount() then foo(); end"));
+        assertTrue(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount() then foo(); end // done"));
+        assertTrue(isReparseable(file, DroolsTypes.FUNCTION_DEF,
+                "function void f() { if (true) { g(); } }"));
+        assertTrue(isReparseable(file, DroolsTypes.DECLARE_BLOCK, "declare D\n x : int\nend"));
+        assertTrue(isReparseable(file, DroolsTypes.QUERY_DEF, "query \"q\" D() end"));
+
+        // Missing or early closing token
+        assertFalse(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount() then foo();"));
+        assertFalse(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount() then end foo(); end"));
+        assertFalse(isReparseable(file, DroolsTypes.FUNCTION_DEF,
+                "function void f() { g(); } }"));
+        // Unbalanced brackets
+        assertFalse(isReparseable(file, DroolsTypes.FUNCTION_DEF,
+                "function void f() { if (true) { g(); }"));
+        assertFalse(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount( then foo(); end"));
+        // Another top-level item, or a different block
+        assertFalse(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "rule \"R\" when Discount() then foo();\nrule \"S\" when then end"));
+        assertFalse(isReparseable(file, DroolsTypes.RULE_BLOCK,
+                "query \"q\" D() end"));
+    }
+
+    public void testEditInsideRuleKeepsOtherBlocks() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("blocks.drl", DRL);
+        List<DroolsRuleBlock> rules = file.getRules();
+        DroolsRuleBlock second = rules.get(1);
+        DroolsFunctionDef function = file.getFunctions().get(0);
+
+        int offset = DRL.indexOf("println($d)") + "println(".length();
+        Document document = myFixture.getEditor().getDocument();
+        WriteCommandAction.runWriteCommandAction(getProject(),
+                () -> document.insertString(offset, "\"d: \" + "));
+        PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+
+        assertTrue(second.isValid());
+        assertSame(second, file.getRules().get(1));
+        assertSame(function, file.getFunctions().get(0));
+        assertTrue(file.getRules().get(0).getText().contains("println(\"d: \" + $d)"));
+        PsiTestUtil.checkFileStructure(file);
+    }
+
+    public void testUnbalancedEditFallsBackToWholeFile() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("blocks.drl", DRL);
+        int offset = DRL.indexOf("System.out.println($d);");
+        Document document = myFixture.getEditor().getDocument();
+        WriteCommandAction.runWriteCommandAction(getProject(),
+                () -> document.insertString(offset, "end\nrule \"Inserted\"\nwhen\nthen\n"));
+        PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+
+        assertEquals(3, file.getRules().size());
+        PsiTestUtil.checkFileStructure(file);
+    }
+
+    /**
+     * Benchmark: per-keystroke reparse of a 20k-line file, typing inside the then block of a rule
+     * in the middle of the file. "Before" reparses the whole file, as happened when no block was
+     * reparseable; "after" lets the platform pick the enclosing rule. Runs only with benchmarks
+     * enabled ({@link DroolsBenchmarks}).
+     */
+    public void testKeystrokeReparseOnLargeFile() {
+        if (!DroolsBenchmarks.isEnabled()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder("package com.test.rules;\n\n");
+        int ruleCount = 2000;
+        for (int i = 0; i < ruleCount; i++) {
+            text.append("rule \"Rule ").append(i).append("\"\n")
+                    .append("    salience ").append(i).append('\n')
+                    .append("when\n")
+                    .append("    $c : Customer(age > ").append(i).append(")\n")
+                    .append("    not Discount(customer == $c)\n")
+                    .append("then\n")
+                    .append("    System.out.println($c);\n")
+                    .append("    insert(new Discount($c));\n")
+                    .append("end\n")
+                    .append('\n');
+        }
+        assertTrue(text.toString().split("\n").length >= 20_000);
+
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("large.drl", text.toString());
+        Document document = myFixture.getEditor().getDocument();
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+        int offset = text.indexOf("insert(new Discount($c));", text.length() / 2);
+        int keystrokes = 20;
+
+        // Warm up both paths so neither pays for class loading
+        typeIncrementally(document, documentManager, offset, 5);
+        typeWithFullReparse(file, offset, 5);
+
+        long before = typeWithFullReparse(file, offset, keystrokes);
+        long after = typeIncrementally(document, documentManager, offset, keystrokes);
+
+        assertEquals(ruleCount, file.getRules().size());
+        assertTrue("incremental reparse should be faster than a full one", after < before);
+    }
+
+    private static boolean isReparseable(DroolsPsiFile file, IElementType type, String text) {
+        return ((DroolsReparseableStubElementType<?, ?>) type)
+                .isReparseable(file.getNode(), text, DroolsLanguage.INSTANCE, file.getProject());
+    }
+
+    private long typeIncrementally(
+            Document document, PsiDocumentManager documentManager, int offset, int keystrokes) {
+        long total = 0;
+        for (int i = 0; i < keystrokes; i++) {
+            WriteCommandAction.runWriteCommandAction(getProject(),
+                    () -> document.insertString(offset, "x"));
+            long start = System.nanoTime();
+            documentManager.commitDocument(document);
+            total += System.nanoTime() - start;
+            WriteCommandAction.runWriteCommandAction(getProject(),
+                    () -> document.deleteString(offset, offset + 1));
+            documentManager.commitDocument(document);
+        }
+        return total;
+    }
+
+    private long typeWithFullReparse(DroolsPsiFile file, int offset, int keystrokes) {
+        BlockSupport blockSupport = BlockSupport.getInstance(getProject());
+        long total = 0;
+        for (int i = 0; i < keystrokes; i++) {
+            String original = file.getText();
+            String typed = original.substring(0, offset) + "x" + original.substring(offset);
+            long[] elapsed = {0};
+            WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+                long start = System.nanoTime();
+                // The changed range spans the file, so no block below the file is reparseable
+                blockSupport.reparseRange(file, 0, original.length(), typed);
+                elapsed[0] = System.nanoTime() - start;
+                blockSupport.reparseRange(file, 0, typed.length(), original);
+            });
+            total += elapsed[0];
+        }
+        PsiDocumentManager.getInstance(getProject()).commitAllDocuments();
+        return total;
+    }
+}
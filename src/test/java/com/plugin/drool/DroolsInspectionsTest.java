@@ -0,0 +1,105 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.inspections.DroolsDuplicateImportInspection;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
+import com.plugin.drool.inspections.DroolsUnresolvedClassInspection;
+import com.plugin.drool.inspections.DroolsUnusedBindingInspection;
+import com.plugin.drool.inspections.DroolsUnusedImportInspection;
+
+import java.util.List;
+
+/**
+ * Tests for the inspections in {@code com.plugin.drool.inspections}: each reports its own problems
+ * in batch mode, outside any editor, and only while it is enabled.
+ */
+public class DroolsInspectionsTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.fixture.Customer;\n" +
+            "import com.test.fixture.Customer;\n" +
+            "import com.test.fixture.Unused;\n" +
+            "import com.test.fixture.Missing;\n" +
+            "\n" +
+            "rule \"Same\"\n" +
+            "when\n" +
+            "    $c : Customer()\n" +
+            "    $unused : Customer()\n" +
+            "then\n" +
+            "    System.out.println($c);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Same\"\n" +
+            "when\n" +
+            "    Nowhere()\n" +
+            "then\n" +
+            "end\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("package com.test.fixture;\npublic class Customer {}\n");
+        myFixture.addClass("package com.test.fixture;\npublic class Unused {}\n");
+    }
+
+    public void testEachInspectionReportsInBatchMode() {
+        PsiFile file = myFixture.addFileToProject("batch.drl", DRL);
+
+        assertEquals(List.of("Cannot resolve class 'com.test.fixture.Missing'",
+                        "Cannot resolve class 'Nowhere'"),
+                runInBatch(new DroolsUnresolvedClassInspection(), file));
+        assertEquals(List.of("Duplicate import 'com.test.fixture.Customer'"),
+                runInBatch(new DroolsDuplicateImportInspection(), file));
+        assertEquals(List.of("Unused import 'com.test.fixture.Unused'",
+                        "Unused import 'com.test.fixture.Missing'"),
+                runInBatch(new DroolsUnusedImportInspection(), file));
+        assertEquals(List.of("Binding variable '$unused' is never used"),
+                runInBatch(new DroolsUnusedBindingInspection(), file));
+        assertEquals(List.of("Duplicate rule name 'Same'"),
+                runInBatch(new DroolsDuplicateRuleInspection(), file));
+    }
+
+    public void testOnlyEnabledInspectionsReport() {
+        myFixture.configureByText("toggle.drl", DRL);
+        assertFalse(hasHighlight(myFixture.doHighlighting(), "is never used"));
+
+        myFixture.enableInspections(new DroolsUnusedBindingInspection());
+        List<HighlightInfo> highlights = myFixture.doHighlighting();
+        assertTrue(hasHighlight(highlights, "Binding variable '$unused' is never used"));
+        assertFalse(hasHighlight(highlights, "Duplicate rule name"));
+        assertFalse(hasHighlight(highlights, "Unused import"));
+
+        myFixture.disableInspections(new DroolsUnusedBindingInspection());
+        assertFalse(hasHighlight(myFixture.doHighlighting(), "is never used"));
+    }
+
+    public void testQuickFixIsOfferedFromInspection() {
+        myFixture.enableInspections(new DroolsDuplicateImportInspection());
+        myFixture.configureByText("fix.drl",
+                DRL.replaceFirst("import com.test.fixture.Customer;\nimport",
+                        "import com.test.fixture.Customer;\nimport<caret>"));
+        IntentionAction fix = myFixture.findSingleIntention("Remove unused import");
+        myFixture.launchAction(fix);
+        String text = myFixture.getEditor().getDocument().getText();
+        assertEquals(text.indexOf("import com.test.fixture.Customer;"),
+                text.lastIndexOf("import com.test.fixture.Customer;"));
+    }
+
+    private List<String> runInBatch(LocalInspectionTool inspection, PsiFile file) {
+        List<ProblemDescriptor> problems =
+                inspection.processFile(file, InspectionManager.getInstance(getProject()));
+        return problems.stream().map(ProblemDescriptor::getDescriptionTemplate).toList();
+    }
+
+    private static boolean hasHighlight(List<HighlightInfo> highlights, String text) {
+        return highlights.stream().anyMatch(info -> info.getDescription() != null
+                && info.getDescription().contains(text));
+    }
+}
@@ -0,0 +1,148 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.index.DroolsKModuleIndex;
+import com.plugin.drool.index.DroolsKModuleIndex.KieBase;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for {@link DroolsKModuleIndex} and {@link DroolsKieBaseModel}: rule files are scoped to the
+ * KieBases kmodule.xml puts them in.
+ */
+public class DroolsKieBaseModelTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String KMODULE =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<kmodule xmlns=\"http://www.drools.org/xsd/kmodule\">\n" +
+            "    <kbase name=\"pricing\" packages=\"rules.pricing\" equalsBehavior=\"equality\"/>\n" +
+            "    <kbase name=\"validation\" packages=\"rules.validation.*\"\n" +
+            "           eventProcessingMode=\"stream\" default=\"true\"/>\n" +
+            "    <kbase name=\"all\" includes=\"pricing, validation\" packages=\"rules.common\"/>\n" +
+            "</kmodule>\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new DroolsDuplicateRuleInspection());
+    }
+
+    public void testKModuleIsParsed() {
+        Map<String, KieBase> kieBases = DroolsKModuleIndex.parse(KMODULE);
+        assertEquals(List.of("pricing", "validation", "all"), List.copyOf(kieBases.keySet()));
+
+        KieBase pricing = kieBases.get("pricing");
+        assertEquals(List.of("rules.pricing"), pricing.packages());
+        assertEquals("equality", pricing.equalsBehavior());
+        assertFalse(pricing.isDefault());
+
+        KieBase validation = kieBases.get("validation");
+        assertEquals("stream", validation.eventProcessingMode());
+        assertTrue(validation.isDefault());
+        assertTrue(validation.containsPackage("rules.validation"));
+        assertTrue(validation.containsPackage("rules.validation.orders"));
+        assertFalse(validation.containsPackage("rules.validationx"));
+
+        assertEquals(List.of("pricing", "validation"), kieBases.get("all").includes());
+        assertTrue(DroolsKModuleIndex.parse("<kmodule><kbase name=").isEmpty());
+    }
+
+    public void testFilesBelongToMatchingAndIncludingKieBases() {
+        myFixture.addFileToProject("META-INF/kmodule.xml", KMODULE);
+        DroolsPsiFile pricing = addRules("rules/pricing/a.drl", "Shared");
+        DroolsPsiFile orders = addRules("rules/validation/orders/b.drl", "Shared");
+        DroolsPsiFile other = addRules("rules/other/c.drl", "Shared");
+
+        DroolsKieBaseModel model = DroolsKieBaseModel.forProject(getProject());
+        assertEquals(Set.of("pricing", "all"), model.getKieBaseNames(pricing));
+        assertEquals(Set.of("validation", "all"), model.getKieBaseNames(orders));
+        assertEmpty(model.getKieBaseNames(other));
+
+        assertTrue(model.shareKieBase(pricing, pricing));
+        assertFalse(model.shareKieBase(other, pricing));
+    }
+
+    public void testNoKModuleKeepsPackageScope() {
+        DroolsPsiFile pricing = addRules("rules/pricing/a.drl", "Shared");
+        DroolsPsiFile orders = addRules("rules/validation/orders/b.drl", "Shared");
+
+        DroolsKieBaseModel model = DroolsKieBaseModel.forProject(getProject());
+        assertTrue(model.isEmpty());
+        assertNull(model.getKieBaseNames(pricing));
+        assertTrue(model.shareKieBase(pricing, orders));
+    }
+
+    public void testDuplicateRulesInSeparateKieBasesAreNotReported() {
+        myFixture.addFileToProject("META-INF/kmodule.xml",
+                "<kmodule>\n" +
+                "    <kbase name=\"pricing\" packages=\"rules.pricing\"/>\n" +
+                "    <kbase name=\"validation\" packages=\"rules.validation\"/>\n" +
+                "</kmodule>\n");
+        addRules("rules/validation/other.drl", "Shared");
+        myFixture.configureFromExistingVirtualFile(
+                addRules("rules/pricing/current.drl", "Shared").getVirtualFile());
+        assertFalse(hasDuplicateWarning(myFixture.doHighlighting()));
+
+        addRules("rules/pricing/same.drl", "Shared");
+        assertTrue(hasDuplicateWarning(myFixture.doHighlighting()));
+    }
+
+    public void testRenameFixOnlySkipsNamesOfTheSameKieBase() {
+        myFixture.addFileToProject("META-INF/kmodule.xml",
+                "<kmodule>\n" +
+                "    <kbase name=\"pricing\" packages=\"rules.pricing\"/>\n" +
+                "    <kbase name=\"validation\" packages=\"rules.validation\"/>\n" +
+                "</kmodule>\n");
+        addRules("rules/pricing/other.drl", "Shared");
+        addRules("rules/pricing/taken.drl", "Shared_2");
+        addRules("rules/validation/unrelated.drl", "Shared_3");
+        myFixture.configureFromExistingVirtualFile(
+                addRules("rules/pricing/current.drl", "Shared").getVirtualFile());
+        int offset = myFixture.getEditor().getDocument().getText().indexOf("Shared");
+        myFixture.getEditor().getCaretModel().moveToOffset(offset);
+
+        List<IntentionAction> fixes = myFixture.filterAvailableIntentions("Rename rule to");
+        assertEquals(1, fixes.size());
+        assertEquals("Rename rule to 'Shared_3'", fixes.get(0).getText());
+    }
+
+    public void testGlobalsOfSeparateKieBasesAreNotVisible() {
+        myFixture.addFileToProject("META-INF/kmodule.xml",
+                "<kmodule>\n" +
+                "    <kbase name=\"pricing\" packages=\"rules.pricing\"/>\n" +
+                "    <kbase name=\"validation\" packages=\"rules.validation\"/>\n" +
+                "</kmodule>\n");
+        myFixture.addFileToProject("rules/validation/globals.drl",
+                "package com.test.rules;\nglobal java.util.List results;\n");
+        myFixture.addFileToProject("rules/pricing/globals.drl",
+                "package com.test.rules;\nglobal java.util.Map prices;\n");
+        DroolsPsiFile pricing = addRules("rules/pricing/a.drl", "Shared");
+
+        DroolsPackageSymbols symbols = DroolsPackageSymbols.forFile(pricing);
+        assertNotNull(symbols.findGlobal("prices"));
+        assertNull(symbols.findGlobal("results"));
+    }
+
+    private DroolsPsiFile addRules(String path, String ruleName) {
+        return (DroolsPsiFile) myFixture.addFileToProject(path,
+                "package com.test.rules;\n" +
+                "\n" +
+                "rule \"" + ruleName + "\"\n" +
+                "when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "end\n");
+    }
+
+    private static boolean hasDuplicateWarning(List<HighlightInfo> highlights) {
+        return highlights.stream().anyMatch(info -> info.getSeverity() == HighlightSeverity.WARNING
+                && info.getDescription() != null
+                && info.getDescription().contains("Duplicate rule name"));
+    }
+}
@@ -7,6 +7,11 @@ import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiReference;
 import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.inspections.DroolsDuplicateImportInspection;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
+import com.plugin.drool.inspections.DroolsUnresolvedClassInspection;
+import com.plugin.drool.inspections.DroolsUnusedBindingInspection;
+import com.plugin.drool.inspections.DroolsUnusedImportInspection;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +39,12 @@ public class DroolsLanguageSupportPreservationTest extends LightJavaCodeInsightF
     @Override
     protected void setUp() throws Exception {
         super.setUp();
+        myFixture.enableInspections(
+                new DroolsDuplicateImportInspection(),
+                new DroolsDuplicateRuleInspection(),
+                new DroolsUnresolvedClassInspection(),
+                new DroolsUnusedBindingInspection(),
+                new DroolsUnusedImportInspection());
         // Add the fixture Java class to the project so it's resolvable
         myFixture.addClass(
                 "package com.test.fixture;\n" +
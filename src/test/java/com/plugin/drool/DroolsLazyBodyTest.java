@@ -0,0 +1,100 @@
+package com.plugin.drool;
+
+import com.intellij.lang.ASTNode;
+import com.intellij.psi.PsiErrorElement;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.psi.DroolsBlockContent;
+import com.plugin.drool.psi.DroolsFunctionBody;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsThenClause;
+import com.plugin.drool.psi.DroolsThenContent;
+import com.plugin.drool.psi.DroolsTypes;
+
+/**
+ * Tests for the lazily parsed bodies: then clause content and function bodies stay single
+ * chameleon nodes until their children are asked for, and then parse to the usual tree.
+ */
+public class DroolsLazyBodyTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "\n" +
+            "function String label(String s) {\n" +
+            "    if (s != null) { return s.trim(); }\n" +
+            "    /* nothing\n" +
+            "       to label */\n" +
+            "    return \"\";\n" +
+            "}\n" +
+            "\n" +
+            "rule \"Labels\"\n" +
+            "when\n" +
+            "    $s : String()\n" +
+            "then\n" +
+            "    System.out.println(label($s));\n" +
+            "    insert(new Object[] { $s });\n" +
+            "end\n";
+
+    public void testBodiesAreParsedOnDemand() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("lazy.drl", DRL);
+        DroolsRuleBlock rule = file.getRules().get(0);
+        DroolsFunctionDef function = file.getFunctions().get(0);
+
+        ASTNode thenContent = rule.getThenClause().getNode()
+                .findChildByType(DroolsTypes.THEN_CONTENT);
+        assertInstanceOf(thenContent, LazyParseableElement.class);
+        assertFalse(((LazyParseableElement) thenContent).isParsed());
+        assertEquals("System.out.println(label($s));\n    insert(new Object[] { $s });",
+                thenContent.getText());
+
+        ASTNode body = function.getNode().findChildByType(DroolsTypes.FUNCTION_BODY);
+        assertInstanceOf(body, LazyParseableElement.class);
+        assertFalse(((LazyParseableElement) body).isParsed());
+        assertTrue(body.getText().startsWith("{") && body.getText().endsWith("}"));
+
+        // Asking for the children parses the body with its own grammar rule
+        assertEquals(DroolsTypes.IDENTIFIER, thenContent.getFirstChildNode().getElementType());
+        assertTrue(((LazyParseableElement) thenContent).isParsed());
+        assertEquals(DroolsTypes.LEFT_BRACE, body.getFirstChildNode().getElementType());
+        assertEquals(DroolsTypes.RIGHT_BRACE, body.getLastChildNode().getElementType());
+        assertNull(PsiTreeUtil.findChildOfType(file, PsiErrorElement.class));
+    }
+
+    public void testBodiesKeepTheirPsi() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("lazy.drl", DRL);
+        DroolsThenClause thenClause = file.getRules().get(0).getThenClause();
+        DroolsThenContent thenContent = thenClause.getThenContent();
+        assertNotNull(thenContent);
+        assertSame(thenClause, thenContent.getParent());
+
+        DroolsFunctionBody body = file.getFunctions().get(0).getFunctionBody();
+        assertNotNull(body);
+        assertNotNull(PsiTreeUtil.findChildOfType(body, DroolsBlockContent.class));
+    }
+
+    public void testUnbalancedBodiesAreParsedEagerly() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("broken.drl",
+                "rule \"Broken\"\n" +
+                "when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "    System.out.println($s];\n" +
+                "end\n" +
+                "\n" +
+                "function void f() {\n" +
+                "    g(;\n" +
+                "}\n");
+
+        ASTNode thenClause = file.getRules().get(0).getThenClause().getNode();
+        ASTNode thenContent = thenClause.findChildByType(DroolsTypes.THEN_CONTENT);
+        assertNotNull(thenContent);
+        assertTrue(!(thenContent instanceof LazyParseableElement lazy) || lazy.isParsed());
+        assertEquals("System.out.println", thenContent.getText());
+
+        assertNotNull(PsiTreeUtil.findChildOfType(file, PsiErrorElement.class));
+        assertEquals(1, file.getRules().size());
+        assertEquals(1, file.getFunctions().size());
+    }
+}
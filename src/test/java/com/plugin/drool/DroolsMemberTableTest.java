@@ -0,0 +1,81 @@
+package com.plugin.drool;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsMemberTable}, the per-class member lookup used for chained dot access.
+ */
+public class DroolsMemberTableTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private PsiClass customer;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class Address {\n" +
+                "    public String getCity() { return null; }\n" +
+                "}\n"
+        );
+        myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class Person {\n" +
+                "    public boolean isActive() { return true; }\n" +
+                "}\n"
+        );
+        customer = myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class Customer extends Person {\n" +
+                "    public Address nickname;\n" +
+                "    public Address getAddress() { return null; }\n" +
+                "    public Address billingAddress() { return null; }\n" +
+                "    private Address hidden() { return null; }\n" +
+                "}\n"
+        );
+    }
+
+    public void testResolvesGettersMethodsAndFields() {
+        DroolsMemberTable table = DroolsMemberTable.forClass(customer);
+
+        PsiClass address = table.getMemberType("address");
+        assertNotNull(address);
+        assertEquals("com.test.fixture.Address", address.getQualifiedName());
+        assertEquals(address, table.getMemberType("billingAddress"));
+        assertEquals(address, table.getMemberType("nickname"));
+
+        PsiClass city = DroolsMemberTable.forClass(address).getMemberType("city");
+        assertNotNull(city);
+        assertEquals("java.lang.String", city.getQualifiedName());
+
+        // Primitive and non-public members do not resolve to a class
+        assertNull(table.getMemberType("active"));
+        assertNull(table.getMemberType("hidden"));
+        assertNull(table.getMemberType("missing"));
+        assertNotNull(table.findMethod("hidden"));
+    }
+
+    public void testBeanPropertiesIncludeInheritedGettersAndPublicFields() {
+        List<String> names = DroolsMemberTable.forClass(customer).getBeanProperties().stream()
+                .map(DroolsMemberTable.BeanProperty::name)
+                .toList();
+
+        assertTrue(names.contains("address"));
+        assertTrue(names.contains("active"));
+        assertTrue(names.contains("nickname"));
+        assertFalse(names.contains("billingAddress"));
+    }
+
+    /** The table is reused until a Java change, which may have changed the class members. */
+    public void testTableIsCachedUntilJavaChange() {
+        DroolsMemberTable table = DroolsMemberTable.forClass(customer);
+        assertSame(table, DroolsMemberTable.forClass(customer));
+
+        myFixture.addClass("package com.test.fixture;\npublic class Unrelated {}\n");
+
+        assertNotSame(table, DroolsMemberTable.forClass(customer));
+    }
+}
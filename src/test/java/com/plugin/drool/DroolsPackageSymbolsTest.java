@@ -0,0 +1,109 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiReference;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsPackageSymbols}: globals and functions declared in one rule file are
+ * visible from the other files of the same package, without loading the declaring file's AST.
+ */
+public class DroolsPackageSymbolsTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String SHARED =
+            "package com.test.rules;\n" +
+            "global java.util.List results;\n" +
+            "\n" +
+            "function String label(String name, int rank) {\n" +
+            "    return name + rank;\n" +
+            "}\n";
+
+    private DroolsPsiFile shared;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        VirtualFile vFile = myFixture.getTempDirFixture().createFile("shared.drl", SHARED);
+        shared = (DroolsPsiFile) PsiManager.getInstance(getProject()).findFile(vFile);
+    }
+
+    public void testSymbolsOfSamePackageAreVisible() {
+        myFixture.configureByText("rules.drl", rule("com.test.rules", "    <caret>\n"));
+
+        DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(myFixture.getFile());
+        assertNotNull(symbols);
+        DroolsGlobalDecl results = symbols.findGlobal("results");
+        assertNotNull(results);
+        assertEquals("java.util.List", results.getTypeText());
+        DroolsFunctionDef label = symbols.findFunction("label");
+        assertNotNull(label);
+        assertEquals(List.of("String name", "int rank"), label.getParameterTexts());
+        assertFalse(shared.isContentsLoaded());
+    }
+
+    public void testSymbolsOfOtherPackageAreNotVisible() {
+        myFixture.configureByText("rules.drl", rule("com.test.other", "    <caret>\n"));
+
+        DroolsPackageSymbols symbols = DroolsPackageSymbols.forElement(myFixture.getFile());
+        assertNotNull(symbols);
+        assertNull(symbols.findGlobal("results"));
+        assertNull(symbols.findFunction("label"));
+    }
+
+    public void testGlobalAndFunctionNamesResolveAcrossFiles() {
+        myFixture.configureByText("rules.drl",
+                rule("com.test.rules", "    res<caret>ults.add(label(\"a\", 1));\n"));
+        PsiReference global = myFixture.getReferenceAtCaretPosition();
+        assertNotNull(global);
+        assertInstanceOf(global.resolve(), DroolsGlobalDecl.class);
+
+        myFixture.configureByText("rules.drl",
+                rule("com.test.rules", "    results.add(lab<caret>el(\"a\", 1));\n"));
+        PsiReference function = myFixture.getReferenceAtCaretPosition();
+        assertNotNull(function);
+        assertInstanceOf(function.resolve(), DroolsFunctionDef.class);
+    }
+
+    public void testMethodsOfGlobalResolveAndComplete() {
+        myFixture.configureByText("rules.drl",
+                rule("com.test.rules", "    results.ad<caret>d(\"a\");\n"));
+        PsiReference reference = myFixture.getReferenceAtCaretPosition();
+        assertNotNull(reference);
+        PsiElement resolved = reference.resolve();
+        assertInstanceOf(resolved, PsiMethod.class);
+        assertEquals("add", ((PsiMethod) resolved).getName());
+
+        myFixture.configureByText("rules.drl", rule("com.test.rules", "    results.<caret>\n"));
+        myFixture.completeBasic();
+        List<String> lookups = myFixture.getLookupElementStrings();
+        assertNotNull(lookups);
+        assertTrue(lookups.contains("add"));
+    }
+
+    public void testThenClauseCompletionOffersPackageSymbols() {
+        myFixture.configureByText("rules.drl", rule("com.test.rules", "    <caret>\n"));
+        myFixture.completeBasic();
+        List<String> lookups = myFixture.getLookupElementStrings();
+        assertNotNull(lookups);
+        assertTrue(lookups.contains("results"));
+        assertTrue(lookups.contains("label"));
+    }
+
+    private static String rule(String packageName, String thenBody) {
+        return "package " + packageName + ";\n" +
+                "\n" +
+                "rule \"Uses shared symbols\"\n" +
+                "when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                thenBody +
+                "end\n";
+    }
+}
@@ -0,0 +1,141 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.module.JavaModuleType;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.ModuleRootManager;
+import com.intellij.openapi.roots.ModuleRootModificationUtil;
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.testFramework.PsiTestUtil;
+import com.intellij.testFramework.fixtures.JavaCodeInsightFixtureTestCase;
+import com.plugin.drool.util.CacheStats;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Module scoping of {@link DroolsResolutionCache}: class entries are keyed per module, library
+ * classes are shared by modules with the same library classpath, and a module's own sources win
+ * over a shared library entry of the same name.
+ *
+ * <p>Module A is the fixture's module, rooted at the temp directory; module B is rooted at its
+ * {@code moduleB} subdirectory. The two do not depend on each other.
+ */
+public class DroolsResolutionCacheModuleTest extends JavaCodeInsightFixtureTestCase {
+
+    private static final String SHARED_FQN = "com.test.shared.Fact";
+    private static final String LIBRARY_FQN = "com.test.lib.LibFact";
+
+    private Module moduleA;
+    private Module moduleB;
+    private PsiFile ruleFileA;
+    private PsiFile ruleFileB;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        moduleA = getModule();
+        VirtualFile rootB = myFixture.getTempDirFixture().findOrCreateDir("moduleB");
+        moduleB = PsiTestUtil.addModule(getProject(), JavaModuleType.getModuleType(), "moduleB", rootB);
+        ModuleRootModificationUtil.setModuleSdk(moduleB, ModuleRootManager.getInstance(moduleA).getSdk());
+
+        ruleFileA = myFixture.addFileToProject("rules/a.drl", "package com.test.rules;\n");
+        ruleFileB = myFixture.addFileToProject("moduleB/rules/b.drl", "package com.test.rules;\n");
+        assertEquals(moduleA, ModuleUtilCore.findModuleForPsiElement(ruleFileA));
+        assertEquals(moduleB, ModuleUtilCore.findModuleForPsiElement(ruleFileB));
+    }
+
+    /** The same FQN names a different class in each module, and each module gets its own. */
+    public void testSameNameResolvesPerModule() {
+        myFixture.addFileToProject("com/test/shared/Fact.java",
+                "package com.test.shared;\npublic class Fact { public int inA; }\n");
+        myFixture.addFileToProject("moduleB/com/test/shared/Fact.java",
+                "package com.test.shared;\npublic class Fact { public int inB; }\n");
+        myFixture.addFileToProject("moduleB/com/test/only/OnlyInB.java",
+                "package com.test.only;\npublic class OnlyInB {}\n");
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        PsiClass inA = cache.resolveClass(SHARED_FQN, ruleFileA);
+        PsiClass inB = cache.resolveClass(SHARED_FQN, ruleFileB);
+        assertNotNull(inA);
+        assertNotNull(inB);
+        assertEquals(moduleA, ModuleUtilCore.findModuleForPsiElement(inA));
+        assertEquals(moduleB, ModuleUtilCore.findModuleForPsiElement(inB));
+
+        // Cached per module: a hit from A must not hand out B's class, or the other way round
+        assertSame(inA, cache.resolveClass(SHARED_FQN, ruleFileA));
+        assertSame(inB, cache.resolveClass(SHARED_FQN, ruleFileB));
+
+        assertNotNull(cache.resolveClass("com.test.only.OnlyInB", ruleFileB));
+        assertNull(cache.resolveClass("com.test.only.OnlyInB", ruleFileA));
+    }
+
+    /** A library class resolved from one module is reused by a module with the same libraries. */
+    public void testLibraryClassIsSharedByModulesWithTheSameLibraries() throws IOException {
+        VirtualFile library = compileLibrary(LIBRARY_FQN,
+                "package com.test.lib;\npublic class LibFact {}\n");
+        ModuleRootModificationUtil.addModuleLibrary(moduleA, library.getUrl());
+        ModuleRootModificationUtil.addModuleLibrary(moduleB, library.getUrl());
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        PsiClass fromA = cache.resolveClass(LIBRARY_FQN, ruleFileA);
+        assertNotNull(fromA);
+        assertTrue(fromA instanceof PsiCompiledElement);
+
+        CacheStats.Snapshot before = cache.getClassCacheStats();
+        assertSame(fromA, cache.resolveClass(LIBRARY_FQN, ruleFileB));
+        CacheStats.Snapshot after = cache.getClassCacheStats();
+        assertEquals(0, after.loadCount() - before.loadCount());
+        assertEquals(1, after.hitCount() - before.hitCount());
+    }
+
+    /**
+     * A source class of a module shadows a library class of the same name, even when another
+     * module already stored the library class under the shared key.
+     */
+    public void testModuleSourceShadowsSharedLibraryClass() throws IOException {
+        VirtualFile library = compileLibrary(LIBRARY_FQN,
+                "package com.test.lib;\npublic class LibFact {}\n");
+        ModuleRootModificationUtil.addModuleLibrary(moduleA, library.getUrl());
+        ModuleRootModificationUtil.addModuleLibrary(moduleB, library.getUrl());
+        myFixture.addFileToProject("moduleB/com/test/lib/LibFact.java",
+                "package com.test.lib;\npublic class LibFact { public int shadowed; }\n");
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        PsiClass fromA = cache.resolveClass(LIBRARY_FQN, ruleFileA);
+        assertTrue(fromA instanceof PsiCompiledElement);
+
+        PsiClass fromB = cache.resolveClass(LIBRARY_FQN, ruleFileB);
+        assertNotNull(fromB);
+        assertFalse(fromB instanceof PsiCompiledElement);
+        assertEquals(moduleB, ModuleUtilCore.findModuleForPsiElement(fromB));
+
+        // Both answers stay cached side by side
+        assertSame(fromA, cache.resolveClass(LIBRARY_FQN, ruleFileA));
+        assertSame(fromB, cache.resolveClass(LIBRARY_FQN, ruleFileB));
+    }
+
+    /** Compiles one class into a fresh class directory outside every module's content. */
+    private static VirtualFile compileLibrary(String fqn, String source) throws IOException {
+        File sourceDir = FileUtil.createTempDirectory("drools-lib-src", null);
+        File classesDir = FileUtil.createTempDirectory("drools-lib-classes", null);
+        File sourceFile = new File(sourceDir, fqn.replace('.', '/') + ".java");
+        FileUtil.writeToFile(sourceFile, source);
+        int exitCode = ToolProvider.getSystemJavaCompiler()
+                .run(null, null, null, "-d", classesDir.getPath(), sourceFile.getPath());
+        assertEquals(0, exitCode);
+        VirtualFile root = LocalFileSystem.getInstance().refreshAndFindFileByIoFile(classesDir);
+        assertNotNull(root);
+        root.refresh(false, true);
+        return root;
+    }
+}
@@ -0,0 +1,250 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.util.CacheStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for the invalidation behaviour of {@link DroolsResolutionCache}.
+ *
+ * <p>Class entries must only depend on Java PSI and project roots, and binding entries only on the
+ * modification stamp of the .drl file that owns the rule.
+ */
+public class DroolsResolutionCacheTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String FIXTURE_FQN = "com.test.fixture.TestFactType";
+    private static final String OTHER_FQN = "com.test.fixture.AnotherType";
+
+    @Override
+    protected String getTestDataPath() {
+        return "src/test/resources";
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class TestFactType {\n" +
+                "    public String getName() { return null; }\n" +
+                "}\n"
+        );
+        myFixture.addClass(
+                "package com.test.fixture;\n" +
+                "public class AnotherType {\n" +
+                "    public int getValue() { return 0; }\n" +
+                "}\n"
+        );
+    }
+
+    /**
+     * Editing one DRL file must not evict class entries that were resolved for another one, even
+     * though the edit advances the global PSI modification count.
+     */
+    public void testEditInOtherDrlFileKeepsClassEntries() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+        PsiFile second = myFixture.addFileToProject("second.drl", drl("second rule", "AnotherType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, first));
+        int sizeBeforeEdit = cache.getClassCacheSize();
+        assertEquals(1, sizeBeforeEdit);
+
+        long globalCountBeforeEdit = PsiModificationTracker.getInstance(getProject()).getModificationCount();
+        appendComment(second);
+        assertTrue("The edit must advance the global PSI modification count",
+                PsiModificationTracker.getInstance(getProject()).getModificationCount() != globalCountBeforeEdit);
+
+        // Resolving another class runs the validity check; the first entry must survive it
+        assertNotNull(cache.resolveClass(OTHER_FQN, second));
+        assertEquals(sizeBeforeEdit + 1, cache.getClassCacheSize());
+    }
+
+    /** Bindings of a rule are reused across edits in other files and rebuilt after edits in its own. */
+    public void testBindingEntriesDependOnOwningFileOnly() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+        PsiFile second = myFixture.addFileToProject("second.drl", drl("second rule", "AnotherType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        DroolsRuleBlock rule = ((DroolsPsiFile) first).getRules().get(0);
+        Map<String, DroolsBindingVariable> bindings = cache.getBindingsForRule(rule);
+        assertTrue(bindings.containsKey("$fact"));
+
+        appendComment(second);
+        assertSame(bindings, cache.getBindingsForRule(rule));
+
+        appendComment(first);
+        DroolsRuleBlock reparsedRule = ((DroolsPsiFile) first).getRules().get(0);
+        Map<String, DroolsBindingVariable> rebuilt = cache.getBindingsForRule(reparsedRule);
+        assertNotSame(bindings, rebuilt);
+        assertTrue(rebuilt.containsKey("$fact"));
+    }
+
+    /** A Java change is a real dependency of class entries and must still flush them. */
+    public void testJavaChangeEvictsClassEntries() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, first));
+        assertNotNull(cache.resolveClass(OTHER_FQN, first));
+        assertEquals(2, cache.getClassCacheSize());
+
+        myFixture.addClass("package com.test.fixture;\npublic class ThirdType {}\n");
+
+        PsiClass resolved = cache.resolveClass(FIXTURE_FQN, first);
+        assertNotNull(resolved);
+        assertEquals(1, cache.getClassCacheSize());
+    }
+
+    /** Misses are remembered until a Java change, which may have added the missing class. */
+    public void testUnresolvedNamesAreCachedUntilJavaChange() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        assertNull(cache.resolveClass("com.test.fixture.MissingType", first));
+        assertNull(cache.resolveClass("com.test.fixture.MissingType", first));
+        assertEquals(1, cache.getNegativeCacheSize());
+        assertEquals(0, cache.getClassCacheSize());
+
+        myFixture.addClass("package com.test.fixture;\npublic class MissingType {}\n");
+
+        assertNotNull(cache.resolveClass("com.test.fixture.MissingType", first));
+        assertEquals(0, cache.getNegativeCacheSize());
+        assertEquals(1, cache.getClassCacheSize());
+    }
+
+    /** Lookups are counted, and only misses pay (and record) a load. */
+    public void testStatsCountHitsAndMisses() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        CacheStats.Snapshot before = cache.getClassCacheStats();
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, first));
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, first));
+        CacheStats.Snapshot after = cache.getClassCacheStats();
+
+        assertEquals(1, after.missCount() - before.missCount());
+        assertEquals(1, after.hitCount() - before.hitCount());
+        assertEquals(1, after.loadCount() - before.loadCount());
+    }
+
+    /** The startup warm-up resolves imports and fact types so the first highlighting pass hits. */
+    public void testWarmUpPopulatesClassCache() {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        DroolsCacheWarmupActivity.warmUpFile(getProject(), first.getVirtualFile());
+        assertTrue(cache.getClassCacheSize() > 0);
+
+        CacheStats.Snapshot before = cache.getClassCacheStats();
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, first));
+        assertEquals(before.missCount(), cache.getClassCacheStats().missCount());
+    }
+
+    /** Warm-up reads class names from the stub tree and must not build the AST of any file. */
+    public void testWarmUpDoesNotLoadTree() throws Exception {
+        String text = drl("stubbed rule", "TestFactType")
+                .replace("import", "global java.util.List results;\nimport");
+        VirtualFile vFile = myFixture.getTempDirFixture().createFile("stubbed.drl", text);
+        DroolsPsiFile file = (DroolsPsiFile) PsiManager.getInstance(getProject()).findFile(vFile);
+        assertNotNull(file);
+        assertFalse(file.isContentsLoaded());
+
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+        DroolsCacheWarmupActivity.warmUpFile(getProject(), vFile);
+        assertFalse("Warm-up must not load the AST", file.isContentsLoaded());
+
+        CacheStats.Snapshot before = cache.getClassCacheStats();
+        assertNotNull(cache.resolveClass(FIXTURE_FQN, file));
+        assertNotNull(cache.resolveClass("java.util.List", file));
+        assertEquals(before.missCount(), cache.getClassCacheStats().missCount());
+    }
+
+    /**
+     * Resolution from many threads while the cache is repeatedly invalidated must always return the
+     * class and never leave more entries than there are distinct keys.
+     */
+    public void testConcurrentResolutionWithInvalidation() throws Exception {
+        PsiFile first = myFixture.addFileToProject("first.drl", drl("first rule", "TestFactType"));
+        DroolsResolutionCache cache = DroolsResolutionCache.getInstance(getProject());
+        cache.invalidate();
+
+        int readers = 8;
+        int iterations = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; j++) {
+                        String fqn = j % 2 == 0 ? FIXTURE_FQN : OTHER_FQN;
+                        PsiClass resolved = ReadAction.compute(() -> cache.resolveClass(fqn, first));
+                        assertNotNull(resolved);
+                        assertEquals(fqn, ReadAction.compute(resolved::getQualifiedName));
+                        assertNull(ReadAction.compute(
+                                () -> cache.resolveClass("com.test.fixture.MissingType", first)));
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < iterations; j++) {
+                    cache.invalidate();
+                    Thread.yield();
+                }
+            }));
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.getClassCacheSize() <= 2);
+        assertTrue(cache.getNegativeCacheSize() <= 1);
+    }
+
+    private void appendComment(PsiFile file) {
+        PsiDocumentManager documentManager = PsiDocumentManager.getInstance(getProject());
+        Document document = documentManager.getDocument(file);
+        assertNotNull(document);
+        WriteCommandAction.runWriteCommandAction(getProject(), () ->
+                document.insertString(document.getTextLength(), "\n// edited\n"));
+        documentManager.commitAllDocuments();
+    }
+
+    private static String drl(String ruleName, String factType) {
+        return "package com.test.rules;\n" +
+                "import com.test.fixture." + factType + ";\n" +
+                "\n" +
+                "rule \"" + ruleName + "\"\n" +
+                "when\n" +
+                "    $fact : " + factType + "()\n" +
+                "then\n" +
+                "    System.out.println($fact);\n" +
+                "end\n";
+    }
+}
@@ -0,0 +1,261 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsResolutionSnapshot}: library answers survive a save/load round trip and
+ * are discarded once Java PSI or the rule file's header changes; source and negative answers are
+ * never persisted.
+ */
+public class DroolsResolutionSnapshotTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.fixture.Missing;\n" +
+            "\n" +
+            "rule \"snapshot\"\n" +
+            "when\n" +
+            "    $m : Missing()\n" +
+            "then\n" +
+            "end\n";
+
+    public void testAnswersSurviveRoundTripUntilJavaChange() throws Exception {
+        PsiFile file = myFixture.addFileToProject("snapshot.drl", DRL);
+        PsiClass libraryClass = findJdkClass();
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            DroolsResolutionSnapshot previousSession = new DroolsResolutionSnapshot(getProject());
+            assertTrue(previousSession.isResolvable("String", file, () -> libraryClass));
+            previousSession.save(storage);
+
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            assertEquals(1, snapshot.getLoadedFileCount());
+            assertTrue(snapshot.isResolvable("String", file, () -> {
+                fail("A valid snapshot entry must answer without resolving");
+                return null;
+            }));
+            assertEquals(1, snapshot.getHitCount());
+
+            // Names that were never looked up still go through the resolver
+            assertFalse(snapshot.isResolvable("com.test.fixture.Other", file, () -> null));
+
+            myFixture.addClass("package com.test.fixture;\npublic class Unrelated {}\n");
+
+            assertFalse(snapshot.isResolvable("String", file, () -> null));
+            assertEquals(0, snapshot.getLoadedFileCount());
+            assertEquals(1, snapshot.getHitCount());
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    /**
+     * Java sources may change while the IDE is closed, which the classpath fingerprint cannot see,
+     * so names that resolve to source classes, or do not resolve, are answered live next time.
+     */
+    public void testSourceAndNegativeAnswersAreNotPersisted() throws Exception {
+        PsiFile file = myFixture.addFileToProject("snapshot.drl", DRL);
+        PsiClass sourceClass = myFixture.addClass("package com.test.fixture;\npublic class Source {}\n");
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            DroolsResolutionSnapshot previousSession = new DroolsResolutionSnapshot(getProject());
+            assertTrue(previousSession.isResolvable("com.test.fixture.Source", file, () -> sourceClass));
+            assertFalse(previousSession.isResolvable("com.test.fixture.Missing", file, () -> null));
+            previousSession.save(storage);
+
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            assertFalse(snapshot.isResolvable("com.test.fixture.Source", file, () -> null));
+            assertTrue(snapshot.isResolvable("com.test.fixture.Missing", file, () -> sourceClass));
+            assertEquals(0, snapshot.getHitCount());
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    /** Each file keeps only its most recently looked up names, so typed prefixes age out. */
+    public void testRecordedNamesPerFileAreBounded() throws Exception {
+        PsiFile file = myFixture.addFileToProject("snapshot.drl", DRL);
+        PsiClass libraryClass = findJdkClass();
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            DroolsResolutionSnapshot previousSession = new DroolsResolutionSnapshot(getProject());
+            assertTrue(previousSession.isResolvable("String", file, () -> libraryClass));
+            for (int i = 0; i < DroolsResolutionSnapshot.MAX_NAMES_PER_FILE; i++) {
+                previousSession.isResolvable("Prefix" + i, file, () -> libraryClass);
+                // Still looked up on every pass, so it stays
+                previousSession.isResolvable("String", file, () -> libraryClass);
+            }
+            previousSession.save(storage);
+
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            assertTrue(snapshot.isResolvable("String", file, () -> null));
+            assertFalse(snapshot.isResolvable("Prefix0", file, () -> null));
+            int last = DroolsResolutionSnapshot.MAX_NAMES_PER_FILE - 1;
+            assertTrue(snapshot.isResolvable("Prefix" + last, file, () -> null));
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    /**
+     * Names are stored as the file writes them, so an entry recorded under other imports, here
+     * edited away while the IDE was closed, must not answer for the file any more.
+     */
+    public void testHeaderChangeDiscardsEntries() throws Exception {
+        PsiFile file = myFixture.addFileToProject("snapshot.drl", DRL);
+        PsiClass libraryClass = findJdkClass();
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            DroolsResolutionSnapshot previousSession = new DroolsResolutionSnapshot(getProject());
+            assertTrue(previousSession.isResolvable("Missing", file, () -> libraryClass));
+            previousSession.save(storage);
+
+            Document document = PsiDocumentManager.getInstance(getProject()).getDocument(file);
+            WriteCommandAction.runWriteCommandAction(getProject(), () -> {
+                int start = document.getText().indexOf("import com.test.fixture.Missing;\n");
+                document.deleteString(start, start + "import com.test.fixture.Missing;\n".length());
+                PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+            });
+
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            assertFalse(snapshot.isResolvable("Missing", file, () -> null));
+            assertEquals(0, snapshot.getHitCount());
+            assertEquals(0, snapshot.getLoadedFileCount());
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    public void testCorruptSnapshotIsIgnored() throws Exception {
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            Files.write(storage, new byte[] {0, 0, 0, 1, 0, 0});
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            assertEquals(0, snapshot.getLoadedFileCount());
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    /** A current-version header followed by a body that is cut short or out of range. */
+    public void testTruncatedSnapshotBodyIsIgnored() throws Exception {
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(DroolsResolutionSnapshot.FORMAT_VERSION);
+                out.writeInt(2);
+                out.writeUTF("temp:///src/first.drl");
+                out.writeUTF("");
+                out.writeLong(17);
+                out.writeLong(1);
+                out.writeInt(1);
+                out.writeUTF("String");
+                out.writeUTF("temp:///src/second.drl");
+                out.writeUTF("");
+            }
+            Files.write(storage, bytes.toByteArray());
+            DroolsResolutionSnapshot truncated = new DroolsResolutionSnapshot(getProject());
+            truncated.load(storage);
+            assertEquals(0, truncated.getLoadedFileCount());
+
+            bytes.reset();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(DroolsResolutionSnapshot.FORMAT_VERSION);
+                out.writeInt(1);
+                out.writeUTF("temp:///src/first.drl");
+                out.writeUTF("");
+                out.writeLong(17);
+                out.writeLong(1);
+                out.writeInt(Integer.MAX_VALUE);
+            }
+            Files.write(storage, bytes.toByteArray());
+            DroolsResolutionSnapshot garbage = new DroolsResolutionSnapshot(getProject());
+            garbage.load(storage);
+            assertEquals(0, garbage.getLoadedFileCount());
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    /**
+     * Measures the time the snapshot saves: the unresolved-class lookups of 2,000 rule files with
+     * JDK fact types, answered once by live resolution and once from a snapshot of the previous
+     * session, each with a cold class cache. Runs only with benchmarks enabled ({@link
+     * DroolsBenchmarks}).
+     */
+    public void testSnapshotSavesResolutionTime() throws Exception {
+        if (!DroolsBenchmarks.isEnabled()) {
+            return;
+        }
+        String[] types = {"BigDecimal", "BigInteger", "LocalDate", "List", "Map", "UUID"};
+        List<PsiFile> files = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            files.add(myFixture.addFileToProject("rules/r" + i + ".drl",
+                    "package com.test.rules;\n" +
+                    "import java.math.BigDecimal;\nimport java.math.BigInteger;\n" +
+                    "import java.time.LocalDate;\nimport java.util.*;\n\n" +
+                    "rule \"R" + i + "\"\nwhen\n    BigDecimal()\nthen\nend\n"));
+        }
+        Path storage = Files.createTempFile("drools-resolution", ".dat");
+        try {
+            // Warm-up, so both measured passes find Java PSI and stubs loaded
+            lookUpAll(new DroolsResolutionSnapshot(getProject()), files, types);
+            DroolsResolutionSnapshot previousSession = new DroolsResolutionSnapshot(getProject());
+            DroolsResolutionCache.getInstance(getProject()).invalidate();
+            long liveNanos = lookUpAll(previousSession, files, types);
+            previousSession.save(storage);
+
+            DroolsResolutionSnapshot snapshot = new DroolsResolutionSnapshot(getProject());
+            snapshot.load(storage);
+            DroolsResolutionCache.getInstance(getProject()).invalidate();
+            long snapshotNanos = lookUpAll(snapshot, files, types);
+
+            assertEquals((long) files.size() * types.length, snapshot.getHitCount());
+            long savedMillis = (liveNanos - snapshotNanos) / 1_000_000;
+            assertTrue("Snapshot saved " + savedMillis + " ms of " + liveNanos / 1_000_000
+                    + " ms live resolution", snapshotNanos < liveNanos);
+        } finally {
+            Files.deleteIfExists(storage);
+        }
+    }
+
+    private static long lookUpAll(
+            DroolsResolutionSnapshot snapshot, List<PsiFile> files, String[] types) {
+        long start = System.nanoTime();
+        for (PsiFile file : files) {
+            DroolsImportTable imports = DroolsImportTable.forFile(file);
+            for (String type : types) {
+                assertTrue(type, snapshot.isResolvable(type, file,
+                        () -> imports.resolveClass(type, file)));
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private PsiClass findJdkClass() {
+        PsiClass jdkClass = JavaPsiFacade.getInstance(getProject())
+                .findClass("java.lang.String", GlobalSearchScope.allScope(getProject()));
+        assertNotNull(jdkClass);
+        return jdkClass;
+    }
+}
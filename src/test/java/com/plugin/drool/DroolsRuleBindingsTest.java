@@ -0,0 +1,101 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.openapi.util.TextRange;
+import com.intellij.psi.impl.source.tree.LazyParseableElement;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.fixes.RemoveBindingFix;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.DroolsTypes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests for {@link DroolsRuleBindings}: the per-rule table of binding declarations and
+ * {@code $name} occurrences behind the unused-binding check, {@link RemoveBindingFix} and binding
+ * reference resolution.
+ */
+public class DroolsRuleBindingsTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "\n" +
+            "rule \"Bindings\"\n" +
+            "when\n" +
+            "    $c : Customer(age > 18)\n" +
+            "    $unused : Customer()\n" +
+            "    $o : Order(customer == $c)\n" +
+            "then\n" +
+            "    /* $unused and $o are only mentioned\n" +
+            "       in comments */\n" +
+            "    System.out.println(\"$unused\" + $c);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Other\"\n" +
+            "when\n" +
+            "then\n" +
+            "end\n";
+
+    public void testTableCountsTokensOnly() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("bindings.drl", DRL);
+        List<DroolsRuleBlock> rules = file.getRules();
+        DroolsRuleBindings bindings = DroolsRuleBindings.forRule(rules.get(0));
+
+        List<TextRange> occurrences = bindings.getOccurrences("c");
+        assertEquals(3, occurrences.size());
+        for (TextRange range : occurrences) {
+            assertEquals("$c", range.substring(file.getText()));
+        }
+        assertFalse(bindings.isUnused("c"));
+        assertEquals(1, bindings.getOccurrences("unused").size());
+        assertTrue(bindings.isUnused("unused"));
+        assertTrue(bindings.isUnused("o"));
+
+        assertEquals(3, bindings.getDeclarations().size());
+        assertEquals("$c", bindings.getDeclarations().get("$c").getText());
+
+        DroolsRuleBindings other = DroolsRuleBindings.forRule(rules.get(1));
+        assertTrue(other.getOccurrences("c").isEmpty());
+        assertTrue(other.getDeclarations().isEmpty());
+    }
+
+    public void testTableIsCachedWithTheRuleAndKeepsThenClauseUnparsed() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("bindings.drl", DRL);
+        DroolsRuleBlock rule = file.getRules().get(0);
+        DroolsRuleBindings bindings = DroolsRuleBindings.forRule(rule);
+        assertSame(bindings, DroolsRuleBindings.forRule(rule));
+
+        LazyParseableElement thenContent = (LazyParseableElement) rule.getThenClause().getNode()
+                .findChildByType(DroolsTypes.THEN_CONTENT);
+        assertFalse(thenContent.isParsed());
+    }
+
+    public void testResolutionReadsDeclarationsFromTable() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("bindings.drl", DRL);
+        DroolsRuleBlock rule = file.getRules().get(0);
+        Map<String, DroolsBindingVariable> resolved =
+                DroolsResolutionCache.getInstance(getProject()).getBindingsForRule(rule);
+        assertSame(DroolsRuleBindings.forRule(rule).getDeclarations(), resolved);
+        assertEquals(Set.of("$c", "$unused", "$o"), resolved.keySet());
+    }
+
+    public void testRemoveBindingFixIsUnavailableForUsedBinding() {
+        myFixture.configureByText("bindings.drl", DRL.replace("    $c : Customer", "    $<caret>c : Customer"));
+        IntentionAction fix = new RemoveBindingFix("c");
+        assertFalse(fix.isAvailable(getProject(), myFixture.getEditor(), myFixture.getFile()));
+    }
+
+    public void testRemoveBindingFixRemovesUnusedBinding() {
+        myFixture.configureByText("bindings.drl",
+                DRL.replace("    $unused : Customer", "    $<caret>unused : Customer"));
+        IntentionAction fix = new RemoveBindingFix("unused");
+        assertTrue(fix.isAvailable(getProject(), myFixture.getEditor(), myFixture.getFile()));
+        myFixture.launchAction(fix);
+        String text = myFixture.getEditor().getDocument().getText();
+        assertTrue(text.contains("    Customer()\n"));
+        assertFalse(text.contains("$unused : "));
+    }
+}
@@ -0,0 +1,191 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.inspections.DroolsUnresolvedClassInspection;
+import com.plugin.drool.inspections.DroolsUnusedBindingInspection;
+import com.plugin.drool.psi.DroolsBindingVariable;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.util.CacheStats;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsRuleFindings}: per-rule findings memoized by the rule's token stream and
+ * the file's header, so that an edit only recomputes the rule it touched.
+ */
+public class DroolsRuleFindingsTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.model.Customer;\n" +
+            "\n" +
+            "rule \"First\"\n" +
+            "when\n" +
+            "    $c : Customer(age > 1)\n" +
+            "then\n" +
+            "    System.out.println($c);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Second\"\n" +
+            "when\n" +
+            "    $c : Customer(age > 2)\n" +
+            "then\n" +
+            "    System.out.println($c);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Third\"\n" +
+            "when\n" +
+            "    $c : Customer(age > 3)\n" +
+            "then\n" +
+            "    System.out.println($c);\n" +
+            "end\n";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addClass("package com.test.model; public class Customer { public int age; }");
+        myFixture.enableInspections(
+                new DroolsUnresolvedClassInspection(),
+                new DroolsUnusedBindingInspection());
+    }
+
+    public void testUnchangedRulesAreNotRecomputed() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("findings.drl", DRL);
+        computeAll(file);
+        CacheStats.Snapshot before = DroolsRuleFindings.getCacheStats(file);
+        assertEquals(3, before.missCount());
+
+        insertBefore("$c : Customer(age > 2)", "$unused : Customer()\n    ");
+        computeAll(file);
+        CacheStats.Snapshot after = DroolsRuleFindings.getCacheStats(file);
+        assertEquals(1, after.missCount() - before.missCount());
+        assertEquals(2, after.hitCount() - before.hitCount());
+    }
+
+    public void testHeaderChangeRecomputesEveryRule() {
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("findings.drl", DRL);
+        computeAll(file);
+        CacheStats.Snapshot before = DroolsRuleFindings.getCacheStats(file);
+
+        insertBefore("\nrule \"First\"", "import com.test.model.Order;\n");
+        computeAll(file);
+        assertEquals(3, DroolsRuleFindings.getCacheStats(file).missCount() - before.missCount());
+    }
+
+    public void testRulesWithTheSameTextShareFindings() {
+        String rule = "rule \"Same\"\nwhen\n    $x : Customer()\nthen\nend\n";
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("same.drl",
+                "package com.test.rules;\nimport com.test.model.Customer;\n\n" + rule + "\n" + rule);
+        List<DroolsRuleBlock> rules = file.getRules();
+
+        assertSame(DroolsRuleFindings.forRule(rules.get(0)), DroolsRuleFindings.forRule(rules.get(1)));
+        assertEquals(1, DroolsRuleFindings.getCacheStats(file).missCount());
+        // Offsets are relative, so each rule finds its own binding
+        DroolsRuleFindings.Finding unused =
+                DroolsRuleFindings.forRule(rules.get(1)).getUnusedBindings().get(0);
+        assertEquals("x", unused.name());
+        DroolsBindingVariable binding = unused.findIn(rules.get(1), DroolsBindingVariable.class);
+        assertSame(rules.get(1), PsiTreeUtil.getParentOfType(binding, DroolsRuleBlock.class));
+    }
+
+    public void testEditedRuleIsReportedAfterMemoizedPass() {
+        myFixture.configureByText("findings.drl", DRL);
+        assertFalse(hasHighlight(myFixture.doHighlighting(), "is never used"));
+
+        insertBefore("$c : Customer(age > 2)", "$unused : Customer()\n    Missing()\n    ");
+        List<HighlightInfo> highlights = myFixture.doHighlighting();
+        assertTrue(hasHighlight(highlights, "Binding variable '$unused' is never used"));
+        assertTrue(hasHighlight(highlights, "Cannot resolve class 'Missing'"));
+        assertFalse(hasHighlight(highlights, "Cannot resolve class 'Customer'"));
+    }
+
+    public void testUnresolvedTypeIsCheckedAgainOnEachPass() {
+        myFixture.configureByText("findings.drl", DRL.replace("$c : Customer(age > 3)", "Order()"));
+        assertTrue(hasHighlight(myFixture.doHighlighting(), "Cannot resolve class 'Order'"));
+
+        // A type declared in another rule file of the package does not touch this file
+        myFixture.addFileToProject("types.drl", "package com.test.rules;\n\ndeclare Order\nend\n");
+        assertFalse(hasHighlight(myFixture.doHighlighting(), "Cannot resolve class 'Order'"));
+    }
+
+    public void testTypeDeclaredElsewhereIsCheckedAgainOnEachPass() {
+        PsiFile types = myFixture.addFileToProject("types.drl",
+                "package com.test.rules;\n\ndeclare Order\nend\n");
+        myFixture.configureByText("findings.drl", DRL.replace("$c : Customer(age > 3)", "Order()"));
+        assertFalse(hasHighlight(myFixture.doHighlighting(), "Cannot resolve class 'Order'"));
+
+        // Deleting the declaration touches neither this file nor Java PSI
+        Document document = PsiDocumentManager.getInstance(getProject()).getDocument(types);
+        WriteCommandAction.runWriteCommandAction(getProject(),
+                () -> document.setText("package com.test.rules;\n"));
+        PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+        assertTrue(hasHighlight(myFixture.doHighlighting(), "Cannot resolve class 'Order'"));
+    }
+
+    /**
+     * Highlights a file of 10,000 rules, then edits one rule and highlights again. The second pass
+     * recomputes the edited rule only. Runs only with benchmarks enabled ({@link
+     * DroolsBenchmarks}).
+     */
+    public void testLargeFileRehighlightRecomputesOneRule() {
+        if (!DroolsBenchmarks.isEnabled()) {
+            return;
+        }
+        StringBuilder text = new StringBuilder(
+                "package com.test.rules;\nimport com.test.model.Customer;\n\n");
+        for (int i = 0; i < 10_000; i++) {
+            text.append("rule \"Rule ").append(i).append("\"\n")
+                    .append("when\n")
+                    .append("    $c : Customer(age > ").append(i).append(")\n")
+                    .append("    $o : Customer(age < ").append(i).append(")\n")
+                    .append("then\n")
+                    .append("    System.out.println($c);\n")
+                    .append("end\n\n");
+        }
+        DroolsPsiFile file = (DroolsPsiFile) myFixture.configureByText("large.drl", text.toString());
+
+        List<HighlightInfo> highlights = myFixture.doHighlighting();
+        assertEquals(10_000, highlights.stream()
+                .filter(info -> info.getDescription() != null
+                        && info.getDescription().equals("Binding variable '$o' is never used"))
+                .count());
+        CacheStats.Snapshot before = DroolsRuleFindings.getCacheStats(file);
+
+        insertBefore("age > 5000)", "age > 0, ");
+        myFixture.doHighlighting();
+        CacheStats.Snapshot after = DroolsRuleFindings.getCacheStats(file);
+        long recomputed = after.missCount() - before.missCount();
+
+        // Both inspections look the rule up; they may miss on it concurrently
+        assertTrue("Recomputed " + recomputed + " rules", recomputed >= 1 && recomputed <= 2);
+        assertEquals(0, after.evictionCount());
+    }
+
+    private static void computeAll(DroolsPsiFile file) {
+        for (DroolsRuleBlock rule : file.getRules()) {
+            DroolsRuleFindings.forRule(rule);
+        }
+    }
+
+    private void insertBefore(String anchor, String inserted) {
+        Document document = myFixture.getEditor().getDocument();
+        int offset = document.getText().indexOf(anchor);
+        assertTrue(offset >= 0);
+        WriteCommandAction.runWriteCommandAction(getProject(),
+                () -> document.insertString(offset, inserted));
+        PsiDocumentManager.getInstance(getProject()).commitDocument(document);
+    }
+
+    private static boolean hasHighlight(List<HighlightInfo> highlights, String text) {
+        return highlights.stream().anyMatch(info -> info.getSeverity() != HighlightSeverity.INFORMATION
+                && info.getDescription() != null
+                && info.getDescription().contains(text));
+    }
+}
@@ -0,0 +1,100 @@
+package com.plugin.drool;
+
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.index.DroolsRuleGroupIndex;
+import com.plugin.drool.index.DroolsRuleGroupIndex.GroupKind;
+import com.plugin.drool.index.DroolsRuleGroupIndex.RuleEntry;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsRuleGroupIndex}, the agenda and ruleflow group index behind the rule
+ * groups tool window.
+ */
+public class DroolsRuleGroupIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String VALIDATION =
+            "package com.test.rules;\n" +
+            "\n" +
+            "rule \"Check age\"\n" +
+            "    agenda-group \"validation\"\n" +
+            "    salience 10\n" +
+            "    auto-focus true\n" +
+            "when\n" +
+            "then\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Check name\"\n" +
+            "    agenda-group \"validation\"\n" +
+            "    ruleflow-group \"checks\"\n" +
+            "when\n" +
+            "then\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Default\"\n" +
+            "when\n" +
+            "then\n" +
+            "end\n";
+
+    private GlobalSearchScope scope;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        scope = GlobalSearchScope.projectScope(getProject());
+        myFixture.addFileToProject("validation.drl", VALIDATION);
+        myFixture.addFileToProject("pricing.drl",
+                "package com.test.rules;\n" +
+                "rule \"Discount\"\n" +
+                "    agenda-group \"validation\"\n" +
+                "    salience 20\n" +
+                "    ruleflow-group \"pricing\"\n" +
+                "when\n" +
+                "then\n" +
+                "end\n");
+    }
+
+    public void testGroupNamesPerKind() {
+        assertEquals(List.of("MAIN", "validation"),
+                DroolsRuleGroupIndex.getGroupNames(getProject(), GroupKind.AGENDA_GROUP, scope));
+        assertEquals(List.of("checks", "pricing"),
+                DroolsRuleGroupIndex.getGroupNames(getProject(), GroupKind.RULEFLOW_GROUP, scope));
+    }
+
+    public void testRulesOfGroupComeFromAllFiles() {
+        List<String> names = DroolsRuleGroupIndex.findRules(GroupKind.AGENDA_GROUP, "validation", scope)
+                .stream()
+                .map(entry -> entry.rule().ruleName())
+                .sorted()
+                .toList();
+        assertEquals(List.of("Check age", "Check name", "Discount"), names);
+        assertEquals(3, DroolsRuleGroupIndex.countRules(GroupKind.AGENDA_GROUP, "validation", scope));
+        assertEquals(0, DroolsRuleGroupIndex.countRules(GroupKind.AGENDA_GROUP, "missing", scope));
+    }
+
+    public void testSalienceAutoFocusAndOffsetAreIndexed() {
+        RuleEntry checkAge = DroolsRuleGroupIndex.findRules(GroupKind.AGENDA_GROUP, "validation", scope)
+                .stream()
+                .filter(entry -> entry.rule().ruleName().equals("Check age"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("validation.drl", checkAge.file().getName());
+        assertEquals("10", checkAge.rule().salience());
+        assertEquals(10, checkAge.rule().getSalienceValue());
+        assertTrue(checkAge.rule().autoFocus());
+        assertEquals(VALIDATION.indexOf("\"Check age\""), checkAge.rule().ruleOffset());
+
+        RuleEntry checkName = DroolsRuleGroupIndex.findRules(GroupKind.RULEFLOW_GROUP, "checks", scope)
+                .get(0);
+        assertNull(checkName.rule().salience());
+        assertEquals(0, checkName.rule().getSalienceValue());
+        assertFalse(checkName.rule().autoFocus());
+    }
+
+    public void testRulesWithoutAgendaGroupAreInMain() {
+        List<RuleEntry> main = DroolsRuleGroupIndex.findRules(GroupKind.AGENDA_GROUP, "MAIN", scope);
+        assertEquals(1, main.size());
+        assertEquals("Default", main.get(0).rule().ruleName());
+    }
+}
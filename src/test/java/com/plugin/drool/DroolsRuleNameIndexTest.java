@@ -0,0 +1,79 @@
+package com.plugin.drool;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.codeInsight.intention.IntentionAction;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.index.DroolsRuleNameIndex;
+import com.plugin.drool.inspections.DroolsDuplicateRuleInspection;
+
+import java.util.List;
+
+/**
+ * Tests for {@link DroolsRuleNameIndex} and the project-wide duplicate rule check built on it.
+ */
+public class DroolsRuleNameIndexTest extends LightJavaCodeInsightFixtureTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new DroolsDuplicateRuleInspection());
+    }
+
+    public void testIndexIsKeyedByPackageAndName() {
+        myFixture.addFileToProject("a.drl", drl("com.test.rules", "Shared"));
+        myFixture.addFileToProject("b.drl", drl("com.test.other", "Shared"));
+
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(getProject());
+        assertEquals(1, DroolsRuleNameIndex.getRules(getProject(), "com.test.rules", "Shared", scope).size());
+        assertEquals(1, DroolsRuleNameIndex.getRules(getProject(), "com.test.other", "Shared", scope).size());
+        assertFalse(DroolsRuleNameIndex.exists(getProject(), "com.test.rules", "Missing", scope));
+    }
+
+    public void testDuplicateInOtherFileOfSamePackageIsReported() {
+        myFixture.addFileToProject("other.drl", drl("com.test.rules", "Shared"));
+        myFixture.configureByText("current.drl", drl("com.test.rules", "Shared"));
+
+        HighlightInfo warning = findDuplicateWarning(myFixture.doHighlighting());
+        assertNotNull(warning);
+        assertTrue(warning.getDescription().contains("other.drl"));
+    }
+
+    public void testSameNameInOtherPackageIsNotReported() {
+        myFixture.addFileToProject("other.drl", drl("com.test.other", "Shared"));
+        myFixture.configureByText("current.drl", drl("com.test.rules", "Shared"));
+
+        assertNull(findDuplicateWarning(myFixture.doHighlighting()));
+    }
+
+    public void testRenameFixSkipsNamesTakenInOtherFiles() {
+        myFixture.addFileToProject("other.drl", drl("com.test.rules", "Shared"));
+        myFixture.addFileToProject("taken.drl", drl("com.test.rules", "Shared_2"));
+        myFixture.configureByText("current.drl", drl("com.test.rules", "<caret>Shared"));
+
+        List<IntentionAction> fixes = myFixture.filterAvailableIntentions("Rename rule to");
+        assertEquals(1, fixes.size());
+        assertEquals("Rename rule to 'Shared_3'", fixes.get(0).getText());
+    }
+
+    private static HighlightInfo findDuplicateWarning(List<HighlightInfo> highlights) {
+        return highlights.stream()
+                .filter(info -> info.getSeverity() == HighlightSeverity.WARNING
+                        && info.getDescription() != null
+                        && info.getDescription().contains("Duplicate rule name"))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static String drl(String packageName, String ruleName) {
+        return "package " + packageName + ";\n" +
+                "\n" +
+                "rule \"" + ruleName + "\"\n" +
+                "when\n" +
+                "    $s : String()\n" +
+                "then\n" +
+                "    System.out.println($s);\n" +
+                "end\n";
+    }
+}
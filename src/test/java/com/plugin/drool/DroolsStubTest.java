@@ -0,0 +1,114 @@
+package com.plugin.drool;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFileFactory;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.impl.source.PsiFileImpl;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.plugin.drool.psi.DroolsDeclareBlock;
+import com.plugin.drool.psi.DroolsFunctionDef;
+import com.plugin.drool.psi.DroolsGlobalDecl;
+import com.plugin.drool.psi.DroolsImportStatement;
+import com.plugin.drool.psi.DroolsRuleBlock;
+import com.plugin.drool.psi.stubs.DroolsDeclareBlockStub;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the Drools stub tree: the typed accessors of {@link DroolsPsiFile} must answer from
+ * stubs without loading the AST, and give the same answers once it is loaded.
+ */
+public class DroolsStubTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String DRL =
+            "package com.test.rules;\n" +
+            "import com.test.fixture.Customer;\n" +
+            "import com.test.model.*;\n" +
+            "global java.util.List results;\n" +
+            "\n" +
+            "declare Discount extends BaseDiscount\n" +
+            "    rate : double\n" +
+            "end\n" +
+            "\n" +
+            "function String label(Customer c) {\n" +
+            "    return c.toString();\n" +
+            "}\n" +
+            "\n" +
+            "rule \"Gold customers\"\n" +
+            "    salience 10\n" +
+            "    agenda-group \"pricing\"\n" +
+            "    no-loop\n" +
+            "when\n" +
+            "    $c : Customer()\n" +
+            "    not Discount()\n" +
+            "then\n" +
+            "    results.add($c);\n" +
+            "end\n" +
+            "\n" +
+            "query \"all customers\"\n" +
+            "    Customer()\n" +
+            "end\n";
+
+    public void testAccessorsReadStubsWithoutLoadingAst() throws Exception {
+        VirtualFile vFile = myFixture.getTempDirFixture().createFile("stubs.drl", DRL);
+        DroolsPsiFile file = (DroolsPsiFile) PsiManager.getInstance(getProject()).findFile(vFile);
+        assertNotNull(file);
+        assertFalse(file.isContentsLoaded());
+
+        assertEquals("com.test.rules", file.getPackageName());
+
+        List<DroolsImportStatement> imports = file.getImports();
+        assertEquals(2, imports.size());
+        assertEquals("com.test.fixture.Customer", imports.get(0).getImportPathString());
+        assertFalse(imports.get(0).isWildcard());
+        assertTrue(imports.get(1).isWildcard());
+
+        DroolsGlobalDecl global = file.getGlobals().get(0);
+        assertEquals("results", global.getGlobalName());
+        assertEquals("java.util.List", global.getTypeText());
+
+        DroolsDeclareBlock declare = file.getDeclares().get(0);
+        assertEquals("Discount", declare.getDeclaredName());
+        assertEquals("BaseDiscount", declare.getSuperTypeName());
+        assertEquals(List.of(new DroolsDeclareBlockStub.DeclaredField("rate", "double")),
+                declare.getDeclaredFields());
+
+        DroolsFunctionDef function = file.getFunctions().get(0);
+        assertEquals("label", function.getFunctionName());
+        assertEquals("String", function.getReturnTypeText());
+
+        DroolsRuleBlock rule = file.getRules().get(0);
+        assertEquals("Gold customers", rule.getNameString());
+        Map<String, String> attributes = rule.getAttributeValues();
+        assertEquals("10", attributes.get("salience"));
+        assertEquals("pricing", rule.getAttributeValue("agenda-group"));
+        assertEquals("", attributes.get("no-loop"));
+        assertEquals(List.of("Customer", "Discount"), rule.getFactTypeNames());
+
+        assertEquals("all customers", file.getQueries().get(0).getNameString());
+
+        assertFalse("Listing top-level elements must not load the AST", file.isContentsLoaded());
+    }
+
+    public void testStubAndAstAnswersAgree() throws Exception {
+        VirtualFile vFile = myFixture.getTempDirFixture().createFile("agree.drl", DRL);
+        DroolsPsiFile stubFile = (DroolsPsiFile) PsiManager.getInstance(getProject()).findFile(vFile);
+        assertNotNull(stubFile);
+        assertNotNull(((PsiFileImpl) stubFile).getStubTree());
+
+        // A file created from text has no stub tree, so its accessors go through the AST
+        DroolsPsiFile astFile = (DroolsPsiFile) PsiFileFactory.getInstance(getProject())
+                .createFileFromText("agree.drl", DroolsLanguage.INSTANCE, DRL);
+        assertNull(((PsiFileImpl) astFile).getGreenStub());
+
+        DroolsRuleBlock stubRule = stubFile.getRules().get(0);
+        DroolsRuleBlock astRule = astFile.getRules().get(0);
+        assertEquals(astRule.getNameString(), stubRule.getNameString());
+        assertEquals(astRule.getAttributeValues(), stubRule.getAttributeValues());
+        assertEquals(astRule.getFactTypeNames(), stubRule.getFactTypeNames());
+        assertEquals(astFile.getImports().size(), stubFile.getImports().size());
+        assertEquals(astFile.getPackageName(), stubFile.getPackageName());
+        assertFalse(stubFile.isContentsLoaded());
+    }
+}